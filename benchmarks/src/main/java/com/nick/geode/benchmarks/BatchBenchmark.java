@@ -0,0 +1,71 @@
+package com.nick.geode.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code getAll}/{@code putAll} through the batch endpoints of {@code DataService}.
+ * Each thread cycles through batches of random preloaded keys built before measurement.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchBenchmark {
+
+  private static final int BATCHES = 64;
+
+  @Param({"10", "100", "1000"})
+  public int batchSize;
+
+  private final List<List<String>> keyBatches = new ArrayList<>();
+  private final List<Map<String, Object>> entryBatches = new ArrayList<>();
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp(ClientState client) {
+    for (int i = 0; i < BATCHES; i++) {
+      List<String> keys = new ArrayList<>(batchSize);
+      Map<String, Object> entries = new LinkedHashMap<>();
+      for (int j = 0; j < batchSize; j++) {
+        String key = client.randomKey();
+        keys.add(key);
+        entries.put(key, client.randomValue());
+      }
+      keyBatches.add(keys);
+      entryBatches.add(entries);
+    }
+    next = ThreadLocalRandom.current().nextInt(BATCHES);
+  }
+
+  @Benchmark
+  public Map<String, Object> getAll(ClientState client) {
+    next = (next + 1) % BATCHES;
+    return client.dataService.getBatch(ClientState.REGION, keyBatches.get(next));
+  }
+
+  @Benchmark
+  public Map<String, Object> putAll(ClientState client) {
+    next = (next + 1) % BATCHES;
+    return client.dataService.putBatch(ClientState.REGION, entryBatches.get(next));
+  }
+}
@@ -0,0 +1,156 @@
+package com.nick.geode.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * A locator and a data server, each running {@link ClusterMember} in its own JVM.
+ *
+ * <p>Geode allows a single distributed system per JVM and a client cache cannot share a JVM
+ * with a peer cache, so the members run beside the benchmark JVM rather than inside it.
+ * They reuse the embedded lifecycles of the locator and data-server modules and live in a
+ * temporary directory that is removed on {@link #close()}.
+ */
+public final class BenchmarkCluster implements AutoCloseable {
+
+  /**
+   * JVM options Geode needs on Java 17+, shared by the members and the benchmark forks.
+   */
+  static final List<String> JVM_ARGS = List.of(
+      "--add-opens", "java.base/sun.nio.ch=ALL-UNNAMED",
+      "--add-opens", "java.base/java.lang=ALL-UNNAMED",
+      "--add-opens", "java.base/java.lang.reflect=ALL-UNNAMED",
+      "--add-opens", "java.base/java.lang.invoke=ALL-UNNAMED",
+      "--add-opens", "java.base/java.util=ALL-UNNAMED",
+      "--add-opens", "java.base/java.util.concurrent=ALL-UNNAMED",
+      "--add-opens", "java.base/java.net=ALL-UNNAMED",
+      "--add-opens", "java.base/java.text=ALL-UNNAMED",
+      "--add-opens", "java.desktop/java.awt.font=ALL-UNNAMED");
+
+  private static final long STARTUP_TIMEOUT_MILLIS = 120_000;
+
+  private final Path directory;
+  private final int locatorPort;
+  private final List<Process> members = new ArrayList<>();
+
+  private BenchmarkCluster(Path directory, int locatorPort) {
+    this.directory = directory;
+    this.locatorPort = locatorPort;
+  }
+
+  /**
+   * Start a locator and one data server hosting the given partitioned regions.
+   */
+  public static BenchmarkCluster start(String... regions) throws IOException {
+    BenchmarkCluster cluster =
+        new BenchmarkCluster(Files.createTempDirectory("geode-benchmark"), freePort());
+    try {
+      cluster.launch("locator");
+      cluster.launch("server", regions);
+    } catch (IOException | RuntimeException e) {
+      cluster.close();
+      throw e;
+    }
+    return cluster;
+  }
+
+  public int getLocatorPort() {
+    return locatorPort;
+  }
+
+  private void launch(String role, String... regions) throws IOException {
+    Path workingDir = Files.createDirectories(directory.resolve(role));
+
+    List<String> command = new ArrayList<>();
+    command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+    command.addAll(JVM_ARGS);
+    command.add("-Xmx1g");
+    // No JMX manager or HTTP service: they bind fixed ports that a running lab cluster may hold
+    command.add("-Dgemfire.jmx-manager=false");
+    command.add("-Dgemfire.http-service-port=0");
+    command.add("-cp");
+    command.add(System.getProperty("java.class.path"));
+    command.add(ClusterMember.class.getName());
+    command.add(role);
+    command.add(String.valueOf(locatorPort));
+    command.add(workingDir.toString());
+    command.addAll(List.of(regions));
+
+    File log = workingDir.resolve("member.log").toFile();
+    Process process = new ProcessBuilder(command)
+        .redirectErrorStream(true)
+        .redirectOutput(log)
+        .start();
+    members.add(process);
+
+    awaitReady(process, workingDir.resolve(ClusterMember.READY_FILE), role, log);
+  }
+
+  private void awaitReady(Process process, Path readyFile, String role, File log) {
+    long deadline = System.currentTimeMillis() + STARTUP_TIMEOUT_MILLIS;
+    while (!Files.exists(readyFile)) {
+      if (!process.isAlive()) {
+        throw new IllegalStateException(role + " exited during startup, see " + log);
+      }
+      if (System.currentTimeMillis() > deadline) {
+        throw new IllegalStateException(role + " did not start in time, see " + log);
+      }
+      try {
+        Thread.sleep(100);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while starting " + role, e);
+      }
+    }
+  }
+
+  /**
+   * Stop the members, server first, and delete their working directories.
+   */
+  @Override
+  public void close() {
+    for (int i = members.size() - 1; i >= 0; i--) {
+      Process process = members.get(i);
+      try {
+        process.getOutputStream().close();
+        if (!process.waitFor(STARTUP_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+          process.destroyForcibly();
+        }
+      } catch (IOException e) {
+        process.destroyForcibly();
+      } catch (InterruptedException e) {
+        process.destroyForcibly();
+        Thread.currentThread().interrupt();
+      }
+    }
+    members.clear();
+    deleteRecursively(directory);
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  private static void deleteRecursively(Path root) {
+    if (!Files.exists(root)) {
+      return;
+    }
+    try (Stream<Path> paths = Files.walk(root)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
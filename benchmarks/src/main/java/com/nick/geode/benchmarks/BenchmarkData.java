@@ -0,0 +1,38 @@
+package com.nick.geode.benchmarks;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Test values shaped like the JSON objects the data browser stores.
+ */
+final class BenchmarkData {
+
+  private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz0123456789";
+
+  private BenchmarkData() {
+  }
+
+  static String key(int index) {
+    return "key-" + index;
+  }
+
+  /**
+   * A JSON-like value whose payload makes it roughly {@code size} bytes when serialized.
+   */
+  static Map<String, Object> value(int index, int size) {
+    Random random = new Random(index);
+    StringBuilder payload = new StringBuilder(size);
+    for (int i = 0; i < size; i++) {
+      payload.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+    }
+
+    Map<String, Object> value = new LinkedHashMap<>();
+    value.put("id", index);
+    value.put("name", "entry-" + index);
+    value.put("active", index % 2 == 0);
+    value.put("payload", payload.toString());
+    return value;
+  }
+}
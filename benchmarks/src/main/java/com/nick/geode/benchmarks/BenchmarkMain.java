@@ -0,0 +1,69 @@
+package com.nick.geode.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the benchmarks once per thread count and writes one JMH JSON result file per run.
+ *
+ * <p>Accepts the usual JMH command line (benchmark regex, {@code -p}, {@code -f}, ...).
+ * Thread counts come from {@code -t} or else {@code -Dbenchmark.threads} (default 1,4,16);
+ * results go to {@code -Dbenchmark.results} (default target/jmh-results).
+ */
+public final class BenchmarkMain {
+
+  private BenchmarkMain() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions commandLine = new CommandLineOptions(args);
+    if (commandLine.shouldHelp()) {
+      commandLine.showHelp();
+      return;
+    }
+    if (commandLine.shouldList()) {
+      new Runner(commandLine).list();
+      return;
+    }
+
+    Path resultDir = Paths.get(System.getProperty("benchmark.results", "target/jmh-results"));
+    Files.createDirectories(resultDir);
+    String run = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+
+    for (int threads : threadCounts(commandLine)) {
+      Path result = resultDir.resolve(run + "-threads-" + threads + ".json");
+      Options options = new OptionsBuilder()
+          .parent(commandLine)
+          .threads(threads)
+          .jvmArgsAppend(BenchmarkCluster.JVM_ARGS.toArray(new String[0]))
+          .resultFormat(ResultFormatType.JSON)
+          .result(result.toString())
+          .build();
+      new Runner(options).run();
+      System.out.println("Results written to " + result.toAbsolutePath());
+    }
+  }
+
+  private static List<Integer> threadCounts(CommandLineOptions commandLine) {
+    List<Integer> counts = new ArrayList<>();
+    if (commandLine.getThreads().hasValue()) {
+      counts.add(commandLine.getThreads().get());
+      return counts;
+    }
+    for (String count : System.getProperty("benchmark.threads", "1,4,16").split(",")) {
+      counts.add(Integer.parseInt(count.trim()));
+    }
+    return counts;
+  }
+}
@@ -0,0 +1,128 @@
+package com.nick.geode.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nick.geode.databrowser.config.DataBrowserProperties;
+import com.nick.geode.databrowser.config.GemFireClientConfiguration;
+import com.nick.geode.databrowser.service.DataService;
+import com.nick.geode.databrowser.service.RegionCatalog;
+import com.nick.geode.databrowser.service.RegionRegistry;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.Pool;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Forked cluster plus a {@link DataService} wired the way the data browser wires it,
+ * shared by all benchmark threads of a trial. The region is preloaded with
+ * {@code keyCount} entries of {@code valueSize} bytes.
+ */
+@State(Scope.Benchmark)
+public class ClientState {
+
+  static final String REGION = "benchmark";
+
+  /**
+   * Values are drawn from a fixed pool so building them is not part of the measurement.
+   */
+  private static final int VALUE_POOL_SIZE = 256;
+
+  @Param({"128", "1024", "16384"})
+  public int valueSize;
+
+  @Param("10000")
+  public int keyCount;
+
+  DataService dataService;
+  DataBrowserProperties properties;
+
+  private BenchmarkCluster cluster;
+  private GemFireClientConfiguration configuration;
+  private Map<String, Object>[] values;
+  private byte[][] jsonValues;
+  private final AtomicLong scratchKeys = new AtomicLong();
+
+  @Setup(Level.Trial)
+  @SuppressWarnings("unchecked")
+  public void setUp() throws Exception {
+    cluster = BenchmarkCluster.start(REGION);
+
+    properties = new DataBrowserProperties();
+    properties.setLocatorHost("localhost");
+    properties.setLocatorPort(cluster.getLocatorPort());
+    properties.setMemberName("benchmark-client");
+
+    configuration = new GemFireClientConfiguration();
+    ClientCache clientCache = configuration.clientCache(properties);
+    Pool bulkPool = configuration.bulkPool(clientCache, properties);
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    dataService = new DataService(clientCache, new RegionRegistry(clientCache, properties),
+        new RegionCatalog(clientCache, properties), bulkPool, properties, objectMapper);
+
+    values = new Map[VALUE_POOL_SIZE];
+    jsonValues = new byte[VALUE_POOL_SIZE][];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = BenchmarkData.value(i, valueSize);
+      jsonValues[i] = objectMapper.writeValueAsBytes(values[i]);
+    }
+    preload();
+  }
+
+  private void preload() {
+    Map<String, Object> batch = new LinkedHashMap<>();
+    for (int i = 0; i < keyCount; i++) {
+      batch.put(BenchmarkData.key(i), values[i % values.length]);
+      if (batch.size() == properties.getMaxBatchSize() || i == keyCount - 1) {
+        Map<String, Object> result = dataService.putBatch(REGION, batch);
+        if (!Boolean.TRUE.equals(result.get("success"))) {
+          throw new IllegalStateException("Preload failed: " + result.get("error"));
+        }
+        batch = new LinkedHashMap<>();
+      }
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    if (configuration != null) {
+      configuration.closeCache();
+    }
+    if (cluster != null) {
+      cluster.close();
+    }
+  }
+
+  /**
+   * A random preloaded key.
+   */
+  String randomKey() {
+    return BenchmarkData.key(ThreadLocalRandom.current().nextInt(keyCount));
+  }
+
+  Map<String, Object> randomValue() {
+    return values[ThreadLocalRandom.current().nextInt(values.length)];
+  }
+
+  /**
+   * A random value as a JSON request body.
+   */
+  byte[] randomJson() {
+    return jsonValues[ThreadLocalRandom.current().nextInt(jsonValues.length)];
+  }
+
+  /**
+   * A key outside the preloaded range, unique across threads.
+   */
+  String scratchKey() {
+    return "scratch-" + scratchKeys.incrementAndGet();
+  }
+}
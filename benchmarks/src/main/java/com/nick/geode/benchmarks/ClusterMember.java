@@ -0,0 +1,74 @@
+package com.nick.geode.benchmarks;
+
+import com.nick.geode.dataserver.geode.DataServerProperties;
+import com.nick.geode.dataserver.geode.EmbeddedDataServerLifecycle;
+import com.nick.geode.locator.geode.EmbeddedLocatorLifecycle;
+import com.nick.geode.locator.geode.LocatorProperties;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.RegionShortcut;
+import org.springframework.context.SmartLifecycle;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Entry point of a cluster member forked by {@link BenchmarkCluster}.
+ * Starts the member through the same lifecycle the Spring Boot applications use, marks
+ * itself ready, and stops when its standard input is closed.
+ *
+ * <p>Arguments: {@code locator|server <locatorPort> <workingDir> [region...]}
+ */
+public final class ClusterMember {
+
+  static final String READY_FILE = "member.ready";
+
+  private ClusterMember() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    String role = args[0];
+    int locatorPort = Integer.parseInt(args[1]);
+    String workingDir = args[2];
+
+    SmartLifecycle member = "locator".equals(role)
+        ? startLocator(locatorPort, workingDir)
+        : startServer(locatorPort, workingDir, args);
+    Files.createFile(Paths.get(workingDir, READY_FILE));
+
+    // The benchmark holds our stdin open; EOF means it has finished or died
+    while (System.in.read() != -1) {
+      // Discard input
+    }
+    member.stop();
+    System.exit(0);
+  }
+
+  private static SmartLifecycle startLocator(int port, String workingDir) {
+    LocatorProperties properties = new LocatorProperties();
+    properties.setMemberName("benchmark-locator");
+    properties.setPort(port);
+    properties.setWorkingDir(workingDir);
+    properties.setJmxManager(false);
+
+    EmbeddedLocatorLifecycle lifecycle = new EmbeddedLocatorLifecycle(properties);
+    lifecycle.start();
+    return lifecycle;
+  }
+
+  private static SmartLifecycle startServer(int locatorPort, String workingDir, String[] args) {
+    DataServerProperties properties = new DataServerProperties();
+    properties.setMemberName("benchmark-server");
+    properties.setLocatorHost("localhost");
+    properties.setLocatorPort(locatorPort);
+    properties.setWorkingDir(workingDir);
+
+    EmbeddedDataServerLifecycle lifecycle = new EmbeddedDataServerLifecycle(properties);
+    lifecycle.start();
+
+    Cache cache = (Cache) lifecycle.getCache();
+    for (int i = 3; i < args.length; i++) {
+      cache.createRegionFactory(RegionShortcut.PARTITION).create(args[i]);
+    }
+    return lifecycle;
+  }
+}
@@ -0,0 +1,46 @@
+package com.nick.geode.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-key operations through {@code DataService}, one server round trip each.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DataPathBenchmark {
+
+  @Benchmark
+  public Map<String, Object> get(ClientState client) {
+    return client.dataService.getData(ClientState.REGION, client.randomKey());
+  }
+
+  @Benchmark
+  public Map<String, Object> put(ClientState client) {
+    return client.dataService.putJson(
+        ClientState.REGION, client.randomKey(), client.randomJson());
+  }
+
+  /**
+   * Put and remove of a fresh key, so every remove deletes an existing entry without
+   * shrinking the preloaded data set. Subtract {@link #put} to estimate the remove alone.
+   */
+  @Benchmark
+  public void putThenRemove(ClientState client, Blackhole blackhole) {
+    String key = client.scratchKey();
+    blackhole.consume(client.dataService.putJson(ClientState.REGION, key, client.randomJson()));
+    blackhole.consume(client.dataService.deleteData(ClientState.REGION, key));
+  }
+}
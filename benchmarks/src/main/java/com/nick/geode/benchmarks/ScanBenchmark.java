@@ -0,0 +1,40 @@
+package com.nick.geode.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paged region scans through the server-side paging function. Each thread walks the
+ * region page by page with the returned cursor and starts over at the end.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class ScanBenchmark {
+
+  @Param({"100", "1000"})
+  public int pageSize;
+
+  private String cursor;
+
+  @Benchmark
+  public Map<String, Object> scanPage(ClientState client) {
+    Map<String, Object> page = client.dataService.getAllData(ClientState.REGION, pageSize, cursor);
+    cursor = (String) page.get("nextCursor");
+    return page;
+  }
+}
@@ -0,0 +1,97 @@
+package com.nick.geode.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson cost of the REST responses and request bodies, without a cluster.
+ * The responses have the shapes {@code DataService} returns for a single entry and a page.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+  private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+  };
+
+  @Param({"128", "1024", "16384"})
+  public int valueSize;
+
+  @Param({"100", "1000"})
+  public int pageSize;
+
+  private ObjectMapper objectMapper;
+  private Map<String, Object> entryResponse;
+  private Map<String, Object> pageResponse;
+  private byte[] valueJson;
+
+  @Setup
+  public void setUp() throws Exception {
+    objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    Map<String, Object> value = BenchmarkData.value(0, valueSize);
+    entryResponse = new HashMap<>();
+    entryResponse.put("success", true);
+    entryResponse.put("region", ClientState.REGION);
+    entryResponse.put("key", BenchmarkData.key(0));
+    entryResponse.put("value", value);
+
+    List<Map<String, Object>> entries = new ArrayList<>(pageSize);
+    for (int i = 0; i < pageSize; i++) {
+      Map<String, Object> entry = new HashMap<>();
+      entry.put("key", BenchmarkData.key(i));
+      entry.put("value", BenchmarkData.value(i, valueSize));
+      entry.put("valueType", value.getClass().getName());
+      entries.add(entry);
+    }
+    pageResponse = new HashMap<>();
+    pageResponse.put("success", true);
+    pageResponse.put("region", ClientState.REGION);
+    pageResponse.put("entries", entries);
+    pageResponse.put("returnedCount", entries.size());
+    pageResponse.put("hasMore", true);
+    pageResponse.put("nextCursor", "0:" + pageSize);
+
+    valueJson = objectMapper.writeValueAsBytes(value);
+  }
+
+  @Benchmark
+  public byte[] writeEntry() throws Exception {
+    return objectMapper.writeValueAsBytes(entryResponse);
+  }
+
+  @Benchmark
+  public byte[] writePage() throws Exception {
+    return objectMapper.writeValueAsBytes(pageResponse);
+  }
+
+  /**
+   * Parsing of a PUT body into the map that is stored in the region.
+   */
+  @Benchmark
+  public Map<String, Object> readValue() throws Exception {
+    return objectMapper.readValue(valueJson, MAP_TYPE);
+  }
+}
@@ -2,6 +2,10 @@ package com.nick.geode.databrowser.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
 @ConfigurationProperties(prefix = "geode.browser")
 public class DataBrowserProperties {
   
@@ -9,6 +13,19 @@ public class DataBrowserProperties {
   private int locatorPort = 10334;
   private String memberName = "data-browser";
   private String dataServerUrl = "http://localhost:8080";
+  private int exportBatchSize = 1000;
+  private int maxBatchSize = 1000;
+  private int maxPageSize = 1000;
+  private float evictionHeapPercentage = 0;
+  private Map<String, NearCache> nearCache = new HashMap<>();
+  private PoolSettings pool = PoolSettings.interactive();
+  private PoolSettings bulkPool = PoolSettings.bulk();
+  private Async async = new Async();
+  private Query query = new Query();
+  private Catalog catalog = new Catalog();
+  private Stream stream = new Stream();
+  private Status status = new Status();
+  private Jmx jmx = new Jmx();
 
   public String getLocatorHost() {
     return locatorHost;
@@ -41,4 +58,428 @@ public class DataBrowserProperties {
   public void setDataServerUrl(String dataServerUrl) {
     this.dataServerUrl = dataServerUrl;
   }
+
+  public int getExportBatchSize() {
+    return exportBatchSize;
+  }
+
+  public void setExportBatchSize(int exportBatchSize) {
+    this.exportBatchSize = exportBatchSize;
+  }
+
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public void setMaxBatchSize(int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  public int getMaxPageSize() {
+    return maxPageSize;
+  }
+
+  public void setMaxPageSize(int maxPageSize) {
+    this.maxPageSize = maxPageSize;
+  }
+
+  public float getEvictionHeapPercentage() {
+    return evictionHeapPercentage;
+  }
+
+  public void setEvictionHeapPercentage(float evictionHeapPercentage) {
+    this.evictionHeapPercentage = evictionHeapPercentage;
+  }
+
+  public Map<String, NearCache> getNearCache() {
+    return nearCache;
+  }
+
+  public void setNearCache(Map<String, NearCache> nearCache) {
+    this.nearCache = nearCache;
+  }
+
+  public PoolSettings getPool() {
+    return pool;
+  }
+
+  public void setPool(PoolSettings pool) {
+    this.pool = pool;
+  }
+
+  public PoolSettings getBulkPool() {
+    return bulkPool;
+  }
+
+  public void setBulkPool(PoolSettings bulkPool) {
+    this.bulkPool = bulkPool;
+  }
+
+  public Async getAsync() {
+    return async;
+  }
+
+  public void setAsync(Async async) {
+    this.async = async;
+  }
+
+  public Query getQuery() {
+    return query;
+  }
+
+  public void setQuery(Query query) {
+    this.query = query;
+  }
+
+  public Catalog getCatalog() {
+    return catalog;
+  }
+
+  public void setCatalog(Catalog catalog) {
+    this.catalog = catalog;
+  }
+
+  public Stream getStream() {
+    return stream;
+  }
+
+  public void setStream(Stream stream) {
+    this.stream = stream;
+  }
+
+  public Status getStatus() {
+    return status;
+  }
+
+  public void setStatus(Status status) {
+    this.status = status;
+  }
+
+  public Jmx getJmx() {
+    return jmx;
+  }
+
+  public void setJmx(Jmx jmx) {
+    this.jmx = jmx;
+  }
+
+  /**
+   * Eviction strategy for a near cache.
+   */
+  public enum EvictionMode {
+    NONE,
+    ENTRY_COUNT,
+    HEAP_PERCENTAGE
+  }
+
+  /**
+   * Near cache settings for one region. Regions listed under {@code geode.browser.near-cache}
+   * are created as CACHING_PROXY instead of PROXY.
+   */
+  public static class NearCache {
+
+    private EvictionMode eviction = EvictionMode.ENTRY_COUNT;
+    private int maxEntries = 10000;
+    private Duration timeToLive = Duration.ZERO;
+    private boolean registerInterest = true;
+
+    public EvictionMode getEviction() {
+      return eviction;
+    }
+
+    public void setEviction(EvictionMode eviction) {
+      this.eviction = eviction;
+    }
+
+    public int getMaxEntries() {
+      return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+      this.maxEntries = maxEntries;
+    }
+
+    public Duration getTimeToLive() {
+      return timeToLive;
+    }
+
+    public void setTimeToLive(Duration timeToLive) {
+      this.timeToLive = timeToLive;
+    }
+
+    public boolean isRegisterInterest() {
+      return registerInterest;
+    }
+
+    public void setRegisterInterest(boolean registerInterest) {
+      this.registerInterest = registerInterest;
+    }
+  }
+
+  /**
+   * Client connection pool settings. The default pool ({@code geode.browser.pool}) serves
+   * interactive region operations; the bulk pool ({@code geode.browser.bulk-pool}) serves
+   * exports and queries so they cannot starve interactive requests of connections.
+   */
+  public static class PoolSettings {
+
+    private int minConnections;
+    private int maxConnections;
+    private Duration readTimeout;
+    private Duration idleTimeout = Duration.ofSeconds(5);
+    private int retryAttempts;
+    private Duration loadConditioningInterval = Duration.ofMinutes(5);
+    private boolean prSingleHopEnabled = true;
+    private String serverGroup = "";
+
+    static PoolSettings interactive() {
+      PoolSettings settings = new PoolSettings();
+      settings.minConnections = 4;
+      settings.maxConnections = 64;
+      settings.readTimeout = Duration.ofSeconds(10);
+      settings.retryAttempts = 2;
+      return settings;
+    }
+
+    static PoolSettings bulk() {
+      PoolSettings settings = new PoolSettings();
+      settings.minConnections = 1;
+      settings.maxConnections = 8;
+      settings.readTimeout = Duration.ofSeconds(60);
+      settings.retryAttempts = 1;
+      return settings;
+    }
+
+    public int getMinConnections() {
+      return minConnections;
+    }
+
+    public void setMinConnections(int minConnections) {
+      this.minConnections = minConnections;
+    }
+
+    public int getMaxConnections() {
+      return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+      this.maxConnections = maxConnections;
+    }
+
+    public Duration getReadTimeout() {
+      return readTimeout;
+    }
+
+    public void setReadTimeout(Duration readTimeout) {
+      this.readTimeout = readTimeout;
+    }
+
+    public Duration getIdleTimeout() {
+      return idleTimeout;
+    }
+
+    public void setIdleTimeout(Duration idleTimeout) {
+      this.idleTimeout = idleTimeout;
+    }
+
+    public int getRetryAttempts() {
+      return retryAttempts;
+    }
+
+    public void setRetryAttempts(int retryAttempts) {
+      this.retryAttempts = retryAttempts;
+    }
+
+    public Duration getLoadConditioningInterval() {
+      return loadConditioningInterval;
+    }
+
+    public void setLoadConditioningInterval(Duration loadConditioningInterval) {
+      this.loadConditioningInterval = loadConditioningInterval;
+    }
+
+    public boolean isPrSingleHopEnabled() {
+      return prSingleHopEnabled;
+    }
+
+    public void setPrSingleHopEnabled(boolean prSingleHopEnabled) {
+      this.prSingleHopEnabled = prSingleHopEnabled;
+    }
+
+    public String getServerGroup() {
+      return serverGroup;
+    }
+
+    public void setServerGroup(String serverGroup) {
+      this.serverGroup = serverGroup;
+    }
+  }
+
+  /**
+   * Limits for the asynchronous data endpoints, which run Geode calls on virtual threads.
+   */
+  public static class Async {
+
+    private Duration timeout = Duration.ofSeconds(5);
+    private int maxConcurrency = 2000;
+
+    public Duration getTimeout() {
+      return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+      this.timeout = timeout;
+    }
+
+    public int getMaxConcurrency() {
+      return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(int maxConcurrency) {
+      this.maxConcurrency = maxConcurrency;
+    }
+  }
+
+  /**
+   * Limits for OQL queries submitted through {@code /api/query}.
+   */
+  public static class Query {
+
+    private int defaultLimit = 100;
+    private int maxLimit = 1000;
+    private Duration timeout = Duration.ofSeconds(10);
+
+    public int getDefaultLimit() {
+      return defaultLimit;
+    }
+
+    public void setDefaultLimit(int defaultLimit) {
+      this.defaultLimit = defaultLimit;
+    }
+
+    public int getMaxLimit() {
+      return maxLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+      this.maxLimit = maxLimit;
+    }
+
+    public Duration getTimeout() {
+      return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+      this.timeout = timeout;
+    }
+  }
+
+  /**
+   * Caching of the cluster-wide region catalog served by {@code /api/regions}.
+   */
+  public static class Catalog {
+
+    private Duration ttl = Duration.ofSeconds(5);
+
+    public Duration getTtl() {
+      return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+      this.ttl = ttl;
+    }
+  }
+
+  /**
+   * Region change feeds served by {@code /api/stream/{region}}.
+   */
+  public static class Stream {
+
+    private Duration coalesceWindow = Duration.ofMillis(100);
+    private int maxPendingKeys = 10000;
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    public Duration getCoalesceWindow() {
+      return coalesceWindow;
+    }
+
+    public void setCoalesceWindow(Duration coalesceWindow) {
+      this.coalesceWindow = coalesceWindow;
+    }
+
+    public int getMaxPendingKeys() {
+      return maxPendingKeys;
+    }
+
+    public void setMaxPendingKeys(int maxPendingKeys) {
+      this.maxPendingKeys = maxPendingKeys;
+    }
+
+    public Duration getHeartbeatInterval() {
+      return heartbeatInterval;
+    }
+
+    public void setHeartbeatInterval(Duration heartbeatInterval) {
+      this.heartbeatInterval = heartbeatInterval;
+    }
+  }
+
+  /**
+   * The shared cluster status snapshot served by {@code /api/cluster}.
+   */
+  public static class Status {
+
+    private Duration refreshInterval = Duration.ofSeconds(5);
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    public Duration getRefreshInterval() {
+      return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+      this.refreshInterval = refreshInterval;
+    }
+
+    public Duration getHeartbeatInterval() {
+      return heartbeatInterval;
+    }
+
+    public void setHeartbeatInterval(Duration heartbeatInterval) {
+      this.heartbeatInterval = heartbeatInterval;
+    }
+  }
+
+  /**
+   * Connection to the locator's JMX manager, the source of {@code /api/cluster/members}.
+   */
+  public static class Jmx {
+
+    private String host = "localhost";
+    private int port = 1099;
+    private Duration ttl = Duration.ofSeconds(5);
+
+    public String getHost() {
+      return host;
+    }
+
+    public void setHost(String host) {
+      this.host = host;
+    }
+
+    public int getPort() {
+      return port;
+    }
+
+    public void setPort(int port) {
+      this.port = port;
+    }
+
+    public Duration getTtl() {
+      return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+      this.ttl = ttl;
+    }
+  }
 }
@@ -1,21 +1,25 @@
 package com.nick.geode.databrowser.config;
 
-import org.apache.geode.cache.Cache;
-import org.apache.geode.cache.CacheFactory;
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.client.ClientCacheFactory;
-import org.apache.geode.cache.client.ClientRegionShortcut;
+import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.client.PoolFactory;
+import org.apache.geode.cache.client.PoolManager;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import jakarta.annotation.PreDestroy;
-import java.util.Properties;
 
 @Configuration
 @EnableConfigurationProperties(DataBrowserProperties.class)
 public class GemFireClientConfiguration {
 
+  /**
+   * Name of the pool used for heavy workloads such as exports and queries.
+   */
+  public static final String BULK_POOL_NAME = "bulk";
+
   private ClientCache clientCache;
 
   @Bean
@@ -24,22 +28,61 @@ public class GemFireClientConfiguration {
       return clientCache;
     }
 
-    // Create client cache and connect to locator
+    // Create client cache and connect to locator; the default pool serves interactive requests
+    DataBrowserProperties.PoolSettings pool = properties.getPool();
     ClientCacheFactory factory = new ClientCacheFactory();
     factory.addPoolLocator(properties.getLocatorHost(), properties.getLocatorPort());
     factory.setPoolSubscriptionEnabled(true);
+    factory.setPoolMinConnections(pool.getMinConnections());
+    factory.setPoolMaxConnections(pool.getMaxConnections());
+    factory.setPoolReadTimeout((int) pool.getReadTimeout().toMillis());
+    factory.setPoolIdleTimeout(pool.getIdleTimeout().toMillis());
+    factory.setPoolRetryAttempts(pool.getRetryAttempts());
+    factory.setPoolLoadConditioningInterval((int) pool.getLoadConditioningInterval().toMillis());
+    factory.setPoolPRSingleHopEnabled(pool.isPrSingleHopEnabled());
+    factory.setPoolServerGroup(pool.getServerGroup());
+    // JSON values are stored as PDX; keep them serialized instead of building domain objects
+    factory.setPdxReadSerialized(true);
     factory.set("name", properties.getMemberName());
-    
-    // Set log level
-    Properties gemfireProperties = new Properties();
-    gemfireProperties.setProperty("log-level", "config");
-    
+    factory.set("log-level", "config");
+
     clientCache = factory.set("cache-xml-file", "")
         .create();
-    
+
+    // Heap-percentage near caches evict once the client heap crosses this threshold
+    if (properties.getEvictionHeapPercentage() > 0) {
+      clientCache.getResourceManager()
+          .setEvictionHeapPercentage(properties.getEvictionHeapPercentage());
+    }
+
     return clientCache;
   }
 
+  /**
+   * Separate pool for heavy workloads, so a long export cannot take the connections
+   * that interactive gets and puts need.
+   */
+  @Bean
+  public Pool bulkPool(ClientCache clientCache, DataBrowserProperties properties) {
+    Pool existing = PoolManager.find(BULK_POOL_NAME);
+    if (existing != null && !existing.isDestroyed()) {
+      return existing;
+    }
+
+    DataBrowserProperties.PoolSettings pool = properties.getBulkPool();
+    PoolFactory factory = PoolManager.createFactory();
+    factory.addLocator(properties.getLocatorHost(), properties.getLocatorPort());
+    factory.setMinConnections(pool.getMinConnections());
+    factory.setMaxConnections(pool.getMaxConnections());
+    factory.setReadTimeout((int) pool.getReadTimeout().toMillis());
+    factory.setIdleTimeout(pool.getIdleTimeout().toMillis());
+    factory.setRetryAttempts(pool.getRetryAttempts());
+    factory.setLoadConditioningInterval((int) pool.getLoadConditioningInterval().toMillis());
+    factory.setPRSingleHopEnabled(pool.isPrSingleHopEnabled());
+    factory.setServerGroup(pool.getServerGroup());
+    return factory.create(BULK_POOL_NAME);
+  }
+
   @PreDestroy
   public void closeCache() {
     if (clientCache != null && !clientCache.isClosed()) {
@@ -0,0 +1,43 @@
+package com.nick.geode.databrowser.controller;
+
+import com.nick.geode.databrowser.service.AggregationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * REST controller for aggregations computed on the data servers.
+ */
+@RestController
+@RequestMapping("/api/aggregate")
+public class AggregateController {
+
+  private final AggregationService aggregationService;
+
+  @Autowired
+  public AggregateController(AggregationService aggregationService) {
+    this.aggregationService = aggregationService;
+  }
+
+  /**
+   * Count, sum, min, max and average of a field, optionally grouped by another field.
+   * GET /api/aggregate/{regionName}?field=price&groupBy=category
+   */
+  @GetMapping("/{regionName}")
+  public ResponseEntity<Map<String, Object>> aggregate(
+      @PathVariable String regionName,
+      @RequestParam(required = false) String field,
+      @RequestParam(required = false) String groupBy) {
+    Map<String, Object> result = aggregationService.aggregate(regionName, field, groupBy);
+    boolean success = (Boolean) result.getOrDefault("success", false);
+    return ResponseEntity.status(success ? HttpStatus.OK : HttpStatus.BAD_REQUEST)
+        .body(result);
+  }
+}
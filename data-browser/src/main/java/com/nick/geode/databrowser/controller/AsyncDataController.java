@@ -0,0 +1,80 @@
+package com.nick.geode.databrowser.controller;
+
+import com.nick.geode.databrowser.service.AsyncDataService;
+import com.nick.geode.databrowser.service.DataService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking variant of {@link DataController}.
+ * Geode calls run on virtual threads with a per-request timeout and a concurrency limit.
+ */
+@RestController
+@RequestMapping("/api/async/data")
+public class AsyncDataController {
+
+  private final DataService dataService;
+  private final AsyncDataService asyncDataService;
+
+  @Autowired
+  public AsyncDataController(DataService dataService, AsyncDataService asyncDataService) {
+    this.dataService = dataService;
+    this.asyncDataService = asyncDataService;
+  }
+
+  @GetMapping("/{regionName}")
+  public CompletableFuture<ResponseEntity<Map<String, Object>>> getAllData(
+      @PathVariable String regionName,
+      @RequestParam(required = false) Integer limit,
+      @RequestParam(required = false) String cursor) {
+    return asyncDataService.submit(() -> dataService.getAllData(regionName, limit, cursor));
+  }
+
+  @GetMapping("/{regionName}/{key}")
+  public CompletableFuture<ResponseEntity<Map<String, Object>>> getData(
+      @PathVariable String regionName,
+      @PathVariable String key) {
+    return asyncDataService.submit(() -> dataService.getData(regionName, key));
+  }
+
+  @PostMapping("/{regionName}/{key}")
+  public CompletableFuture<ResponseEntity<Map<String, Object>>> putData(
+      @PathVariable String regionName,
+      @PathVariable String key,
+      @RequestBody byte[] value) {
+    return asyncDataService.submit(() -> dataService.putJson(regionName, key, value));
+  }
+
+  @PostMapping("/{regionName}/batch/get")
+  public CompletableFuture<ResponseEntity<Map<String, Object>>> getBatch(
+      @PathVariable String regionName,
+      @RequestBody List<String> keys) {
+    return asyncDataService.submit(() -> dataService.getBatch(regionName, keys));
+  }
+
+  @PostMapping("/{regionName}/batch/put")
+  public CompletableFuture<ResponseEntity<Map<String, Object>>> putBatch(
+      @PathVariable String regionName,
+      @RequestBody byte[] entries) {
+    return asyncDataService.submit(() -> dataService.putJsonBatch(regionName, entries));
+  }
+
+  @PostMapping("/{regionName}/batch/remove")
+  public CompletableFuture<ResponseEntity<Map<String, Object>>> removeBatch(
+      @PathVariable String regionName,
+      @RequestBody List<String> keys) {
+    return asyncDataService.submit(() -> dataService.removeBatch(regionName, keys));
+  }
+
+  @DeleteMapping("/{regionName}/{key}")
+  public CompletableFuture<ResponseEntity<Map<String, Object>>> deleteData(
+      @PathVariable String regionName,
+      @PathVariable String key) {
+    return asyncDataService.submit(() -> dataService.deleteData(regionName, key));
+  }
+}
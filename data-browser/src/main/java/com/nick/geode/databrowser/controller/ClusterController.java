@@ -2,9 +2,13 @@ package com.nick.geode.databrowser.controller;
 
 import com.nick.geode.databrowser.service.ClusterService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Map;
 
@@ -26,4 +30,26 @@ public class ClusterController {
   public Map<String, Object> getClusterStatus() {
     return clusterService.getClusterStatus();
   }
+
+  /**
+   * Per-member performance metrics from the locator's JMX manager, cached for
+   * {@code geode.browser.jmx.ttl}.
+   * GET /api/cluster/members
+   */
+  @GetMapping("/members")
+  public ResponseEntity<Map<String, Object>> getMemberMetrics() {
+    Map<String, Object> result = clusterService.getMemberMetrics();
+    boolean success = (Boolean) result.getOrDefault("success", false);
+    return ResponseEntity.status(success ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+        .body(result);
+  }
+
+  /**
+   * Stream the cluster status: the full status once, then only the changes.
+   * GET /api/cluster/stream
+   */
+  @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamClusterStatus() {
+    return clusterService.streamClusterStatus();
+  }
 }
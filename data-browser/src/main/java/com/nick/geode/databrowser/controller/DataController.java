@@ -4,6 +4,7 @@ import com.nick.geode.databrowser.service.DataService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -25,12 +26,16 @@ public class DataController {
     return dataService.getAllKeys(regionName);
   }
 
+  /**
+   * Get one page of entries.
+   * GET /api/data/{regionName}?limit=100&cursor={nextCursor of the previous page}
+   */
   @GetMapping("/{regionName}")
   public Map<String, Object> getAllData(
       @PathVariable String regionName,
       @RequestParam(required = false) Integer limit,
-      @RequestParam(required = false) Integer offset) {
-    return dataService.getAllData(regionName, limit, offset);
+      @RequestParam(required = false) String cursor) {
+    return dataService.getAllData(regionName, limit, cursor);
   }
 
   @GetMapping("/{regionName}/{key}")
@@ -44,8 +49,41 @@ public class DataController {
   public Map<String, Object> putData(
       @PathVariable String regionName,
       @PathVariable String key,
-      @RequestBody Object value) {
-    return dataService.putData(regionName, key, value);
+      @RequestBody byte[] value) {
+    return dataService.putJson(regionName, key, value);
+  }
+
+  /**
+   * Get many keys at once.
+   * POST /api/data/{regionName}/batch/get with a JSON array of keys
+   */
+  @PostMapping("/{regionName}/batch/get")
+  public Map<String, Object> getBatch(
+      @PathVariable String regionName,
+      @RequestBody List<String> keys) {
+    return dataService.getBatch(regionName, keys);
+  }
+
+  /**
+   * Put many entries at once.
+   * POST /api/data/{regionName}/batch/put with a JSON object of key-value pairs
+   */
+  @PostMapping("/{regionName}/batch/put")
+  public Map<String, Object> putBatch(
+      @PathVariable String regionName,
+      @RequestBody byte[] entries) {
+    return dataService.putJsonBatch(regionName, entries);
+  }
+
+  /**
+   * Remove many keys at once.
+   * POST /api/data/{regionName}/batch/remove with a JSON array of keys
+   */
+  @PostMapping("/{regionName}/batch/remove")
+  public Map<String, Object> removeBatch(
+      @PathVariable String regionName,
+      @RequestBody List<String> keys) {
+    return dataService.removeBatch(regionName, keys);
   }
 
   @DeleteMapping("/{regionName}/{key}")
@@ -0,0 +1,48 @@
+package com.nick.geode.databrowser.controller;
+
+import com.nick.geode.databrowser.service.DataService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * REST controller for streaming whole regions as newline-delimited JSON.
+ */
+@RestController
+@RequestMapping("/api/export")
+public class ExportController {
+
+  private final DataService dataService;
+
+  @Autowired
+  public ExportController(DataService dataService) {
+    this.dataService = dataService;
+  }
+
+  /**
+   * Export all entries of a region, one JSON object per line.
+   * GET /api/export/{regionName}
+   */
+  @GetMapping("/{regionName}")
+  public ResponseEntity<StreamingResponseBody> exportEntries(@PathVariable String regionName) {
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(out -> dataService.exportData(regionName, false, out));
+  }
+
+  /**
+   * Export all keys of a region, one JSON object per line.
+   * GET /api/export/{regionName}/keys
+   */
+  @GetMapping("/{regionName}/keys")
+  public ResponseEntity<StreamingResponseBody> exportKeys(@PathVariable String regionName) {
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(out -> dataService.exportData(regionName, true, out));
+  }
+}
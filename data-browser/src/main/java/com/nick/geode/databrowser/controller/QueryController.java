@@ -0,0 +1,69 @@
+package com.nick.geode.databrowser.controller;
+
+import com.nick.geode.databrowser.service.OqlQueryService;
+import com.nick.geode.databrowser.service.QueryRequest;
+import org.apache.geode.cache.query.SelectResults;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * REST controller for OQL queries executed on the data servers.
+ */
+@RestController
+@RequestMapping("/api/query")
+public class QueryController {
+
+  private final OqlQueryService queryService;
+
+  @Autowired
+  public QueryController(OqlQueryService queryService) {
+    this.queryService = queryService;
+  }
+
+  /**
+   * Run an OQL query.
+   * POST /api/query with {"query": "SELECT * FROM /r e WHERE e.age > $1", "params": [30]}
+   * or {"region": "r", "where": "e.age > $1", "fields": ["name"], "params": [30], "limit": 50}
+   */
+  @PostMapping
+  public ResponseEntity<?> query(@RequestBody QueryRequest request) {
+    String oql;
+    try {
+      oql = queryService.buildQuery(request);
+    } catch (IllegalArgumentException e) {
+      return error(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    SelectResults<?> results;
+    try {
+      results = queryService.execute(oql, request.params());
+    } catch (TimeoutException e) {
+      return error(HttpStatus.GATEWAY_TIMEOUT, e.getMessage());
+    } catch (Exception e) {
+      return error(HttpStatus.BAD_REQUEST, "Query failed: " + e.getMessage());
+    }
+
+    StreamingResponseBody body = out -> queryService.writeResults(oql, results, out);
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(body);
+  }
+
+  private ResponseEntity<Map<String, Object>> error(HttpStatus status, String message) {
+    Map<String, Object> result = new HashMap<>();
+    result.put("success", false);
+    result.put("error", message);
+    return ResponseEntity.status(status).body(result);
+  }
+}
@@ -37,35 +37,44 @@ public class RegionController {
     return regionService.getAllRegionsInfo();
   }
 
+  /**
+   * Hit/miss counters of the configured near caches.
+   * GET /api/regions/near-cache
+   */
+  @GetMapping("/near-cache")
+  public List<Map<String, Object>> getNearCacheStats() {
+    return regionService.getAllNearCacheStats();
+  }
+
   @GetMapping("/{regionName}")
   public Map<String, Object> getRegionInfo(@PathVariable String regionName) {
     return regionService.getRegionInfo(regionName);
   }
 
   /**
-   * Create a new region on the data server.
+   * Create a new region on the data servers.
    * POST /api/regions/{regionName}?type=PARTITION
+   * with an optional JSON region spec body (including "groups"), forwarded to the data server
    */
   @PostMapping("/{regionName}")
   public ResponseEntity<Map<String, Object>> createRegion(
       @PathVariable String regionName,
-      @RequestParam(required = false, defaultValue = "PARTITION") String type) {
-    Map<String, Object> result = regionManagementClientService.createRegion(regionName, type);
+      @RequestParam(required = false) String type,
+      @RequestBody(required = false) Map<String, Object> spec) {
+    Map<String, Object> result =
+        regionManagementClientService.createRegion(regionName, type, spec);
     boolean success = (Boolean) result.getOrDefault("success", false);
     
-    // If region was created successfully, ensure it's proxied in the client cache
+    // The data server responds once every target member has the region, so the proxy can
+    // be set up right away
     if (success) {
       try {
-        // Wait a bit for the region to be available on the server
-        Thread.sleep(500);
         Map<String, Object> proxyResult = regionService.ensureRegionProxied(regionName);
         if (!(Boolean) proxyResult.getOrDefault("success", false)) {
           // Log but don't fail the request - region was created on server
           result.put("proxyWarning", "Region created but proxy setup had issues: " + 
               proxyResult.getOrDefault("error", "Unknown"));
         }
-      } catch (InterruptedException e) {
-        Thread.currentThread().interrupt();
       } catch (Exception e) {
         // Log but don't fail the request
         result.put("proxyWarning", "Failed to create proxy: " + e.getMessage());
@@ -0,0 +1,65 @@
+package com.nick.geode.databrowser.controller;
+
+import com.nick.geode.databrowser.service.ChangeFeedService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * REST controller for live region change streams (server-sent events).
+ */
+@RestController
+@RequestMapping("/api/stream")
+public class StreamController {
+
+  private final ChangeFeedService changeFeedService;
+
+  @Autowired
+  public StreamController(ChangeFeedService changeFeedService) {
+    this.changeFeedService = changeFeedService;
+  }
+
+  /**
+   * Stream creates, updates and destroys in a region.
+   * GET /api/stream/{regionName}
+   */
+  @GetMapping(value = "/{regionName}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public ResponseEntity<?> stream(@PathVariable String regionName) {
+    try {
+      return ResponseEntity.ok()
+          .contentType(MediaType.TEXT_EVENT_STREAM)
+          .body(changeFeedService.subscribe(regionName));
+    } catch (IllegalArgumentException e) {
+      return error(HttpStatus.BAD_REQUEST, e.getMessage());
+    } catch (IllegalStateException e) {
+      return error(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+    }
+  }
+
+  /**
+   * Open change streams per region.
+   * GET /api/stream
+   */
+  @GetMapping
+  public ResponseEntity<Map<String, Object>> subscriptions() {
+    Map<String, Object> result = new HashMap<>();
+    result.put("success", true);
+    result.put("subscriptions", changeFeedService.getSubscriptions());
+    return ResponseEntity.ok(result);
+  }
+
+  private ResponseEntity<Map<String, Object>> error(HttpStatus status, String message) {
+    Map<String, Object> result = new HashMap<>();
+    result.put("success", false);
+    result.put("error", message);
+    return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(result);
+  }
+}
@@ -0,0 +1,28 @@
+package com.nick.geode.databrowser.metrics;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caps the number of distinct {@code region} tags per region-tagged metric. Every tag value
+ * carries a full percentile histogram, so meters beyond the cap are dropped rather than
+ * registered.
+ */
+@Configuration
+public class MetricsConfiguration {
+
+  static final int MAX_REGION_TAGS = 200;
+
+  @Bean
+  public MeterFilter operationRegionTagLimit() {
+    return MeterFilter.maximumAllowableTags(OperationMetricsAspect.METRIC_NAME, "region",
+        MAX_REGION_TAGS, MeterFilter.deny());
+  }
+
+  @Bean
+  public MeterFilter payloadRegionTagLimit() {
+    return MeterFilter.maximumAllowableTags(PayloadMetricsFilter.SIZE_METRIC_NAME, "region",
+        MAX_REGION_TAGS, MeterFilter.deny());
+  }
+}
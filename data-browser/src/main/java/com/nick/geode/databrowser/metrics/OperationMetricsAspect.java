@@ -0,0 +1,107 @@
+package com.nick.geode.databrowser.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import com.nick.geode.databrowser.service.RegionCatalog;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Times every public method of the {@code @Service} beans as {@code geode.operation}, tagged
+ * with the service, the operation, the region (the {@code regionName} argument, if any) and
+ * the outcome: SUCCESS, FAILURE (a result with {@code success=false} or a non-2xx response)
+ * or ERROR (an exception). Asynchronous operations are timed until their future completes.
+ * Region names not in the region catalog are tagged {@code unknown}, so arbitrary names in
+ * request paths cannot create new meters.
+ */
+@Aspect
+@Component
+public class OperationMetricsAspect {
+
+  public static final String METRIC_NAME = "geode.operation";
+
+  private final MeterRegistry meterRegistry;
+  private final RegionCatalog regionCatalog;
+
+  @Autowired
+  public OperationMetricsAspect(MeterRegistry meterRegistry, RegionCatalog regionCatalog) {
+    this.meterRegistry = meterRegistry;
+    this.regionCatalog = regionCatalog;
+  }
+
+  @Around("@within(org.springframework.stereotype.Service) && execution(public * *(..))")
+  public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+    MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+    String service = signature.getDeclaringType().getSimpleName();
+    String operation = signature.getName();
+    String regionName = regionName(signature, joinPoint.getArgs());
+    // Checked before and after, so created and deleted regions keep their name
+    boolean known = regionName != null && regionCatalog.contains(regionName);
+
+    Timer.Sample sample = Timer.start(meterRegistry);
+    Object result;
+    try {
+      result = joinPoint.proceed();
+    } catch (Throwable e) {
+      sample.stop(timer(service, operation, regionTag(regionName, known), "ERROR"));
+      throw e;
+    }
+    String region = regionTag(regionName, known);
+
+    if (result instanceof CompletableFuture) {
+      ((CompletableFuture<?>) result).whenComplete((value, error) -> sample.stop(
+          timer(service, operation, region, error != null ? "ERROR" : outcome(value))));
+    } else {
+      sample.stop(timer(service, operation, region, outcome(result)));
+    }
+    return result;
+  }
+
+  private Timer timer(String service, String operation, String region, String outcome) {
+    return Timer.builder(METRIC_NAME)
+        .description("Data browser service operations")
+        .tag("service", service)
+        .tag("operation", operation)
+        .tag("region", region)
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  private String outcome(Object result) {
+    if (result instanceof Map && ((Map<?, ?>) result).containsKey("success")) {
+      return Boolean.TRUE.equals(((Map<?, ?>) result).get("success")) ? "SUCCESS" : "FAILURE";
+    }
+    if (result instanceof ResponseEntity) {
+      return ((ResponseEntity<?>) result).getStatusCode().is2xxSuccessful() ? "SUCCESS" : "FAILURE";
+    }
+    return "SUCCESS";
+  }
+
+  private String regionName(MethodSignature signature, Object[] args) {
+    String[] names = signature.getParameterNames();
+    if (names != null) {
+      for (int i = 0; i < names.length; i++) {
+        if ("regionName".equals(names[i]) && args[i] != null) {
+          return args[i].toString();
+        }
+      }
+    }
+    return null;
+  }
+
+  private String regionTag(String regionName, boolean known) {
+    if (regionName == null) {
+      return "none";
+    }
+    return known || regionCatalog.contains(regionName) ? regionName : "unknown";
+  }
+}
@@ -0,0 +1,248 @@
+package com.nick.geode.databrowser.metrics;
+
+import com.nick.geode.databrowser.service.RegionCatalog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the request and response body bytes of the {@code /api} endpoints.
+ * Totals are published as the {@code http.payload.bytes} counter (tagged in/out) and per request
+ * sizes as the {@code http.payload.size} distribution, tagged with the URI pattern and region
+ * (or {@code unknown} for names not in the region catalog).
+ * Asynchronous and streamed responses are recorded when the request completes.
+ */
+@Component
+public class PayloadMetricsFilter extends OncePerRequestFilter {
+
+  public static final String SIZE_METRIC_NAME = "http.payload.size";
+
+  private static final String BYTES_IN = PayloadMetricsFilter.class.getName() + ".in";
+  private static final String BYTES_OUT = PayloadMetricsFilter.class.getName() + ".out";
+
+  private final MeterRegistry meterRegistry;
+  private final RegionCatalog regionCatalog;
+  private final Counter totalIn;
+  private final Counter totalOut;
+
+  @Autowired
+  public PayloadMetricsFilter(MeterRegistry meterRegistry, RegionCatalog regionCatalog) {
+    this.meterRegistry = meterRegistry;
+    this.regionCatalog = regionCatalog;
+    this.totalIn = Counter.builder("http.payload.bytes")
+        .description("API payload bytes")
+        .baseUnit("bytes")
+        .tag("direction", "in")
+        .register(meterRegistry);
+    this.totalOut = Counter.builder("http.payload.bytes")
+        .description("API payload bytes")
+        .baseUnit("bytes")
+        .tag("direction", "out")
+        .register(meterRegistry);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !request.getRequestURI().startsWith("/api/");
+  }
+
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    // Deferred responses are written during the async dispatch
+    return false;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                  FilterChain chain) throws ServletException, IOException {
+    boolean initial = request.getAttribute(BYTES_OUT) == null;
+    if (initial) {
+      request.setAttribute(BYTES_IN, new AtomicLong());
+      request.setAttribute(BYTES_OUT, new AtomicLong());
+    }
+    AtomicLong bytesIn = (AtomicLong) request.getAttribute(BYTES_IN);
+    AtomicLong bytesOut = (AtomicLong) request.getAttribute(BYTES_OUT);
+
+    try {
+      chain.doFilter(new CountingRequest(request, bytesIn), new CountingResponse(response, bytesOut));
+    } finally {
+      if (initial) {
+        if (request.isAsyncStarted()) {
+          request.getAsyncContext().addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+              record(request, bytesIn.get(), bytesOut.get());
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+          });
+        } else {
+          record(request, bytesIn.get(), bytesOut.get());
+        }
+      }
+    }
+  }
+
+  private void record(HttpServletRequest request, long in, long out) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+    Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+    Object regionName =
+        variables instanceof Map ? ((Map<?, ?>) variables).get("regionName") : null;
+    String region = "none";
+    if (regionName != null) {
+      region = regionCatalog.contains(regionName.toString()) ? regionName.toString() : "unknown";
+    }
+
+    totalIn.increment(in);
+    totalOut.increment(out);
+    summary(uri, region, "in").record(in);
+    summary(uri, region, "out").record(out);
+  }
+
+  private DistributionSummary summary(String uri, String region, String direction) {
+    return DistributionSummary.builder(SIZE_METRIC_NAME)
+        .description("API payload size per request")
+        .baseUnit("bytes")
+        .tag("uri", uri)
+        .tag("region", region)
+        .tag("direction", direction)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  private static class CountingRequest extends HttpServletRequestWrapper {
+
+    private final AtomicLong count;
+    private ServletInputStream inputStream;
+
+    CountingRequest(HttpServletRequest request, AtomicLong count) {
+      super(request);
+      this.count = count;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+      if (inputStream == null) {
+        ServletInputStream delegate = super.getInputStream();
+        inputStream = new ServletInputStream() {
+          @Override
+          public int read() throws IOException {
+            int b = delegate.read();
+            if (b >= 0) {
+              count.incrementAndGet();
+            }
+            return b;
+          }
+
+          @Override
+          public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = delegate.read(buffer, offset, length);
+            if (read > 0) {
+              count.addAndGet(read);
+            }
+            return read;
+          }
+
+          @Override
+          public boolean isFinished() {
+            return delegate.isFinished();
+          }
+
+          @Override
+          public boolean isReady() {
+            return delegate.isReady();
+          }
+
+          @Override
+          public void setReadListener(ReadListener listener) {
+            delegate.setReadListener(listener);
+          }
+        };
+      }
+      return inputStream;
+    }
+  }
+
+  private static class CountingResponse extends HttpServletResponseWrapper {
+
+    private final AtomicLong count;
+    private ServletOutputStream outputStream;
+
+    CountingResponse(HttpServletResponse response, AtomicLong count) {
+      super(response);
+      this.count = count;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+      if (outputStream == null) {
+        ServletOutputStream delegate = super.getOutputStream();
+        outputStream = new ServletOutputStream() {
+          @Override
+          public void write(int b) throws IOException {
+            delegate.write(b);
+            count.incrementAndGet();
+          }
+
+          @Override
+          public void write(byte[] buffer, int offset, int length) throws IOException {
+            delegate.write(buffer, offset, length);
+            count.addAndGet(length);
+          }
+
+          @Override
+          public void flush() throws IOException {
+            delegate.flush();
+          }
+
+          @Override
+          public void close() throws IOException {
+            delegate.close();
+          }
+
+          @Override
+          public boolean isReady() {
+            return delegate.isReady();
+          }
+
+          @Override
+          public void setWriteListener(WriteListener listener) {
+            delegate.setWriteListener(listener);
+          }
+        };
+      }
+      return outputStream;
+    }
+  }
+}
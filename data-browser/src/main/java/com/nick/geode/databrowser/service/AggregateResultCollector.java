@@ -0,0 +1,93 @@
+package com.nick.geode.databrowser.service;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merges the per-group partial results of the server-side aggregate function as each member
+ * reports them, so only one map per group is ever held in memory.
+ * Partial results are {@code double[] {count, numericCount, sum, min, max}}.
+ */
+class AggregateResultCollector implements ResultCollector<Object, Map<String, double[]>> {
+
+  static final int COUNT = 0;
+  static final int NUMERIC_COUNT = 1;
+  static final int SUM = 2;
+  static final int MIN = 3;
+  static final int MAX = 4;
+
+  private final Map<String, double[]> groups = new HashMap<>();
+  private final CountDownLatch done = new CountDownLatch(1);
+  private Throwable failure;
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public synchronized void addResult(DistributedMember member, Object result) {
+    if (result instanceof Throwable) {
+      failure = (Throwable) result;
+      return;
+    }
+    ((Map<String, double[]>) result).forEach((group, stats) ->
+        groups.merge(group, stats, AggregateResultCollector::merge));
+  }
+
+  /**
+   * Must stay in step with the merge of {@code AggregateFunction} on the data servers, which
+   * combines the buckets of one member the same way. A group without numeric values keeps
+   * {@code min = +Infinity} and {@code max = -Infinity}, so it never wins a comparison.
+   */
+  static double[] merge(double[] a, double[] b) {
+    return new double[] {
+        a[COUNT] + b[COUNT],
+        a[NUMERIC_COUNT] + b[NUMERIC_COUNT],
+        a[SUM] + b[SUM],
+        Math.min(a[MIN], b[MIN]),
+        Math.max(a[MAX], b[MAX])};
+  }
+
+  @Override
+  public void endResults() {
+    done.countDown();
+  }
+
+  @Override
+  public synchronized void clearResults() {
+    // Called before an HA retry, which re-executes on every member
+    groups.clear();
+    failure = null;
+  }
+
+  @Override
+  public Map<String, double[]> getResult() throws FunctionException {
+    try {
+      done.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new FunctionException("Interrupted while waiting for aggregate results", e);
+    }
+    return result();
+  }
+
+  @Override
+  public Map<String, double[]> getResult(long timeout, TimeUnit unit)
+      throws FunctionException, InterruptedException {
+    if (!done.await(timeout, unit)) {
+      throw new FunctionException("Aggregation timed out after " + unit.toMillis(timeout) + "ms");
+    }
+    return result();
+  }
+
+  private synchronized Map<String, double[]> result() {
+    if (failure != null) {
+      throw new FunctionException("Aggregation failed on a member: " + failure.getMessage(),
+          failure);
+    }
+    return new HashMap<>(groups);
+  }
+}
@@ -0,0 +1,114 @@
+package com.nick.geode.databrowser.service;
+
+import com.nick.geode.databrowser.config.DataBrowserProperties;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.execute.FunctionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service for count, sum, min, max and average over a region, computed on the data servers.
+ * Each member aggregates its own primary buckets; only per-group totals cross the network.
+ */
+@Service
+public class AggregationService {
+
+  /**
+   * Id of the aggregate function registered on the data servers.
+   */
+  static final String AGGREGATE_FUNCTION_ID = "browser.aggregate";
+
+  private final ClientCache clientCache;
+  private final RegionRegistry regionRegistry;
+  private final DataBrowserProperties properties;
+
+  @Autowired
+  public AggregationService(ClientCache clientCache, RegionRegistry regionRegistry,
+                            DataBrowserProperties properties) {
+    this.clientCache = clientCache;
+    this.regionRegistry = regionRegistry;
+    this.properties = properties;
+  }
+
+  /**
+   * Aggregate a field (or the values themselves) of a region, optionally grouped by another
+   * field. Fields are dotted paths into Map or PDX values.
+   */
+  public Map<String, Object> aggregate(String regionName, String field, String groupBy) {
+    Map<String, Object> result = new HashMap<>();
+
+    if (clientCache == null || clientCache.isClosed()) {
+      result.put("success", false);
+      result.put("error", "Cache is not available");
+      return result;
+    }
+
+    try {
+      Region<Object, Object> region;
+      try {
+        region = regionRegistry.getRegion(regionName);
+      } catch (Exception e) {
+        result.put("success", false);
+        result.put("error", "Region not found and could not create proxy: " + regionName);
+        return result;
+      }
+
+      AggregateResultCollector collector = new AggregateResultCollector();
+      FunctionService.onRegion(region)
+          .setArguments(new Object[] {blankToNull(field), blankToNull(groupBy)})
+          .withCollector(collector)
+          .execute(AGGREGATE_FUNCTION_ID);
+      Map<String, double[]> groups = collector.getResult(
+          properties.getQuery().getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+
+      result.put("success", true);
+      result.put("region", regionName);
+      result.put("field", field);
+      if (blankToNull(groupBy) != null) {
+        Map<String, Object> grouped = new TreeMap<>();
+        groups.forEach((group, stats) -> grouped.put(group, toStats(stats)));
+        result.put("groupBy", groupBy);
+        result.put("groups", grouped);
+      } else {
+        double[] stats = groups.get("");
+        result.put("result", stats != null ? toStats(stats) : toStats(new double[5]));
+      }
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      result.put("success", false);
+      result.put("error", "Interrupted while aggregating");
+    } catch (Exception e) {
+      result.put("success", false);
+      result.put("error", "Failed to aggregate: " + e.getMessage());
+    }
+
+    return result;
+  }
+
+  private Map<String, Object> toStats(double[] stats) {
+    long numericCount = (long) stats[AggregateResultCollector.NUMERIC_COUNT];
+    Map<String, Object> values = new LinkedHashMap<>();
+    values.put("count", (long) stats[AggregateResultCollector.COUNT]);
+    values.put("numericCount", numericCount);
+    values.put("sum", stats[AggregateResultCollector.SUM]);
+    // min, max and avg are undefined when the field never held a number
+    values.put("min", numericCount > 0 ? stats[AggregateResultCollector.MIN] : null);
+    values.put("max", numericCount > 0 ? stats[AggregateResultCollector.MAX] : null);
+    values.put("avg", numericCount > 0
+        ? stats[AggregateResultCollector.SUM] / numericCount
+        : null);
+    return values;
+  }
+
+  private String blankToNull(String value) {
+    return value == null || value.isBlank() ? null : value;
+  }
+}
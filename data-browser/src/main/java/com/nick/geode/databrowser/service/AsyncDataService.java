@@ -0,0 +1,90 @@
+package com.nick.geode.databrowser.service;
+
+import com.nick.geode.databrowser.config.DataBrowserProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs data operations on virtual threads so a slow server never holds a request thread.
+ * In-flight operations are bounded by a semaphore and every request gets a timeout.
+ */
+@Service
+public class AsyncDataService {
+
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final Semaphore permits;
+  private final Duration timeout;
+
+  @Autowired
+  public AsyncDataService(DataBrowserProperties properties) {
+    this.permits = new Semaphore(properties.getAsync().getMaxConcurrency());
+    this.timeout = properties.getAsync().getTimeout();
+  }
+
+  /**
+   * Run an operation asynchronously.
+   * Completes with 503 when the concurrency limit is reached and 504 when the timeout expires.
+   */
+  public CompletableFuture<ResponseEntity<Map<String, Object>>> submit(
+      Supplier<Map<String, Object>> operation) {
+    if (!permits.tryAcquire()) {
+      return CompletableFuture.completedFuture(
+          error(HttpStatus.SERVICE_UNAVAILABLE, "Too many requests in flight, try again later"));
+    }
+
+    CompletableFuture<Map<String, Object>> task;
+    try {
+      task = CompletableFuture.supplyAsync(operation, executor);
+    } catch (RejectedExecutionException e) {
+      permits.release();
+      return CompletableFuture.completedFuture(
+          error(HttpStatus.SERVICE_UNAVAILABLE, "Executor is shut down"));
+    }
+
+    // The permit is held until the Geode call really returns, not just until the timeout,
+    // so abandoned calls still count against the limit
+    task.whenComplete((result, error) -> permits.release());
+
+    return task.copy()
+        .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+        .handle((result, error) -> {
+          if (error == null) {
+            return ResponseEntity.ok(result);
+          }
+          Throwable cause = error instanceof CompletionException && error.getCause() != null
+              ? error.getCause() : error;
+          if (cause instanceof TimeoutException) {
+            return error(HttpStatus.GATEWAY_TIMEOUT, "Operation timed out after " + timeout);
+          }
+          return error(HttpStatus.INTERNAL_SERVER_ERROR, "Operation failed: " + cause.getMessage());
+        });
+  }
+
+  private ResponseEntity<Map<String, Object>> error(HttpStatus status, String message) {
+    Map<String, Object> result = new HashMap<>();
+    result.put("success", false);
+    result.put("error", message);
+    return ResponseEntity.status(status).body(result);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+}
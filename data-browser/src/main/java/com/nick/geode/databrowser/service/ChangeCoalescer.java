@@ -0,0 +1,76 @@
+package com.nick.geode.databrowser.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The changes of one change feed subscriber that have not been sent yet: the latest change
+ * per key, in the order keys first changed. Not thread-safe; callers synchronize.
+ */
+class ChangeCoalescer {
+
+  enum ChangeType {
+    CREATE,
+    UPDATE,
+    DESTROY
+  }
+
+  record Change(Object key, ChangeType type, Object value) {
+  }
+
+  private final int maxPendingKeys;
+  private Map<Object, Change> pending = new LinkedHashMap<>();
+  private boolean resync;
+
+  ChangeCoalescer(int maxPendingKeys) {
+    this.maxPendingKeys = maxPendingKeys;
+  }
+
+  /**
+   * Merge a change with the pending change of the same key. Once more than
+   * {@code maxPendingKeys} keys are pending they are dropped in favour of a resync.
+   */
+  void offer(Change change) {
+    if (resync) {
+      // A subscriber that has to reload gains nothing from individual changes
+      return;
+    }
+
+    Change previous = pending.remove(change.key());
+    if (previous != null && previous.type() == ChangeType.CREATE) {
+      if (change.type() == ChangeType.DESTROY) {
+        // Created and destroyed within the window: the subscriber never saw it
+        return;
+      }
+      change = new Change(change.key(), ChangeType.CREATE, change.value());
+    }
+    pending.put(change.key(), change);
+
+    if (pending.size() > maxPendingKeys) {
+      requestResync();
+    }
+  }
+
+  void requestResync() {
+    pending = new LinkedHashMap<>();
+    resync = true;
+  }
+
+  boolean isEmpty() {
+    return pending.isEmpty() && !resync;
+  }
+
+  boolean isResync() {
+    return resync;
+  }
+
+  /**
+   * Take the pending changes, leaving the coalescer empty. Empty while a resync is pending.
+   */
+  Map<Object, Change> drain() {
+    Map<Object, Change> batch = pending;
+    pending = new LinkedHashMap<>();
+    resync = false;
+    return batch;
+  }
+}
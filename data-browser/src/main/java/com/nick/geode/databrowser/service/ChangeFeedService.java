@@ -0,0 +1,392 @@
+package com.nick.geode.databrowser.service;
+
+import com.nick.geode.databrowser.config.DataBrowserProperties;
+import com.nick.geode.databrowser.service.ChangeCoalescer.Change;
+import com.nick.geode.databrowser.service.ChangeCoalescer.ChangeType;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.query.CqAttributesFactory;
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqQuery;
+import org.apache.geode.cache.query.CqStatusListener;
+import org.apache.geode.cache.query.RegionNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PreDestroy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Pushes region changes to server-sent event subscribers.
+ *
+ * <p>Each region with subscribers has one continuous query on the subscription-enabled default
+ * pool, shared by all of them. Every subscriber keeps the latest change per key, and one
+ * scheduler thread checks all subscribers once per coalescing window. A subscriber with
+ * changes, or due a heartbeat, gets a short-lived virtual thread that writes them out, so an
+ * open stream holds no thread while idle and a slow subscriber only delays itself. It gets
+ * fewer, larger batches instead of an unbounded queue; one that falls more than
+ * {@code max-pending-keys} keys behind gets a {@code resync} event and should reload.
+ */
+@Service
+public class ChangeFeedService {
+
+  private static final Pattern REGION_NAME = Pattern.compile("[A-Za-z0-9_-]+");
+
+  private final ClientCache clientCache;
+  private final DataBrowserProperties.Stream settings;
+  private final Map<String, RegionFeed> feeds = new HashMap<>();
+  private final AtomicLong feedIds = new AtomicLong();
+  private final ScheduledExecutorService scheduler;
+
+  @Autowired
+  public ChangeFeedService(ClientCache clientCache, DataBrowserProperties properties) {
+    this.clientCache = clientCache;
+    this.settings = properties.getStream();
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("change-feed-flush").daemon().factory());
+    long windowMillis = Math.max(1, settings.getCoalesceWindow().toMillis());
+    scheduler.scheduleWithFixedDelay(this::flushAll, windowMillis, windowMillis,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Open a change stream for a region.
+   *
+   * @throws IllegalArgumentException if the region name is invalid or the region does not exist
+   * @throws IllegalStateException if the continuous query cannot be registered
+   */
+  public SseEmitter subscribe(String regionName) {
+    if (!REGION_NAME.matcher(regionName).matches()) {
+      throw new IllegalArgumentException("Invalid region name: " + regionName);
+    }
+    if (clientCache == null || clientCache.isClosed()) {
+      throw new IllegalStateException("Cache is not available");
+    }
+
+    // Never time out; the heartbeat detects clients that have gone away
+    SseEmitter emitter = new SseEmitter(0L);
+    RegionFeed feed;
+    boolean created = false;
+    Subscriber subscriber;
+    synchronized (feeds) {
+      feed = feeds.get(regionName);
+      if (feed == null) {
+        feed = new RegionFeed(regionName);
+        feeds.put(regionName, feed);
+        created = true;
+      }
+      subscriber = new Subscriber(feed, emitter);
+      feed.subscribers.add(subscriber);
+    }
+
+    // Registering the continuous query is a server round trip; other regions' subscribers
+    // must not wait for it
+    try {
+      if (created) {
+        feed.start();
+      } else {
+        feed.awaitStarted();
+      }
+    } catch (RuntimeException e) {
+      if (created) {
+        // Later subscribers get a fresh attempt rather than this failure
+        synchronized (feeds) {
+          feeds.remove(regionName, feed);
+        }
+      }
+      unsubscribe(subscriber);
+      throw e;
+    }
+
+    emitter.onCompletion(subscriber::close);
+    emitter.onTimeout(subscriber::close);
+    emitter.onError(e -> subscriber.close());
+    return emitter;
+  }
+
+  /**
+   * Regions with open change streams and their subscriber counts.
+   */
+  public Map<String, Integer> getSubscriptions() {
+    Map<String, Integer> subscriptions = new LinkedHashMap<>();
+    synchronized (feeds) {
+      feeds.forEach((region, feed) -> subscriptions.put(region, feed.subscribers.size()));
+    }
+    return subscriptions;
+  }
+
+  private void unsubscribe(Subscriber subscriber) {
+    RegionFeed feed = subscriber.feed;
+    synchronized (feeds) {
+      feed.subscribers.remove(subscriber);
+      if (!feed.subscribers.isEmpty() || feeds.get(feed.regionName) != feed) {
+        return;
+      }
+      feeds.remove(feed.regionName);
+    }
+    feed.stop();
+  }
+
+  /**
+   * Runs once per coalescing window on the scheduler thread.
+   */
+  private void flushAll() {
+    List<RegionFeed> open;
+    synchronized (feeds) {
+      open = new ArrayList<>(feeds.values());
+    }
+    long now = System.currentTimeMillis();
+    for (RegionFeed feed : open) {
+      feed.subscribers.forEach(subscriber -> subscriber.flushIfDue(now));
+    }
+  }
+
+  @PreDestroy
+  public void closeFeeds() {
+    scheduler.shutdownNow();
+    List<RegionFeed> open;
+    synchronized (feeds) {
+      open = new ArrayList<>(feeds.values());
+      feeds.clear();
+    }
+    for (RegionFeed feed : open) {
+      feed.stop();
+      feed.subscribers.forEach(Subscriber::close);
+    }
+  }
+
+  /**
+   * The continuous query of one region and its subscribers.
+   */
+  private final class RegionFeed implements CqStatusListener {
+
+    private final String regionName;
+    private final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+    private final CompletableFuture<Void> started = new CompletableFuture<>();
+    private volatile CqQuery cq;
+
+    RegionFeed(String regionName) {
+      this.regionName = regionName;
+    }
+
+    void start() {
+      CqAttributesFactory attributes = new CqAttributesFactory();
+      attributes.addCqListener(this);
+      RuntimeException failure;
+      try {
+        // Unique per feed: the previous feed of the region may still be closing its query
+        cq = clientCache.getDefaultPool().getQueryService().newCq(
+            "browser-change-feed-" + regionName + "-" + feedIds.incrementAndGet(),
+            "SELECT * FROM /" + regionName, attributes.create());
+        cq.execute();
+        started.complete(null);
+        return;
+      } catch (RegionNotFoundException e) {
+        failure = new IllegalArgumentException("Region not found: " + regionName);
+      } catch (Exception e) {
+        failure = new IllegalStateException(
+            "Failed to register continuous query: " + e.getMessage(), e);
+      }
+      stop();
+      started.completeExceptionally(failure);
+      throw failure;
+    }
+
+    /**
+     * Wait for the subscriber that created this feed to register its continuous query.
+     */
+    void awaitStarted() {
+      try {
+        started.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw e;
+      }
+    }
+
+    void stop() {
+      CqQuery current = cq;
+      if (current != null && !current.isClosed()) {
+        try {
+          current.close();
+        } catch (Exception e) {
+          // Already closed by the server or the pool
+        }
+      }
+    }
+
+    @Override
+    public void onEvent(CqEvent event) {
+      if (event.getBaseOperation().isRegion()) {
+        // Region clear or destroy: individual keys are not reported
+        subscribers.forEach(Subscriber::resync);
+        return;
+      }
+
+      ChangeType type;
+      if (event.getQueryOperation().isDestroy()) {
+        type = ChangeType.DESTROY;
+      } else if (event.getQueryOperation().isCreate()) {
+        type = ChangeType.CREATE;
+      } else {
+        type = ChangeType.UPDATE;
+      }
+      Change change = new Change(event.getKey(), type,
+          type == ChangeType.DESTROY ? null : event.getNewValue());
+      subscribers.forEach(subscriber -> subscriber.offer(change));
+    }
+
+    @Override
+    public void onError(CqEvent event) {
+      subscribers.forEach(Subscriber::resync);
+    }
+
+    @Override
+    public void onCqConnected() {
+      // Events may have been missed while the servers were unreachable
+      subscribers.forEach(Subscriber::resync);
+    }
+
+    @Override
+    public void onCqDisconnected() {
+      // Nothing to send until the pool reconnects
+    }
+
+    @Override
+    public void close() {
+      // Closed by the server, for example because the region was destroyed
+      subscribers.forEach(Subscriber::close);
+    }
+  }
+
+  /**
+   * One open stream and its pending changes. Holds no thread between flushes.
+   */
+  private final class Subscriber {
+
+    private final RegionFeed feed;
+    private final SseEmitter emitter;
+    private final ChangeCoalescer pending = new ChangeCoalescer(settings.getMaxPendingKeys());
+    private boolean introduced;
+    private boolean sending;
+    private boolean closed;
+    private long lastSentAt;
+
+    Subscriber(RegionFeed feed, SseEmitter emitter) {
+      this.feed = feed;
+      this.emitter = emitter;
+    }
+
+    synchronized void offer(Change change) {
+      if (!closed) {
+        pending.offer(change);
+      }
+    }
+
+    synchronized void resync() {
+      if (!closed) {
+        pending.requestResync();
+      }
+    }
+
+    /**
+     * Start a send if there is something to send and no send is still in progress.
+     */
+    void flushIfDue(long now) {
+      synchronized (this) {
+        boolean due = !introduced || !pending.isEmpty()
+            || now - lastSentAt >= settings.getHeartbeatInterval().toMillis();
+        if (closed || sending || !due) {
+          return;
+        }
+        sending = true;
+      }
+      Thread.ofVirtual().name("change-feed-" + feed.regionName).start(this::send);
+    }
+
+    void close() {
+      synchronized (this) {
+        if (closed) {
+          return;
+        }
+        closed = true;
+      }
+      unsubscribe(this);
+      emitter.complete();
+    }
+
+    private void send() {
+      try {
+        boolean first;
+        boolean reload;
+        Map<Object, Change> batch;
+        synchronized (this) {
+          first = !introduced;
+          introduced = true;
+          reload = pending.isResync();
+          batch = pending.drain();
+        }
+
+        if (first) {
+          Map<String, Object> subscribed = new LinkedHashMap<>();
+          subscribed.put("region", feed.regionName);
+          subscribed.put("coalesceWindowMs", settings.getCoalesceWindow().toMillis());
+          emitter.send(SseEmitter.event().name("subscribed")
+              .data(subscribed, MediaType.APPLICATION_JSON));
+        }
+        if (reload) {
+          emitter.send(SseEmitter.event().name("resync")
+              .data(Map.of("region", feed.regionName), MediaType.APPLICATION_JSON));
+        } else if (!batch.isEmpty()) {
+          emitter.send(SseEmitter.event().name("changes")
+              .data(toEvents(batch), MediaType.APPLICATION_JSON));
+        } else if (!first) {
+          emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+        synchronized (this) {
+          lastSentAt = System.currentTimeMillis();
+        }
+      } catch (IOException | IllegalStateException e) {
+        // The client disconnected or the stream was completed
+        close();
+      } finally {
+        synchronized (this) {
+          sending = false;
+        }
+      }
+    }
+
+    private List<Map<String, Object>> toEvents(Map<Object, Change> batch) {
+      List<Map<String, Object>> events = new ArrayList<>(batch.size());
+      for (Change change : batch.values()) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("key", change.key());
+        event.put("operation", change.type().name());
+        if (change.type() != ChangeType.DESTROY) {
+          event.put("value", PdxJson.toJsonValue(change.value()));
+          event.put("valueType", PdxJson.typeName(change.value()));
+        }
+        events.add(event);
+      }
+      return events;
+    }
+  }
+}
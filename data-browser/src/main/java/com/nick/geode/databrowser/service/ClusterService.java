@@ -1,15 +1,12 @@
 package com.nick.geode.databrowser.service;
 
-import org.apache.geode.cache.client.ClientCache;
-import org.apache.geode.distributed.DistributedMember;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Service for querying cluster status and information.
@@ -17,60 +14,60 @@ import java.util.stream.Collectors;
 @Service
 public class ClusterService {
 
-  private final ClientCache clientCache;
+  private static final String[] SUMMED_METRICS = {
+      "heapUsedMb", "heapMaxMb", "getsPerSecond", "putsPerSecond", "clientConnections"};
+
+  private final ClusterStatusMonitor statusMonitor;
+  private final MemberMetrics memberMetrics;
 
   @Autowired
-  public ClusterService(ClientCache clientCache) {
-    this.clientCache = clientCache;
+  public ClusterService(ClusterStatusMonitor statusMonitor, MemberMetrics memberMetrics) {
+    this.statusMonitor = statusMonitor;
+    this.memberMetrics = memberMetrics;
   }
 
   /**
-   * Get cluster status information.
+   * Get cluster status information from the shared snapshot; the servers are not contacted.
    */
   public Map<String, Object> getClusterStatus() {
-    Map<String, Object> status = new HashMap<>();
-    
-    if (clientCache == null || clientCache.isClosed()) {
-      status.put("status", "disconnected");
-      return status;
-    }
+    return statusMonitor.getStatus();
+  }
 
+  /**
+   * Get heap, off-heap, CPU, GC, operation rates, client connections and region entry counts
+   * for every member, with cluster totals, from the locator's JMX manager.
+   */
+  public Map<String, Object> getMemberMetrics() {
+    Map<String, Object> result = new HashMap<>();
     try {
-      status.put("status", "connected");
-      status.put("cacheName", clientCache.getName());
-      
-      // For ClientCache, we can get distributed system info
-      // Note: ClientCache may have limited access to member information
-      try {
-        Set<DistributedMember> otherMembers = clientCache.getDistributedSystem().getAllOtherMembers();
-        Set<DistributedMember> allMembers = new java.util.HashSet<>(otherMembers);
-        DistributedMember currentMember = clientCache.getDistributedSystem().getDistributedMember();
-        if (currentMember != null) {
-          allMembers.add(currentMember);
+      MemberMetrics.Snapshot snapshot = memberMetrics.getSnapshot();
+
+      Map<String, Object> totals = new LinkedHashMap<>();
+      totals.put("memberCount", snapshot.members().size());
+      for (String metric : SUMMED_METRICS) {
+        double sum = 0;
+        for (Map<String, Object> member : snapshot.members()) {
+          Object value = member.get(metric);
+          sum += value instanceof Number ? ((Number) value).doubleValue() : 0;
         }
-        status.put("memberCount", allMembers.size());
-        
-        status.put("members", allMembers.stream()
-            .map(member -> {
-              Map<String, Object> memberInfo = new HashMap<>();
-              memberInfo.put("id", member.getId());
-              memberInfo.put("name", member.getName());
-              memberInfo.put("host", member.getHost());
-              memberInfo.put("groups", member.getGroups());
-              return memberInfo;
-            })
-            .collect(Collectors.toList()));
-      } catch (Exception e) {
-        // If we can't get member info (common for client cache), just report connection status
-        status.put("memberCount", 0);
-        status.put("members", List.of());
-        status.put("note", "Member information may be limited for client cache connections");
+        totals.put(metric, sum);
       }
+
+      result.put("success", true);
+      result.put("members", snapshot.members());
+      result.put("totals", totals);
+      result.put("loadedAt", snapshot.loadedAt());
     } catch (Exception e) {
-      status.put("status", "error");
-      status.put("error", e.getMessage());
+      result.put("success", false);
+      result.put("error", e.getMessage());
     }
-    
-    return status;
+    return result;
+  }
+
+  /**
+   * Open a stream of cluster status changes.
+   */
+  public SseEmitter streamClusterStatus() {
+    return statusMonitor.subscribe();
   }
 }
@@ -0,0 +1,404 @@
+package com.nick.geode.databrowser.service;
+
+import com.nick.geode.databrowser.config.DataBrowserProperties;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.distributed.DistributedMember;
+import org.apache.geode.management.membership.ClientMembership;
+import org.apache.geode.management.membership.ClientMembershipEvent;
+import org.apache.geode.management.membership.ClientMembershipListener;
+import org.apache.geode.management.membership.ClientMembershipListenerAdapter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One cluster status snapshot shared by every viewer. It is rebuilt when a server joins or
+ * leaves and every {@code geode.browser.status.refresh-interval}, so the cost of keeping it
+ * current does not depend on how many browser tabs are open. Stream subscribers get the full
+ * snapshot once and then only the fields and members that changed. The refresh thread
+ * publishes to all of them, handing each write to a short-lived virtual thread, so an open
+ * stream holds no thread while idle. Members come from {@link MemberMetrics}, the locator's
+ * JMX manager view, when it is reachable, since a client cache only sees itself; a membership
+ * event reloads those metrics before the rebuild, so it does not wait for their next reload.
+ */
+@Component
+public class ClusterStatusMonitor implements SmartLifecycle {
+
+  private static final String MEMBERS = "members";
+
+  private final ClientCache clientCache;
+  private final MemberMetrics memberMetrics;
+  private final DataBrowserProperties.Status settings;
+  private final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+
+  private volatile Snapshot snapshot;
+  private ScheduledExecutorService scheduler;
+  private ClientMembershipListener membershipListener;
+
+  @Autowired
+  public ClusterStatusMonitor(ClientCache clientCache, MemberMetrics memberMetrics,
+                              DataBrowserProperties properties) {
+    this.clientCache = clientCache;
+    this.memberMetrics = memberMetrics;
+    this.settings = properties.getStatus();
+  }
+
+  /**
+   * The current snapshot; built on the calling thread only before the first refresh.
+   */
+  public Map<String, Object> getStatus() {
+    Snapshot current = snapshot;
+    return current != null ? current.status() : refresh().status();
+  }
+
+  /**
+   * Open a status stream: a {@code status} event with the full snapshot, then a
+   * {@code delta} event whenever it changes.
+   */
+  public SseEmitter subscribe() {
+    // Never time out; the heartbeat detects clients that have gone away
+    SseEmitter emitter = new SseEmitter(0L);
+    Subscriber subscriber = new Subscriber(emitter);
+    subscribers.add(subscriber);
+
+    emitter.onCompletion(subscriber::close);
+    emitter.onTimeout(subscriber::close);
+    emitter.onError(e -> subscriber.close());
+    subscriber.publish(false);
+    return emitter;
+  }
+
+  /**
+   * Number of open status streams.
+   */
+  public int getSubscriberCount() {
+    return subscribers.size();
+  }
+
+  @Override
+  public void start() {
+    scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("cluster-status-refresh").daemon().factory());
+    scheduler.scheduleWithFixedDelay(this::refreshQuietly, 0,
+        settings.getRefreshInterval().toMillis(), TimeUnit.MILLISECONDS);
+    long heartbeatMillis = settings.getHeartbeatInterval().toMillis();
+    scheduler.scheduleWithFixedDelay(
+        () -> subscribers.forEach(subscriber -> subscriber.publish(true)),
+        heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+
+    membershipListener = new ClientMembershipListenerAdapter() {
+      @Override
+      public void memberJoined(ClientMembershipEvent event) {
+        refreshMembersSoon();
+      }
+
+      @Override
+      public void memberLeft(ClientMembershipEvent event) {
+        refreshMembersSoon();
+      }
+
+      @Override
+      public void memberCrashed(ClientMembershipEvent event) {
+        refreshMembersSoon();
+      }
+    };
+    ClientMembership.registerClientMembershipListener(membershipListener);
+  }
+
+  @Override
+  public void stop() {
+    if (membershipListener != null) {
+      ClientMembership.unregisterClientMembershipListener(membershipListener);
+      membershipListener = null;
+    }
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+      scheduler = null;
+    }
+    subscribers.forEach(Subscriber::close);
+  }
+
+  @Override
+  public boolean isRunning() {
+    return scheduler != null;
+  }
+
+  /**
+   * Reload the member metrics, which would otherwise still show the old membership until their
+   * next timed reload, then rebuild the status. Both run off the listener's thread.
+   */
+  private void refreshMembersSoon() {
+    ScheduledExecutorService current = scheduler;
+    if (current != null) {
+      current.execute(() -> {
+        try {
+          memberMetrics.reload();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        refreshQuietly();
+      });
+    }
+  }
+
+  private void refreshQuietly() {
+    try {
+      refresh();
+    } catch (Exception e) {
+      // Cache closing; the next run retries
+    }
+  }
+
+  /**
+   * Rebuild the status and publish it if anything changed.
+   */
+  private Snapshot refresh() {
+    Snapshot updated;
+    // The refresh thread and a request building the first snapshot must not both publish the
+    // same version. Building only reads the last member metrics, so this is held briefly
+    synchronized (this) {
+      Map<String, Object> status = buildStatus();
+      Snapshot current = snapshot;
+      if (current != null && current.status().equals(status)) {
+        return current;
+      }
+      updated = new Snapshot(current == null ? 1 : current.version() + 1, status);
+      snapshot = updated;
+    }
+    subscribers.forEach(subscriber -> subscriber.publish(false));
+    return updated;
+  }
+
+  private Map<String, Object> buildStatus() {
+    Map<String, Object> status = new HashMap<>();
+
+    if (clientCache == null || clientCache.isClosed()) {
+      status.put("status", "disconnected");
+      return status;
+    }
+
+    try {
+      status.put("status", "connected");
+      status.put("cacheName", clientCache.getName());
+
+      List<Map<String, Object>> managedMembers = managedMembers();
+      if (managedMembers != null) {
+        status.put("memberCount", managedMembers.size());
+        status.put(MEMBERS, managedMembers);
+        return status;
+      }
+
+      // For ClientCache, we can get distributed system info
+      // Note: ClientCache may have limited access to member information
+      try {
+        Set<DistributedMember> allMembers =
+            new HashSet<>(clientCache.getDistributedSystem().getAllOtherMembers());
+        DistributedMember currentMember =
+            clientCache.getDistributedSystem().getDistributedMember();
+        if (currentMember != null) {
+          allMembers.add(currentMember);
+        }
+        status.put("memberCount", allMembers.size());
+
+        List<Map<String, Object>> members = new ArrayList<>();
+        for (DistributedMember member : allMembers) {
+          Map<String, Object> memberInfo = new HashMap<>();
+          memberInfo.put("id", member.getId());
+          memberInfo.put("name", member.getName());
+          memberInfo.put("host", member.getHost());
+          memberInfo.put("groups", member.getGroups());
+          members.add(memberInfo);
+        }
+        members.sort(Comparator.comparing(member -> String.valueOf(member.get("id"))));
+        status.put(MEMBERS, members);
+      } catch (Exception e) {
+        // If we can't get member info (common for client cache), just report connection status
+        status.put("memberCount", 0);
+        status.put(MEMBERS, List.of());
+        status.put("note", "Member information may be limited for client cache connections");
+      }
+    } catch (Exception e) {
+      status.put("status", "error");
+      status.put("error", e.getMessage());
+    }
+
+    return status;
+  }
+
+  /**
+   * The members known to the locator's JMX manager, or null if it cannot be reached.
+   */
+  private List<Map<String, Object>> managedMembers() {
+    try {
+      List<Map<String, Object>> members = new ArrayList<>();
+      for (Map<String, Object> metrics : memberMetrics.getSnapshot().members()) {
+        Map<String, Object> memberInfo = new HashMap<>();
+        memberInfo.put("id", metrics.get("id"));
+        memberInfo.put("name", metrics.get("name"));
+        memberInfo.put("host", metrics.get("host"));
+        memberInfo.put("groups", metrics.getOrDefault("groups", List.of()));
+        members.add(memberInfo);
+      }
+      members.sort(Comparator.comparing(member -> String.valueOf(member.get("id"))));
+      return members;
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
+  /**
+   * Changes from one snapshot to the next: top-level fields that were set or removed, and
+   * members (by id) that were added, changed or removed.
+   */
+  static Map<String, Object> delta(Snapshot from, Snapshot to) {
+    Map<String, Object> set = new LinkedHashMap<>();
+    List<String> unset = new ArrayList<>();
+    to.status().forEach((field, value) -> {
+      if (!MEMBERS.equals(field) && !Objects.equals(from.status().get(field), value)) {
+        set.put(field, value);
+      }
+    });
+    for (String field : from.status().keySet()) {
+      if (!to.status().containsKey(field)) {
+        unset.add(field);
+      }
+    }
+
+    Map<Object, Object> previousMembers = membersById(from);
+    Map<Object, Object> currentMembers = membersById(to);
+    List<Object> upserted = new ArrayList<>();
+    currentMembers.forEach((id, member) -> {
+      if (!member.equals(previousMembers.get(id))) {
+        upserted.add(member);
+      }
+    });
+    List<Object> removed = new ArrayList<>();
+    for (Object id : previousMembers.keySet()) {
+      if (!currentMembers.containsKey(id)) {
+        removed.add(id);
+      }
+    }
+
+    Map<String, Object> delta = new LinkedHashMap<>();
+    delta.put("version", to.version());
+    delta.put("set", set);
+    delta.put("unset", unset);
+    delta.put("membersUpserted", upserted);
+    delta.put("membersRemoved", removed);
+    return delta;
+  }
+
+  private static Map<Object, Object> membersById(Snapshot snapshot) {
+    Map<Object, Object> members = new LinkedHashMap<>();
+    Object list = snapshot.status().get(MEMBERS);
+    if (list instanceof List) {
+      for (Object member : (List<?>) list) {
+        members.put(((Map<?, ?>) member).get("id"), member);
+      }
+    }
+    return members;
+  }
+
+  record Snapshot(long version, Map<String, Object> status) {
+  }
+
+  /**
+   * One open status stream and the version it has seen. A slow client skips intermediate
+   * versions and gets a single delta to the latest one.
+   */
+  private final class Subscriber {
+
+    private final SseEmitter emitter;
+    private Snapshot sent;
+    private boolean sending;
+    private boolean republish;
+    private boolean closed;
+
+    Subscriber(SseEmitter emitter) {
+      this.emitter = emitter;
+    }
+
+    /**
+     * Send the latest snapshot, or with {@code heartbeat} a comment if there is nothing new.
+     * If a send is in progress it picks up the latest snapshot before it finishes.
+     */
+    void publish(boolean heartbeat) {
+      synchronized (this) {
+        if (closed) {
+          return;
+        }
+        if (sending) {
+          republish = true;
+          return;
+        }
+        sending = true;
+      }
+      Thread.ofVirtual().name("cluster-status-stream").start(() -> send(heartbeat));
+    }
+
+    void close() {
+      synchronized (this) {
+        if (closed) {
+          return;
+        }
+        closed = true;
+      }
+      subscribers.remove(this);
+      emitter.complete();
+    }
+
+    private void send(boolean heartbeat) {
+      try {
+        while (true) {
+          Snapshot current = snapshot != null ? snapshot : refresh();
+          if (sent == null) {
+            Map<String, Object> initial = new LinkedHashMap<>(current.status());
+            initial.put("version", current.version());
+            emitter.send(SseEmitter.event().name("status")
+                .data(initial, MediaType.APPLICATION_JSON));
+            sent = current;
+          } else if (current != sent) {
+            emitter.send(SseEmitter.event().name("delta")
+                .data(delta(sent, current), MediaType.APPLICATION_JSON));
+            sent = current;
+          } else if (heartbeat) {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+          }
+          heartbeat = false;
+
+          synchronized (this) {
+            if (!republish || closed) {
+              sending = false;
+              return;
+            }
+            republish = false;
+          }
+        }
+      } catch (IOException | RuntimeException e) {
+        // The client disconnected, the stream was completed or the cache is closing
+        synchronized (this) {
+          sending = false;
+        }
+        close();
+      }
+    }
+  }
+}
@@ -1,14 +1,26 @@
 package com.nick.geode.databrowser.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nick.geode.databrowser.config.DataBrowserProperties;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.client.ClientCache;
-import org.apache.geode.cache.client.ClientRegionShortcut;
+import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.execute.ResultCollector;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -17,11 +29,35 @@ import java.util.stream.Collectors;
 @Service
 public class DataService {
 
+  /**
+   * Id of the paging function registered on the data servers.
+   */
+  static final String PAGE_FUNCTION_ID = "browser.region-page";
+
+  /**
+   * Id of the export function registered on the data servers.
+   */
+  static final String EXPORT_FUNCTION_ID = "browser.region-export";
+
+  private static final int DEFAULT_PAGE_SIZE = 100;
+
   private final ClientCache clientCache;
+  private final RegionRegistry regionRegistry;
+  private final RegionCatalog regionCatalog;
+  private final Pool bulkPool;
+  private final DataBrowserProperties properties;
+  private final ObjectMapper objectMapper;
 
   @Autowired
-  public DataService(ClientCache clientCache) {
+  public DataService(ClientCache clientCache, RegionRegistry regionRegistry,
+                     RegionCatalog regionCatalog, Pool bulkPool,
+                     DataBrowserProperties properties, ObjectMapper objectMapper) {
     this.clientCache = clientCache;
+    this.regionRegistry = regionRegistry;
+    this.regionCatalog = regionCatalog;
+    this.bulkPool = bulkPool;
+    this.properties = properties;
+    this.objectMapper = objectMapper;
   }
 
   /**
@@ -37,19 +73,13 @@ public class DataService {
     }
 
     try {
-      Region<Object, Object> region = clientCache.getRegion(regionName);
-      
-      // If region is not proxied, try to create a proxy
-      if (region == null) {
-        try {
-          region = clientCache.createClientRegionFactory(
-              org.apache.geode.cache.client.ClientRegionShortcut.PROXY)
-              .create(regionName);
-        } catch (Exception e) {
-          result.put("success", false);
-          result.put("error", "Region not found and could not create proxy: " + regionName);
-          return result;
-        }
+      Region<Object, Object> region;
+      try {
+        region = regionRegistry.getRegion(regionName);
+      } catch (Exception e) {
+        result.put("success", false);
+        result.put("error", "Region not found and could not create proxy: " + regionName);
+        return result;
       }
 
       Object value = region.get(key);
@@ -57,8 +87,8 @@ public class DataService {
       result.put("success", true);
       result.put("region", regionName);
       result.put("key", key);
-      result.put("value", value);
-      result.put("valueType", value != null ? value.getClass().getName() : null);
+      result.put("value", PdxJson.toJsonValue(value));
+      result.put("valueType", PdxJson.typeName(value));
       result.put("exists", value != null);
       
     } catch (Exception e) {
@@ -82,18 +112,13 @@ public class DataService {
     }
 
     try {
-      Region<Object, Object> region = clientCache.getRegion(regionName);
-      
-      // If region is not proxied, try to create a proxy
-      if (region == null) {
-        try {
-          region = clientCache.createClientRegionFactory(ClientRegionShortcut.PROXY)
-              .create(regionName);
-        } catch (Exception e) {
-          result.put("success", false);
-          result.put("error", "Region not found and could not create proxy: " + regionName);
-          return result;
-        }
+      Region<Object, Object> region;
+      try {
+        region = regionRegistry.getRegion(regionName);
+      } catch (Exception e) {
+        result.put("success", false);
+        result.put("error", "Region not found and could not create proxy: " + regionName);
+        return result;
       }
 
       List<Object> keys = region.keySet().stream().collect(Collectors.toList());
@@ -112,9 +137,11 @@ public class DataService {
   }
 
   /**
-   * Get all key-value pairs in a region (with pagination support).
+   * Get one page of key-value pairs in a region.
+   * Pages are read from the servers bucket by bucket, resuming from the given cursor,
+   * so the cost of a page does not depend on how deep into the region it is.
    */
-  public Map<String, Object> getAllData(String regionName, Integer limit, Integer offset) {
+  public Map<String, Object> getAllData(String regionName, Integer limit, String cursor) {
     Map<String, Object> result = new HashMap<>();
     
     if (clientCache == null || clientCache.isClosed()) {
@@ -124,39 +151,42 @@ public class DataService {
     }
 
     try {
-      Region<Object, Object> region = clientCache.getRegion(regionName);
-      
-      // If region is not proxied, try to create a proxy
-      if (region == null) {
-        try {
-          region = clientCache.createClientRegionFactory(ClientRegionShortcut.PROXY)
-              .create(regionName);
-        } catch (Exception e) {
-          result.put("success", false);
-          result.put("error", "Region not found and could not create proxy: " + regionName);
-          return result;
-        }
+      Region<Object, Object> region;
+      try {
+        region = regionRegistry.getRegion(regionName);
+      } catch (Exception e) {
+        result.put("success", false);
+        result.put("error", "Region not found and could not create proxy: " + regionName);
+        return result;
+      }
+
+      int pageSize = limit != null && limit > 0 ? limit : DEFAULT_PAGE_SIZE;
+      // Checked before the servers size their buffers by it
+      if (pageSize > properties.getMaxPageSize()) {
+        result.put("success", false);
+        result.put("error", "limit must be between 1 and " + properties.getMaxPageSize());
+        return result;
       }
+      PageCursor position = PageCursor.decode(cursor);
 
-      List<Map<String, Object>> entries = region.entrySet().stream()
-          .skip(offset != null ? offset : 0)
-          .limit(limit != null ? limit : 100)
-          .map(entry -> {
-            Map<String, Object> entryData = new HashMap<>();
-            entryData.put("key", entry.getKey());
-            entryData.put("value", entry.getValue());
-            entryData.put("valueType", entry.getValue() != null ? 
-                entry.getValue().getClass().getName() : null);
-            return entryData;
-          })
+      Page page = fetchPage(region, position, pageSize);
+
+      List<Map<String, Object>> entries = page.rows().stream()
+          .map(this::toEntryData)
           .collect(Collectors.toList());
+      String nextCursor = page.next() != null ? page.next().encode() : null;
       
       result.put("success", true);
       result.put("region", regionName);
       result.put("entries", entries);
       result.put("totalSize", region.size());
       result.put("returnedCount", entries.size());
+      result.put("hasMore", nextCursor != null);
+      result.put("nextCursor", nextCursor);
       
+    } catch (IllegalArgumentException e) {
+      result.put("success", false);
+      result.put("error", e.getMessage());
     } catch (Exception e) {
       result.put("success", false);
       result.put("error", "Failed to get data: " + e.getMessage());
@@ -166,9 +196,9 @@ public class DataService {
   }
 
   /**
-   * Put a key-value pair into a region.
+   * Get many keys from a region in one server round trip.
    */
-  public Map<String, Object> putData(String regionName, String key, Object value) {
+  public Map<String, Object> getBatch(String regionName, List<String> keys) {
     Map<String, Object> result = new HashMap<>();
     
     if (clientCache == null || clientCache.isClosed()) {
@@ -176,20 +206,365 @@ public class DataService {
       result.put("error", "Cache is not available");
       return result;
     }
+    if (!checkBatchSize(keys.size(), result)) {
+      return result;
+    }
 
     try {
-      Region<Object, Object> region = clientCache.getRegion(regionName);
+      Region<Object, Object> region;
+      try {
+        region = regionRegistry.getRegion(regionName);
+      } catch (Exception e) {
+        result.put("success", false);
+        result.put("error", "Region not found and could not create proxy: " + regionName);
+        return result;
+      }
+
+      List<Map<String, Object>> results = new ArrayList<>();
+      try {
+        Map<Object, Object> values = region.getAll(keys);
+        for (String key : keys) {
+          results.add(keyResult(key, values.get(key)));
+        }
+      } catch (Exception e) {
+        // Fall back to single gets so each key reports its own outcome
+        for (String key : keys) {
+          results.add(keyOperation(key, () -> keyResult(key, region.get(key))));
+        }
+      }
+
+      addBatchSummary(result, regionName, results);
       
-      // If region is not proxied, try to create a proxy
-      if (region == null) {
-        try {
-          region = clientCache.createClientRegionFactory(ClientRegionShortcut.PROXY)
-              .create(regionName);
-        } catch (Exception e) {
-          result.put("success", false);
-          result.put("error", "Region not found and could not create proxy: " + regionName);
-          return result;
+    } catch (Exception e) {
+      result.put("success", false);
+      result.put("error", "Failed to get data: " + e.getMessage());
+    }
+    
+    return result;
+  }
+
+  /**
+   * Put a JSON object of key-value pairs into a region in one server round trip. JSON object
+   * values are stored as PDX straight from their bytes in the request body.
+   */
+  public Map<String, Object> putJsonBatch(String regionName, byte[] json) {
+    Map<String, Object> values;
+    try {
+      values = PdxJson.fromJsonEntries(objectMapper, json);
+    } catch (Exception e) {
+      Map<String, Object> result = new HashMap<>();
+      result.put("success", false);
+      result.put("error", "Invalid JSON batch: " + e.getMessage());
+      return result;
+    }
+    return putValues(regionName, values);
+  }
+
+  /**
+   * Put many key-value pairs into a region in one server round trip. Maps are stored as PDX.
+   */
+  public Map<String, Object> putBatch(String regionName, Map<String, Object> entries) {
+    Map<String, Object> values = new LinkedHashMap<>();
+    try {
+      for (Map.Entry<String, Object> entry : entries.entrySet()) {
+        values.put(entry.getKey(), PdxJson.toStoredValue(objectMapper, entry.getValue()));
+      }
+    } catch (Exception e) {
+      Map<String, Object> result = new HashMap<>();
+      result.put("success", false);
+      result.put("error", "Invalid batch value: " + e.getMessage());
+      return result;
+    }
+    return putValues(regionName, values);
+  }
+
+  private Map<String, Object> putValues(String regionName, Map<String, Object> values) {
+    Map<String, Object> result = new HashMap<>();
+    
+    if (clientCache == null || clientCache.isClosed()) {
+      result.put("success", false);
+      result.put("error", "Cache is not available");
+      return result;
+    }
+    if (!checkBatchSize(values.size(), result)) {
+      return result;
+    }
+
+    try {
+      Region<Object, Object> region;
+      try {
+        region = regionRegistry.getRegion(regionName);
+      } catch (Exception e) {
+        result.put("success", false);
+        result.put("error", "Region not found and could not create proxy: " + regionName);
+        return result;
+      }
+
+      List<Map<String, Object>> results = new ArrayList<>();
+      try {
+        region.putAll(values);
+        for (String key : values.keySet()) {
+          results.add(keyResult(key));
         }
+      } catch (Exception e) {
+        // Part of the batch may have been applied; replay per key so each one reports its
+        // own outcome (puts are idempotent)
+        values.forEach((key, value) -> results.add(keyOperation(key, () -> {
+          region.put(key, value);
+          return keyResult(key);
+        })));
+      }
+
+      addBatchSummary(result, regionName, results);
+      
+    } catch (Exception e) {
+      result.put("success", false);
+      result.put("error", "Failed to put data: " + e.getMessage());
+    }
+    
+    return result;
+  }
+
+  /**
+   * Remove many keys from a region in one server round trip.
+   */
+  public Map<String, Object> removeBatch(String regionName, List<String> keys) {
+    Map<String, Object> result = new HashMap<>();
+    
+    if (clientCache == null || clientCache.isClosed()) {
+      result.put("success", false);
+      result.put("error", "Cache is not available");
+      return result;
+    }
+    if (!checkBatchSize(keys.size(), result)) {
+      return result;
+    }
+
+    try {
+      Region<Object, Object> region;
+      try {
+        region = regionRegistry.getRegion(regionName);
+      } catch (Exception e) {
+        result.put("success", false);
+        result.put("error", "Region not found and could not create proxy: " + regionName);
+        return result;
+      }
+
+      List<Map<String, Object>> results = new ArrayList<>();
+      try {
+        region.removeAll(keys);
+        for (String key : keys) {
+          results.add(keyResult(key));
+        }
+      } catch (Exception e) {
+        // Fall back to single removes so each key reports its own outcome
+        for (String key : keys) {
+          results.add(keyOperation(key, () -> {
+            region.remove(key);
+            return keyResult(key);
+          }));
+        }
+      }
+
+      addBatchSummary(result, regionName, results);
+      
+    } catch (Exception e) {
+      result.put("success", false);
+      result.put("error", "Failed to delete data: " + e.getMessage());
+    }
+    
+    return result;
+  }
+
+  private boolean checkBatchSize(int size, Map<String, Object> result) {
+    if (size > properties.getMaxBatchSize()) {
+      result.put("success", false);
+      result.put("error", "Batch size " + size + " exceeds the maximum of "
+          + properties.getMaxBatchSize());
+      return false;
+    }
+    return true;
+  }
+
+  private Map<String, Object> keyResult(String key) {
+    Map<String, Object> keyResult = new HashMap<>();
+    keyResult.put("key", key);
+    keyResult.put("success", true);
+    return keyResult;
+  }
+
+  private Map<String, Object> keyResult(String key, Object value) {
+    Map<String, Object> keyResult = keyResult(key);
+    keyResult.put("value", PdxJson.toJsonValue(value));
+    keyResult.put("valueType", PdxJson.typeName(value));
+    keyResult.put("exists", value != null);
+    return keyResult;
+  }
+
+  private Map<String, Object> keyOperation(String key, Supplier<Map<String, Object>> operation) {
+    try {
+      return operation.get();
+    } catch (Exception e) {
+      Map<String, Object> keyResult = new HashMap<>();
+      keyResult.put("key", key);
+      keyResult.put("success", false);
+      keyResult.put("error", e.getMessage());
+      return keyResult;
+    }
+  }
+
+  private void addBatchSummary(Map<String, Object> result, String regionName,
+                               List<Map<String, Object>> results) {
+    long failed = results.stream().filter(r -> !(Boolean) r.get("success")).count();
+    result.put("success", failed == 0);
+    result.put("region", regionName);
+    result.put("results", results);
+    result.put("successCount", results.size() - failed);
+    result.put("failureCount", failed);
+    if (failed > 0) {
+      result.put("error", failed + " of " + results.size() + " keys failed");
+    }
+  }
+
+  /**
+   * Stream every entry (or only every key) of a region as newline-delimited JSON.
+   * Each member streams its primary buckets over the bulk pool in batches, reading every bucket
+   * once, and batches are written as they arrive, so memory use does not depend on the region
+   * size. A replicated region is exported by a single server.
+   */
+  @SuppressWarnings("unchecked")
+  public void exportData(String regionName, boolean keysOnly, OutputStream out) throws IOException {
+    if (clientCache == null || clientCache.isClosed()) {
+      writeLine(out, Map.of("success", false, "error", "Cache is not available"));
+      return;
+    }
+
+    ExportResultCollector collector = new ExportResultCollector(rows -> {
+      for (Object[] row : rows) {
+        writeLine(out, keysOnly ? Collections.singletonMap("key", row[1]) : toEntryData(row));
+      }
+      out.flush();
+    });
+    try {
+      Execution<Object[], Object, Long> execution = regionCatalog.isPartitioned(regionName)
+          ? FunctionService.onServers(bulkPool)
+          : FunctionService.onServer(bulkPool);
+      execution.setArguments(new Object[] {regionName, properties.getExportBatchSize(), keysOnly})
+          .withCollector(collector)
+          .execute(EXPORT_FUNCTION_ID)
+          .getResult();
+    } catch (Exception e) {
+      if (collector.getWriteFailure() != null) {
+        // The HTTP client disconnected, there is nobody left to report the error to
+        throw collector.getWriteFailure();
+      }
+      writeLine(out, Map.of("success", false, "error", "Export failed: " + e.getMessage()));
+    }
+  }
+
+  /**
+   * Read one page of rows ({@code Object[] {bucketId, key, value}}) starting after the cursor.
+   * The function runs through the region, so a partitioned region is read from the members
+   * holding its primary buckets and a replicated region from a single server. Each member
+   * returns its own sorted rows, one more than the page size so that a further page is only
+   * announced when it has rows; they are merged and cut to the page size.
+   */
+  private Page fetchPage(Region<Object, Object> region, PageCursor position, int pageSize) {
+    ResultCollector<?, ?> collector = FunctionService.onRegion(region)
+        .setArguments(new Object[] {region.getName(), position.bucketId(),
+            position.afterKeyType(), position.afterKey(), pageSize + 1, false})
+        .execute(PAGE_FUNCTION_ID);
+
+    List<Object[]> rows = new ArrayList<>();
+    for (Object memberResult : (List<?>) collector.getResult()) {
+      for (Object row : (List<?>) memberResult) {
+        rows.add((Object[]) row);
+      }
+    }
+    // Same order as the page function: bucket, key class name, key string form
+    rows.sort(Comparator.comparingInt((Object[] row) -> (Integer) row[0])
+        .thenComparing(row -> row[1].getClass().getName())
+        .thenComparing(row -> String.valueOf(row[1])));
+
+    List<Object[]> pageRows = rows.subList(0, Math.min(pageSize, rows.size()));
+
+    PageCursor next = null;
+    if (rows.size() > pageSize) {
+      Object[] last = pageRows.get(pageRows.size() - 1);
+      next = PageCursor.after((Integer) last[0], last[1]);
+    }
+    return new Page(pageRows, next);
+  }
+
+  private Map<String, Object> toEntryData(Object[] row) {
+    Map<String, Object> entryData = new HashMap<>();
+    entryData.put("key", row[1]);
+    entryData.put("value", PdxJson.toJsonValue(row[2]));
+    entryData.put("valueType", PdxJson.typeName(row[2]));
+    return entryData;
+  }
+
+  private void writeLine(OutputStream out, Object value) throws IOException {
+    out.write(objectMapper.writeValueAsBytes(value));
+    out.write('\n');
+  }
+
+  /**
+   * One page of rows and the cursor of the following page (null when the scan is complete).
+   */
+  private record Page(List<Object[]> rows, PageCursor next) {
+  }
+
+  /**
+   * Put a JSON request body into a region. JSON objects are stored as PDX without being
+   * bound to Java maps first.
+   */
+  public Map<String, Object> putJson(String regionName, String key, byte[] json) {
+    Object value;
+    try {
+      value = PdxJson.fromJson(objectMapper, json);
+    } catch (Exception e) {
+      Map<String, Object> result = new HashMap<>();
+      result.put("success", false);
+      result.put("error", "Invalid JSON value: " + e.getMessage());
+      return result;
+    }
+    return putValue(regionName, key, value);
+  }
+
+  /**
+   * Put a key-value pair into a region. Maps are stored as PDX.
+   */
+  public Map<String, Object> putData(String regionName, String key, Object value) {
+    Object storedValue;
+    try {
+      storedValue = PdxJson.toStoredValue(objectMapper, value);
+    } catch (Exception e) {
+      Map<String, Object> result = new HashMap<>();
+      result.put("success", false);
+      result.put("error", "Invalid value: " + e.getMessage());
+      return result;
+    }
+    return putValue(regionName, key, storedValue);
+  }
+
+  private Map<String, Object> putValue(String regionName, String key, Object value) {
+    Map<String, Object> result = new HashMap<>();
+    
+    if (clientCache == null || clientCache.isClosed()) {
+      result.put("success", false);
+      result.put("error", "Cache is not available");
+      return result;
+    }
+
+    try {
+      Region<Object, Object> region;
+      try {
+        region = regionRegistry.getRegion(regionName);
+      } catch (Exception e) {
+        result.put("success", false);
+        result.put("error", "Region not found and could not create proxy: " + regionName);
+        return result;
       }
 
       region.put(key, value);
@@ -220,18 +595,13 @@ public class DataService {
     }
 
     try {
-      Region<Object, Object> region = clientCache.getRegion(regionName);
-      
-      // If region is not proxied, try to create a proxy
-      if (region == null) {
-        try {
-          region = clientCache.createClientRegionFactory(ClientRegionShortcut.PROXY)
-              .create(regionName);
-        } catch (Exception e) {
-          result.put("success", false);
-          result.put("error", "Region not found and could not create proxy: " + regionName);
-          return result;
-        }
+      Region<Object, Object> region;
+      try {
+        region = regionRegistry.getRegion(regionName);
+      } catch (Exception e) {
+        result.put("success", false);
+        result.put("error", "Region not found and could not create proxy: " + regionName);
+        return result;
       }
 
       Object removedValue = region.remove(key);
@@ -240,7 +610,7 @@ public class DataService {
       result.put("message", "Data deleted successfully");
       result.put("region", regionName);
       result.put("key", key);
-      result.put("removedValue", removedValue);
+      result.put("removedValue", PdxJson.toJsonValue(removedValue));
       
     } catch (Exception e) {
       result.put("success", false);
@@ -0,0 +1,121 @@
+package com.nick.geode.databrowser.service;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Writes the batches of the server-side export function as members send them, so at most one
+ * batch is held in memory whatever the region size. Batches are lists of
+ * {@code Object[] {bucketId, key, value}}; the result is the number of rows written.
+ */
+class ExportResultCollector implements ResultCollector<Object, Long> {
+
+  /**
+   * Writes one batch of rows to the export response.
+   */
+  interface BatchWriter {
+
+    void write(List<Object[]> rows) throws IOException;
+  }
+
+  private final BatchWriter writer;
+  // A lock rather than synchronized, so a virtual thread blocked on the client is not pinned
+  private final ReentrantLock lock = new ReentrantLock();
+  private final CountDownLatch done = new CountDownLatch(1);
+  private long rowCount;
+  private Throwable failure;
+  private IOException writeFailure;
+
+  ExportResultCollector(BatchWriter writer) {
+    this.writer = writer;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void addResult(DistributedMember member, Object result) {
+    lock.lock();
+    try {
+      if (result instanceof Throwable) {
+        failure = (Throwable) result;
+        return;
+      }
+      if (writeFailure != null) {
+        return;
+      }
+      List<Object[]> rows = (List<Object[]>) result;
+      try {
+        writer.write(rows);
+      } catch (IOException e) {
+        // Abort the execution rather than reading the rest of the region for nobody
+        writeFailure = e;
+        throw new UncheckedIOException(e);
+      }
+      rowCount += rows.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void endResults() {
+    done.countDown();
+  }
+
+  @Override
+  public void clearResults() {
+    // Only called before an HA retry, and the export function is not HA
+  }
+
+  /**
+   * The error writing to the export response, if any, which means the HTTP client went away.
+   */
+  IOException getWriteFailure() {
+    lock.lock();
+    try {
+      return writeFailure;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public Long getResult() throws FunctionException {
+    try {
+      done.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new FunctionException("Interrupted while waiting for export results", e);
+    }
+    return result();
+  }
+
+  @Override
+  public Long getResult(long timeout, TimeUnit unit)
+      throws FunctionException, InterruptedException {
+    if (!done.await(timeout, unit)) {
+      throw new FunctionException("Export timed out after " + unit.toMillis(timeout) + "ms");
+    }
+    return result();
+  }
+
+  private Long result() {
+    lock.lock();
+    try {
+      if (failure != null) {
+        throw new FunctionException("Export failed on a member: " + failure.getMessage(),
+            failure);
+      }
+      return rowCount;
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,238 @@
+package com.nick.geode.databrowser.service;
+
+import com.nick.geode.databrowser.config.DataBrowserProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+import javax.management.Attribute;
+import javax.management.MBeanServerConnection;
+import javax.management.ObjectName;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-member metrics read from the locator's JMX manager, which federates the
+ * {@code MemberMXBean}, {@code CacheServerMXBean} and {@code RegionMXBean} of every member.
+ * A client cache cannot see the other members itself. One background thread connects and
+ * reloads the metrics every {@code geode.browser.jmx.ttl}, or sooner through {@link #reload};
+ * callers only read the last result, so a request never waits on an RMI connection.
+ */
+@Component
+public class MemberMetrics {
+
+  private static final String MEMBER_MBEANS = "GemFire:type=Member,*";
+
+  /**
+   * MBean attribute to response field, for each kind of member MBean.
+   */
+  private static final Map<String, String> MEMBER_ATTRIBUTES = fields(
+      "Id", "id",
+      "Name", "name",
+      "Host", "host",
+      "Groups", "groups",
+      "Server", "server",
+      "Locator", "locator",
+      "Manager", "manager",
+      "MemberUpTime", "upTimeSeconds",
+      "UsedMemory", "heapUsedMb",
+      "MaxMemory", "heapMaxMb",
+      "OffHeapUsedMemory", "offHeapUsedBytes",
+      "OffHeapMaxMemory", "offHeapMaxBytes",
+      "CpuUsage", "cpuUsage",
+      "HostCpuUsage", "hostCpuUsage",
+      "GarbageCollectionCount", "gcCount",
+      "GarbageCollectionTime", "gcTimeMs",
+      "GetsRate", "getsPerSecond",
+      "PutsRate", "putsPerSecond",
+      "TotalRegionCount", "regionCount",
+      "TotalRegionEntryCount", "entryCount");
+  private static final Map<String, String> CACHE_SERVER_ATTRIBUTES = fields(
+      "Port", "port",
+      "ClientConnectionCount", "clientConnections",
+      "CurrentClients", "clients");
+  private static final Map<String, String> REGION_ATTRIBUTES = fields(
+      "Name", "name",
+      "EntryCount", "entryCount",
+      "GetsRate", "getsPerSecond",
+      "PutsRate", "putsPerSecond");
+
+  private final DataBrowserProperties.Jmx settings;
+  private final ScheduledExecutorService scheduler;
+
+  private volatile Snapshot snapshot;
+  private volatile String error;
+  private JMXConnector connector;
+
+  @Autowired
+  public MemberMetrics(DataBrowserProperties properties) {
+    this.settings = properties.getJmx();
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("member-metrics-refresh").daemon().factory());
+    scheduler.scheduleWithFixedDelay(this::refresh, 0,
+        Math.max(1, settings.getTtl().toMillis()), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Every member with its metrics, cache servers and hosted regions, sorted by name, as last
+   * read by the background thread.
+   *
+   * @throws IllegalStateException if the metrics have not been read from the JMX manager yet
+   */
+  public Snapshot getSnapshot() {
+    Snapshot current = snapshot;
+    if (current == null) {
+      String reason = error;
+      throw new IllegalStateException(reason != null
+          ? reason
+          : "Member metrics are not available yet");
+    }
+    return current;
+  }
+
+  /**
+   * Reload the metrics now, for callers that know the members changed, and wait until the
+   * background thread has done so. A failure keeps the previous metrics, as on the timer.
+   */
+  public void reload() throws InterruptedException {
+    try {
+      scheduler.submit(this::refresh).get();
+    } catch (ExecutionException | RejectedExecutionException e) {
+      // refresh() handles its own failures; rejected only while shutting down
+    }
+  }
+
+  /**
+   * Runs on the background thread only. A failure keeps the previous metrics and is reported
+   * to callers until some metrics have been read.
+   */
+  private void refresh() {
+    try {
+      snapshot = new Snapshot(load(connection()), System.currentTimeMillis());
+      error = null;
+    } catch (Exception e) {
+      disconnect();
+      error = "JMX manager at " + settings.getHost() + ":" + settings.getPort()
+          + " is not available: " + e.getMessage();
+    }
+  }
+
+  /**
+   * Read all member-level MBeans and group them by member.
+   */
+  @SuppressWarnings("unchecked")
+  private List<Map<String, Object>> load(MBeanServerConnection connection) throws Exception {
+    Map<String, Map<String, Object>> members = new TreeMap<>();
+    for (ObjectName name : connection.queryNames(new ObjectName(MEMBER_MBEANS), null)) {
+      String memberName = name.getKeyProperty("member");
+      if (memberName == null) {
+        continue;
+      }
+      Map<String, Object> member = members.computeIfAbsent(memberName, key -> {
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("name", key);
+        info.put("cacheServers", new ArrayList<Map<String, Object>>());
+        info.put("regions", new ArrayList<Map<String, Object>>());
+        return info;
+      });
+
+      String service = name.getKeyProperty("service");
+      if (service == null) {
+        member.putAll(read(connection, name, MEMBER_ATTRIBUTES));
+      } else if ("CacheServer".equals(service)) {
+        ((List<Map<String, Object>>) member.get("cacheServers"))
+            .add(read(connection, name, CACHE_SERVER_ATTRIBUTES));
+      } else if ("Region".equals(service)) {
+        ((List<Map<String, Object>>) member.get("regions"))
+            .add(read(connection, name, REGION_ATTRIBUTES));
+      }
+    }
+
+    for (Map<String, Object> member : members.values()) {
+      List<Map<String, Object>> cacheServers =
+          (List<Map<String, Object>>) member.get("cacheServers");
+      int clientConnections = 0;
+      for (Map<String, Object> cacheServer : cacheServers) {
+        Object count = cacheServer.get("clientConnections");
+        clientConnections += count instanceof Number ? ((Number) count).intValue() : 0;
+      }
+      member.put("clientConnections", clientConnections);
+      ((List<Map<String, Object>>) member.get("regions"))
+          .sort(Comparator.comparing(region -> String.valueOf(region.get("name"))));
+    }
+    return List.copyOf(members.values());
+  }
+
+  /**
+   * Fetch the attributes of one MBean in a single call.
+   */
+  private Map<String, Object> read(MBeanServerConnection connection, ObjectName name,
+                                   Map<String, String> fields) throws Exception {
+    Map<String, Object> values = new LinkedHashMap<>();
+    String[] attributes = fields.keySet().toArray(new String[0]);
+    for (Attribute attribute : connection.getAttributes(name, attributes).asList()) {
+      Object value = attribute.getValue();
+      if (value instanceof Object[]) {
+        value = Arrays.asList((Object[]) value);
+      }
+      values.put(fields.get(attribute.getName()), value);
+    }
+    return values;
+  }
+
+  private synchronized MBeanServerConnection connection() throws IOException {
+    if (connector == null) {
+      JMXServiceURL url = new JMXServiceURL("service:jmx:rmi:///jndi/rmi://"
+          + settings.getHost() + ":" + settings.getPort() + "/jmxrmi");
+      connector = JMXConnectorFactory.connect(url);
+    }
+    return connector.getMBeanServerConnection();
+  }
+
+  @PreDestroy
+  public void close() {
+    scheduler.shutdownNow();
+    disconnect();
+  }
+
+  private synchronized void disconnect() {
+    if (connector != null) {
+      try {
+        connector.close();
+      } catch (IOException e) {
+        // The connection is being dropped anyway
+      }
+      connector = null;
+    }
+  }
+
+  private static Map<String, String> fields(String... pairs) {
+    Map<String, String> fields = new LinkedHashMap<>();
+    for (int i = 0; i < pairs.length; i += 2) {
+      fields.put(pairs[i], pairs[i + 1]);
+    }
+    return fields;
+  }
+
+  /**
+   * Member metrics and when they were read from the JMX manager.
+   */
+  public record Snapshot(List<Map<String, Object>> members, long loadedAt) {
+  }
+}
@@ -0,0 +1,218 @@
+package com.nick.geode.databrowser.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nick.geode.databrowser.config.DataBrowserProperties;
+import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.Struct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Service for running OQL queries on the data servers through the bulk pool.
+ * Filtering and projection happen on the servers; every query carries a LIMIT.
+ * Comments, a LIMIT that is not a trailing number and a {@code where} that escapes its
+ * parentheses are rejected, so the appended LIMIT cannot be commented out or doubled.
+ */
+@Service
+public class OqlQueryService {
+
+  private static final Pattern LIMIT_CLAUSE =
+      Pattern.compile("LIMIT\\s+(\\d+)\\s*$", Pattern.CASE_INSENSITIVE);
+  private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+  private static final Pattern REGION_NAME = Pattern.compile("[A-Za-z0-9_-]+");
+
+  private final Pool bulkPool;
+  private final DataBrowserProperties.Query settings;
+  private final ObjectMapper objectMapper;
+
+  @Autowired
+  public OqlQueryService(Pool bulkPool, DataBrowserProperties properties,
+                         ObjectMapper objectMapper) {
+    this.bulkPool = bulkPool;
+    this.settings = properties.getQuery();
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Build the OQL to run for a request, enforcing the result limit.
+   *
+   * @throws IllegalArgumentException if the request is invalid
+   */
+  public String buildQuery(QueryRequest request) {
+    int limit = request.limit() != null ? request.limit() : settings.getDefaultLimit();
+    if (limit <= 0 || limit > settings.getMaxLimit()) {
+      throw new IllegalArgumentException(
+          "limit must be between 1 and " + settings.getMaxLimit());
+    }
+
+    if (request.query() != null && !request.query().isBlank()) {
+      String oql = request.query().trim();
+      List<Integer> limits = topLevelLimits(oql, "query");
+      if (!limits.isEmpty()) {
+        Matcher matcher = LIMIT_CLAUSE.matcher(oql).region(limits.get(0), oql.length());
+        if (limits.size() > 1 || !matcher.matches()) {
+          throw new IllegalArgumentException(
+              "The LIMIT of a query must be a number at the end of the query");
+        }
+        // Keep the smaller of the query's own limit and the requested one
+        limit = Math.min(limit, Integer.parseInt(matcher.group(1)));
+        oql = oql.substring(0, limits.get(0)).trim();
+      }
+      return oql + " LIMIT " + limit;
+    }
+
+    if (request.region() == null || !REGION_NAME.matcher(request.region()).matches()) {
+      throw new IllegalArgumentException("Either query or a valid region must be given");
+    }
+
+    String projection = "*";
+    List<String> fields = request.fields();
+    if (fields != null && !fields.isEmpty()) {
+      for (String field : fields) {
+        if (!IDENTIFIER.matcher(field).matches()) {
+          throw new IllegalArgumentException("Invalid field name: " + field);
+        }
+      }
+      projection = fields.stream()
+          .map(field -> field + ": e." + field)
+          .collect(Collectors.joining(", "));
+    }
+
+    StringBuilder oql = new StringBuilder("SELECT ").append(projection)
+        .append(" FROM /").append(request.region()).append(" e");
+    if (request.where() != null && !request.where().isBlank()) {
+      if (!topLevelLimits(request.where(), "where").isEmpty()) {
+        throw new IllegalArgumentException("where must not contain a LIMIT");
+      }
+      // Balanced parentheses keep the condition inside its own group
+      oql.append(" WHERE (").append(request.where().trim()).append(")");
+    }
+    return oql.append(" LIMIT ").append(limit).toString();
+  }
+
+  /**
+   * Find the LIMIT keywords outside string literals and parentheses.
+   *
+   * @throws IllegalArgumentException if the text contains a comment, an unterminated
+   *     string literal or unbalanced parentheses
+   */
+  private static List<Integer> topLevelLimits(String oql, String what) {
+    List<Integer> limits = new ArrayList<>();
+    int depth = 0;
+    int i = 0;
+    while (i < oql.length()) {
+      char c = oql.charAt(i);
+      if (c == '\'' || c == '"') {
+        // A doubled quote inside a literal is an escaped quote
+        int end = i + 1;
+        while (end < oql.length()
+            && (oql.charAt(end) != c || end + 1 < oql.length() && oql.charAt(end + 1) == c)) {
+          end += oql.charAt(end) == c ? 2 : 1;
+        }
+        if (end >= oql.length()) {
+          throw new IllegalArgumentException("Unterminated string literal in " + what);
+        }
+        i = end + 1;
+      } else if (oql.startsWith("--", i) || oql.startsWith("/*", i)) {
+        throw new IllegalArgumentException("Comments are not allowed in " + what);
+      } else if (c == '(') {
+        depth++;
+        i++;
+      } else if (c == ')') {
+        if (--depth < 0) {
+          throw new IllegalArgumentException("Unbalanced parentheses in " + what);
+        }
+        i++;
+      } else if (Character.isLetterOrDigit(c) || c == '_' || c == '$') {
+        int end = i;
+        while (end < oql.length() && (Character.isLetterOrDigit(oql.charAt(end))
+            || oql.charAt(end) == '_' || oql.charAt(end) == '$')) {
+          end++;
+        }
+        // e.limit is a field, not the clause
+        boolean field = i > 0 && oql.charAt(i - 1) == '.';
+        if (depth == 0 && !field && oql.substring(i, end).equalsIgnoreCase("LIMIT")) {
+          limits.add(i);
+        }
+        i = end;
+      } else {
+        i++;
+      }
+    }
+    if (depth != 0) {
+      throw new IllegalArgumentException("Unbalanced parentheses in " + what);
+    }
+    return limits;
+  }
+
+  /**
+   * Execute OQL on the servers with the configured timeout.
+   *
+   * @throws TimeoutException if the query does not complete in time
+   * @throws Exception if the query fails
+   */
+  public SelectResults<?> execute(String oql, List<Object> params) throws Exception {
+    Object[] bindParameters = params != null ? params.toArray() : new Object[0];
+    FutureTask<Object> task = new FutureTask<>(() ->
+        bulkPool.getQueryService().newQuery(oql).execute(bindParameters));
+    Thread.ofVirtual().name("oql-query").start(task);
+
+    try {
+      return (SelectResults<?>) task.get(settings.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      task.cancel(true);
+      throw new TimeoutException("Query timed out after " + settings.getTimeout());
+    } catch (ExecutionException e) {
+      throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+    }
+  }
+
+  /**
+   * Serialize query results row by row, without building an intermediate response map.
+   */
+  public void writeResults(String oql, SelectResults<?> results, OutputStream out)
+      throws IOException {
+    JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+    generator.writeStartObject();
+    generator.writeBooleanField("success", true);
+    generator.writeStringField("query", oql);
+    generator.writeNumberField("count", results.size());
+    generator.writeArrayFieldStart("results");
+    for (Object row : results) {
+      objectMapper.writeValue(generator, toJsonValue(row));
+    }
+    generator.writeEndArray();
+    generator.writeEndObject();
+    generator.flush();
+  }
+
+  private Object toJsonValue(Object row) {
+    if (row instanceof Struct) {
+      Struct struct = (Struct) row;
+      String[] names = struct.getStructType().getFieldNames();
+      Object[] values = struct.getFieldValues();
+      Map<String, Object> fields = new LinkedHashMap<>();
+      for (int i = 0; i < names.length; i++) {
+        fields.put(names[i], PdxJson.toJsonValue(values[i]));
+      }
+      return fields;
+    }
+    return PdxJson.toJsonValue(row);
+  }
+}
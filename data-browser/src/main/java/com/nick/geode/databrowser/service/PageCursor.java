@@ -0,0 +1,61 @@
+package com.nick.geode.databrowser.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of a paged region scan: the bucket being read and the last key returned from it,
+ * as its class name and string form, so keys such as {@code 1} and {@code "1"} stay apart.
+ * Encoded as an opaque URL-safe token for REST clients.
+ */
+public record PageCursor(int bucketId, String afterKeyType, String afterKey) {
+
+  /**
+   * Cursor pointing at the first entry of the region.
+   */
+  public static final PageCursor START = new PageCursor(0, null, null);
+
+  /**
+   * Cursor resuming after the given key of the given bucket.
+   */
+  public static PageCursor after(int bucketId, Object key) {
+    return new PageCursor(bucketId, key.getClass().getName(), String.valueOf(key));
+  }
+
+  /**
+   * Encode this cursor as an opaque continuation token.
+   */
+  public String encode() {
+    // Class names never contain ':', so the key itself may
+    String raw = afterKey != null
+        ? bucketId + ":" + afterKeyType + ":" + afterKey
+        : String.valueOf(bucketId);
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decode a continuation token. A null or empty token means the start of the region.
+   */
+  public static PageCursor decode(String token) {
+    if (token == null || token.isEmpty()) {
+      return START;
+    }
+
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int bucketEnd = raw.indexOf(':');
+      if (bucketEnd < 0) {
+        return new PageCursor(Integer.parseInt(raw), null, null);
+      }
+      int typeEnd = raw.indexOf(':', bucketEnd + 1);
+      if (typeEnd <= bucketEnd + 1) {
+        throw new IllegalArgumentException("Missing key type");
+      }
+      return new PageCursor(Integer.parseInt(raw.substring(0, bucketEnd)),
+          raw.substring(bucketEnd + 1, typeEnd), raw.substring(typeEnd + 1));
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Invalid cursor: " + token, e);
+    }
+  }
+}
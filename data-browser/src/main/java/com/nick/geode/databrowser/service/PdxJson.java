@@ -0,0 +1,108 @@
+package com.nick.geode.databrowser.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import org.apache.geode.pdx.JSONFormatter;
+import org.apache.geode.pdx.PdxInstance;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Conversions between JSON and region values.
+ * JSON objects are stored as PDX through {@link JSONFormatter}, so the servers keep them
+ * serialized and need no domain class; other JSON values (strings, numbers, booleans,
+ * arrays) are stored as their Java types.
+ */
+final class PdxJson {
+
+  private PdxJson() {
+  }
+
+  /**
+   * The value to store for a JSON request body.
+   */
+  static Object fromJson(ObjectMapper objectMapper, byte[] json) throws IOException {
+    if (isJsonObject(json)) {
+      return JSONFormatter.fromJSON(json);
+    }
+    return objectMapper.readValue(json, Object.class);
+  }
+
+  /**
+   * The values to store for a JSON object of key-value pairs. The body is read as a token
+   * stream and each JSON object value is handed to {@link JSONFormatter} as its own bytes, so
+   * it is never bound to a Java map and written out again.
+   */
+  static Map<String, Object> fromJsonEntries(ObjectMapper objectMapper, byte[] json)
+      throws IOException {
+    Map<String, Object> values = new LinkedHashMap<>();
+    try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new JsonParseException(parser, "Expected a JSON object of key-value pairs");
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String key = parser.currentName();
+        if (parser.nextToken() == JsonToken.START_OBJECT) {
+          int start = (int) parser.currentTokenLocation().getByteOffset();
+          parser.skipChildren();
+          int end = (int) parser.currentLocation().getByteOffset();
+          values.put(key, JSONFormatter.fromJSON(Arrays.copyOfRange(json, start, end)));
+        } else {
+          values.put(key, objectMapper.readValue(parser, Object.class));
+        }
+      }
+    }
+    return values;
+  }
+
+  /**
+   * The value to store for a value that is already a Java object, for callers that build
+   * entries in code; maps become PDX. Request bodies go through {@link #fromJson} and
+   * {@link #fromJsonEntries} instead.
+   */
+  static Object toStoredValue(ObjectMapper objectMapper, Object value) throws IOException {
+    if (value instanceof Map) {
+      return JSONFormatter.fromJSON(objectMapper.writeValueAsBytes(value));
+    }
+    return value;
+  }
+
+  /**
+   * The value to put in a response: PDX values are written as their JSON, straight from the
+   * serialized fields, and everything else is left to Jackson.
+   */
+  static Object toJsonValue(Object value) {
+    if (value instanceof PdxInstance) {
+      return new RawValue(JSONFormatter.toJSON((PdxInstance) value));
+    }
+    return value;
+  }
+
+  /**
+   * Type shown next to a value; the PDX class name for PDX values.
+   */
+  static String typeName(Object value) {
+    if (value == null) {
+      return null;
+    }
+    if (value instanceof PdxInstance) {
+      return ((PdxInstance) value).getClassName();
+    }
+    return value.getClass().getName();
+  }
+
+  private static boolean isJsonObject(byte[] json) {
+    for (byte b : json) {
+      if (!Character.isWhitespace(b)) {
+        return b == '{';
+      }
+    }
+    return false;
+  }
+}
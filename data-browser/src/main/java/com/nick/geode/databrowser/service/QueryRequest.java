@@ -0,0 +1,17 @@
+package com.nick.geode.databrowser.service;
+
+import java.util.List;
+
+/**
+ * OQL query submitted to {@code /api/query}.
+ * Either {@code query} is given as full OQL, or the query is built from {@code region},
+ * {@code where} and {@code fields}. Bind parameters are referenced as {@code $1, $2, ...}.
+ */
+public record QueryRequest(
+    String query,
+    String region,
+    String where,
+    List<String> fields,
+    List<Object> params,
+    Integer limit) {
+}
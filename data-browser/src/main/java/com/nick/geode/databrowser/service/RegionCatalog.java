@@ -0,0 +1,171 @@
+package com.nick.geode.databrowser.service;
+
+import com.nick.geode.databrowser.config.DataBrowserProperties;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Cluster-wide catalog of server regions, fetched from every member with one function call.
+ * The catalog is cached for {@code geode.browser.catalog.ttl}; once stale it is still served
+ * while a single background refresh runs, so page loads never wait on the servers.
+ */
+@Component
+public class RegionCatalog {
+
+  /**
+   * Id of the catalog function registered on the data servers.
+   */
+  static final String CATALOG_FUNCTION_ID = "browser.region-catalog";
+
+  private final ClientCache clientCache;
+  private final DataBrowserProperties properties;
+  private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+  private volatile Snapshot snapshot;
+
+  @Autowired
+  public RegionCatalog(ClientCache clientCache, DataBrowserProperties properties) {
+    this.clientCache = clientCache;
+    this.properties = properties;
+  }
+
+  /**
+   * Every region on the servers with its combined statistics, sorted by name.
+   *
+   * @throws RuntimeException if there is no cached catalog yet and the servers cannot be reached
+   */
+  public List<Map<String, Object>> getRegions() {
+    Snapshot current = snapshot;
+    if (current == null) {
+      return refresh().regions();
+    }
+    refreshIfStale(current);
+    return current.regions();
+  }
+
+  /**
+   * Whether the cached catalog lists the region. Never contacts the servers on the calling
+   * thread: without a catalog yet this answers false and loads one in the background.
+   */
+  public boolean contains(String regionName) {
+    Snapshot current = snapshot;
+    refreshIfStale(current);
+    return current != null && current.names().contains(regionName);
+  }
+
+  /**
+   * Whether the region is partitioned. Loads the catalog on the calling thread when the cached
+   * one does not list the region, e.g. right after the region was created.
+   *
+   * @throws IllegalArgumentException if no server hosts the region
+   */
+  public boolean isPartitioned(String regionName) {
+    Snapshot current = snapshot;
+    if (current == null || !current.names().contains(regionName)) {
+      current = refresh();
+    }
+    return current.regions().stream()
+        .filter(region -> regionName.equals(region.get("name")))
+        .findFirst()
+        .map(region -> Boolean.TRUE.equals(region.get("partitioned")))
+        .orElseThrow(() -> new IllegalArgumentException("Region not found: " + regionName));
+  }
+
+  private void refreshIfStale(Snapshot current) {
+    long ttlMillis = properties.getCatalog().getTtl().toMillis();
+    boolean stale = current == null || System.currentTimeMillis() - current.loadedAt() > ttlMillis;
+    if (stale && refreshing.compareAndSet(false, true)) {
+      Thread.ofVirtual().name("region-catalog-refresh").start(() -> {
+        try {
+          refresh();
+        } catch (Exception e) {
+          // Keep serving the previous catalog; the next request retries
+        } finally {
+          refreshing.set(false);
+        }
+      });
+    }
+  }
+
+  /**
+   * Drop the cached catalog, e.g. after a region was created or deleted.
+   */
+  public void invalidate() {
+    snapshot = null;
+  }
+
+  private Snapshot refresh() {
+    ResultCollector<?, ?> collector = FunctionService.onServers(clientCache.getDefaultPool())
+        .execute(CATALOG_FUNCTION_ID);
+
+    Map<String, Map<String, Object>> regions = new TreeMap<>();
+    for (Object memberResult : (List<?>) collector.getResult()) {
+      for (Object row : (List<?>) memberResult) {
+        merge(regions, (Map<?, ?>) row);
+      }
+    }
+
+    Snapshot fresh = new Snapshot(List.copyOf(regions.values()), System.currentTimeMillis());
+    snapshot = fresh;
+    return fresh;
+  }
+
+  /**
+   * Combine one member's row into the region's cluster-wide entry. Partitioned regions report
+   * primary entries per member, so counts are summed; replicated regions report their full
+   * size on every member, so the largest count is kept.
+   */
+  @SuppressWarnings("unchecked")
+  private void merge(Map<String, Map<String, Object>> regions, Map<?, ?> row) {
+    String name = (String) row.get("name");
+    boolean partitioned = Boolean.TRUE.equals(row.get("partitioned"));
+    long entries = ((Number) row.get("entryCount")).longValue();
+    long memory = ((Number) row.get("memoryBytes")).longValue();
+
+    Map<String, Object> region = regions.computeIfAbsent(name, key -> {
+      Map<String, Object> info = new HashMap<>();
+      info.put("name", name);
+      info.put("fullPath", row.get("fullPath"));
+      info.put("dataPolicy", row.get("dataPolicy"));
+      info.put("partitioned", partitioned);
+      info.put("size", 0L);
+      info.put("memoryBytes", 0L);
+      info.put("primaryBuckets", 0);
+      info.put("secondaryBuckets", 0);
+      info.put("members", new ArrayList<String>());
+      return info;
+    });
+
+    long size = (Long) region.get("size");
+    region.put("size", partitioned ? size + entries : Math.max(size, entries));
+    if (memory >= 0) {
+      region.put("memoryBytes", (Long) region.get("memoryBytes") + memory);
+    }
+    region.put("primaryBuckets",
+        (Integer) region.get("primaryBuckets") + ((Number) row.get("primaryBuckets")).intValue());
+    region.put("secondaryBuckets",
+        (Integer) region.get("secondaryBuckets") + ((Number) row.get("secondaryBuckets")).intValue());
+    ((List<String>) region.get("members")).add((String) row.get("member"));
+  }
+
+  private record Snapshot(List<Map<String, Object>> regions, Set<String> names, long loadedAt) {
+
+    Snapshot(List<Map<String, Object>> regions, long loadedAt) {
+      this(regions, regions.stream()
+          .map(region -> (String) region.get("name"))
+          .collect(Collectors.toUnmodifiableSet()), loadedAt);
+    }
+  }
+}
@@ -19,17 +19,25 @@ public class RegionManagementClientService {
 
   private final RestTemplate restTemplate;
   private final DataBrowserProperties properties;
+  private final RegionRegistry regionRegistry;
+  private final RegionCatalog regionCatalog;
 
   @Autowired
-  public RegionManagementClientService(DataBrowserProperties properties) {
+  public RegionManagementClientService(DataBrowserProperties properties,
+                                       RegionRegistry regionRegistry,
+                                       RegionCatalog regionCatalog) {
     this.restTemplate = new RestTemplate();
     this.properties = properties;
+    this.regionRegistry = regionRegistry;
+    this.regionCatalog = regionCatalog;
   }
 
   /**
-   * Create a region on the data server.
+   * Create a region on the data server, passing along an optional region spec
+   * (partitioning, eviction and expiration options).
    */
-  public Map<String, Object> createRegion(String regionName, String regionType) {
+  public Map<String, Object> createRegion(String regionName, String regionType,
+                                          Map<String, Object> spec) {
     Map<String, Object> result = new HashMap<>();
     
     try {
@@ -38,9 +46,10 @@ public class RegionManagementClientService {
         url += "?type=" + regionType;
       }
       
-      ResponseEntity<Map> response = restTemplate.postForEntity(url, null, Map.class);
+      ResponseEntity<Map> response = restTemplate.postForEntity(url, spec, Map.class);
       
       if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+        regionCatalog.invalidate();
         return response.getBody();
       } else {
         result.put("success", false);
@@ -69,6 +78,9 @@ public class RegionManagementClientService {
           org.springframework.http.HttpMethod.DELETE, null, Map.class);
       
       if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+        // The server-side region is gone, so the cached client proxy is stale
+        regionRegistry.invalidate(regionName);
+        regionCatalog.invalidate();
         return response.getBody();
       } else {
         result.put("success", false);
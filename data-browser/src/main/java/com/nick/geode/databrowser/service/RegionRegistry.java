@@ -0,0 +1,119 @@
+package com.nick.geode.databrowser.service;
+
+import com.nick.geode.databrowser.config.DataBrowserProperties;
+import org.apache.geode.cache.EvictionAttributes;
+import org.apache.geode.cache.ExpirationAction;
+import org.apache.geode.cache.ExpirationAttributes;
+import org.apache.geode.cache.InterestResultPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.ClientRegionFactory;
+import org.apache.geode.cache.client.ClientRegionShortcut;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of client region handles shared by all services.
+ * Each region proxy is resolved or created exactly once, even under concurrent requests.
+ */
+@Component
+public class RegionRegistry {
+
+  private final ClientCache clientCache;
+  private final DataBrowserProperties properties;
+  private final Map<String, Region<Object, Object>> regions = new ConcurrentHashMap<>();
+
+  @Autowired
+  public RegionRegistry(ClientCache clientCache, DataBrowserProperties properties) {
+    this.clientCache = clientCache;
+    this.properties = properties;
+  }
+
+  /**
+   * Get the client region for the given name, creating it on first use.
+   * Regions configured under {@code geode.browser.near-cache} become CACHING_PROXY regions,
+   * all others PROXY regions.
+   *
+   * @throws IllegalStateException if the cache is closed
+   * @throws RuntimeException if the proxy cannot be created
+   */
+  public Region<Object, Object> getRegion(String regionName) {
+    if (clientCache == null || clientCache.isClosed()) {
+      throw new IllegalStateException("Cache is not available");
+    }
+
+    Region<Object, Object> region = regions.computeIfAbsent(regionName, this::resolve);
+    if (region.isDestroyed()) {
+      // Destroyed behind our back (e.g. by another tool); drop the stale handle and retry once
+      regions.remove(regionName, region);
+      region = regions.computeIfAbsent(regionName, this::resolve);
+    }
+    return region;
+  }
+
+  /**
+   * Forget the handle for a region that no longer exists on the servers.
+   */
+  public void invalidate(String regionName) {
+    Region<Object, Object> region = regions.remove(regionName);
+    if (region == null) {
+      region = clientCache.getRegion(regionName);
+    }
+    if (region != null && !region.isDestroyed()) {
+      try {
+        region.localDestroyRegion();
+      } catch (Exception e) {
+        // Already gone locally
+      }
+    }
+  }
+
+  private Region<Object, Object> resolve(String regionName) {
+    Region<Object, Object> region = clientCache.getRegion(regionName);
+    if (region != null) {
+      return region;
+    }
+
+    DataBrowserProperties.NearCache nearCache = properties.getNearCache().get(regionName);
+    if (nearCache == null) {
+      return clientCache.<Object, Object>createClientRegionFactory(ClientRegionShortcut.PROXY)
+          .create(regionName);
+    }
+    return createNearCache(regionName, nearCache);
+  }
+
+  private Region<Object, Object> createNearCache(String regionName,
+                                                 DataBrowserProperties.NearCache nearCache) {
+    ClientRegionFactory<Object, Object> factory =
+        clientCache.createClientRegionFactory(ClientRegionShortcut.CACHING_PROXY);
+    // Statistics back both the TTL expiration and the hit/miss counters
+    factory.setStatisticsEnabled(true);
+
+    switch (nearCache.getEviction()) {
+      case ENTRY_COUNT ->
+          factory.setEvictionAttributes(
+              EvictionAttributes.createLRUEntryAttributes(nearCache.getMaxEntries()));
+      case HEAP_PERCENTAGE ->
+          factory.setEvictionAttributes(EvictionAttributes.createLRUHeapAttributes());
+      case NONE -> {
+      }
+    }
+
+    if (!nearCache.getTimeToLive().isZero()) {
+      // Geode expires in whole seconds and 0 means never, so a sub-second TTL is rounded up
+      int seconds = (int) Math.ceilDiv(nearCache.getTimeToLive().toMillis(), 1000);
+      factory.setEntryTimeToLive(new ExpirationAttributes(seconds, ExpirationAction.LOCAL_DESTROY));
+    }
+
+    Region<Object, Object> region = factory.create(regionName);
+    if (nearCache.isRegisterInterest()) {
+      // Receive invalidations rather than values: changed keys are dropped locally and
+      // re-fetched on the next read, so the near cache stays coherent without extra traffic
+      region.registerInterestForAllKeys(InterestResultPolicy.NONE, false, false);
+    }
+    return region;
+  }
+}
@@ -1,8 +1,10 @@
 package com.nick.geode.databrowser.service;
 
+import com.nick.geode.databrowser.config.DataBrowserProperties;
+import org.apache.geode.cache.CacheStatistics;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.StatisticsDisabledException;
 import org.apache.geode.cache.client.ClientCache;
-import org.apache.geode.cache.client.ClientRegionShortcut;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -19,21 +21,35 @@ import java.util.stream.Collectors;
 public class RegionService {
 
   private final ClientCache clientCache;
+  private final RegionRegistry regionRegistry;
+  private final RegionCatalog regionCatalog;
+  private final DataBrowserProperties properties;
 
   @Autowired
-  public RegionService(ClientCache clientCache) {
+  public RegionService(ClientCache clientCache, RegionRegistry regionRegistry,
+                       RegionCatalog regionCatalog, DataBrowserProperties properties) {
     this.clientCache = clientCache;
+    this.regionRegistry = regionRegistry;
+    this.regionCatalog = regionCatalog;
+    this.properties = properties;
   }
 
   /**
-   * Get all region names in the cache.
-   * For ClientCache, this will return regions that are already proxied.
-   * To see server-side regions, we need to query them or use a different approach.
+   * Get all region names on the servers, from the cached region catalog.
+   * Falls back to the regions already proxied in the client cache if the catalog is unavailable.
    */
   public List<String> getAllRegionNames() {
     if (clientCache == null || clientCache.isClosed()) {
       return List.of();
     }
+
+    try {
+      return regionCatalog.getRegions().stream()
+          .map(region -> (String) region.get("name"))
+          .collect(Collectors.toList());
+    } catch (Exception e) {
+      // Servers without the catalog function; use what the client knows about
+    }
     
     try {
       Set<Region<?, ?>> regions = clientCache.rootRegions();
@@ -60,18 +76,12 @@ public class RegionService {
     }
 
     try {
-      Region<?, ?> region = clientCache.getRegion(regionName);
-      
-      // If region is not proxied, try to create a proxy
-      if (region == null) {
-        try {
-          // Create a PROXY region to access server-side data
-          region = clientCache.createClientRegionFactory(ClientRegionShortcut.PROXY)
-              .create(regionName);
-        } catch (Exception e) {
-          info.put("error", "Region not found and could not create proxy: " + regionName + " - " + e.getMessage());
-          return info;
-        }
+      Region<?, ?> region;
+      try {
+        region = regionRegistry.getRegion(regionName);
+      } catch (Exception e) {
+        info.put("error", "Region not found and could not create proxy: " + regionName + " - " + e.getMessage());
+        return info;
       }
 
       info.put("name", region.getName());
@@ -95,6 +105,10 @@ public class RegionService {
           region.getAttributes().getScope().toString() : "N/A");
       attributes.put("poolName", region.getAttributes().getPoolName());
       info.put("detailedAttributes", attributes);
+
+      if (properties.getNearCache().containsKey(regionName)) {
+        info.put("nearCache", getNearCacheStats(region));
+      }
       
     } catch (Exception e) {
       info.put("error", "Failed to get region info: " + e.getMessage());
@@ -104,13 +118,20 @@ public class RegionService {
   }
 
   /**
-   * Get all regions with their basic information.
-   * For ClientCache, this returns only proxied regions.
+   * Get all regions with their size, data policy, bucket counts and memory use.
+   * Served from the cached region catalog, so this never costs one round trip per region.
+   * Falls back to the regions already proxied in the client cache if the catalog is unavailable.
    */
   public List<Map<String, Object>> getAllRegionsInfo() {
     if (clientCache == null || clientCache.isClosed()) {
       return List.of();
     }
+
+    try {
+      return regionCatalog.getRegions();
+    } catch (Exception e) {
+      // Servers without the catalog function; use what the client knows about
+    }
     
     try {
       Set<Region<?, ?>> regions = clientCache.rootRegions();
@@ -132,6 +153,49 @@ public class RegionService {
     }
   }
 
+  /**
+   * Get hit/miss counters for every configured near cache, to help size them.
+   */
+  public List<Map<String, Object>> getAllNearCacheStats() {
+    if (clientCache == null || clientCache.isClosed()) {
+      return List.of();
+    }
+
+    return properties.getNearCache().keySet().stream()
+        .sorted()
+        .map(regionName -> {
+          Map<String, Object> stats;
+          Region<?, ?> region = clientCache.getRegion(regionName);
+          if (region == null) {
+            // Not used yet, so no near cache has been created
+            stats = new HashMap<>();
+            stats.put("created", false);
+          } else {
+            stats = getNearCacheStats(region);
+          }
+          stats.put("name", regionName);
+          return stats;
+        })
+        .collect(Collectors.toList());
+  }
+
+  private Map<String, Object> getNearCacheStats(Region<?, ?> region) {
+    Map<String, Object> stats = new HashMap<>();
+    stats.put("created", true);
+    stats.put("localEntries", region.keySet().size());
+    try {
+      CacheStatistics statistics = region.getStatistics();
+      long hits = statistics.getHitCount();
+      long misses = statistics.getMissCount();
+      stats.put("hitCount", hits);
+      stats.put("missCount", misses);
+      stats.put("hitRatio", hits + misses > 0 ? (double) hits / (hits + misses) : 0.0);
+    } catch (StatisticsDisabledException e) {
+      stats.put("statsError", e.getMessage());
+    }
+    return stats;
+  }
+
   /**
    * Ensure a region is proxied in the client cache.
    * This is called after creating a region on the server to make it visible.
@@ -146,21 +210,10 @@ public class RegionService {
     }
 
     try {
-      // Check if region already exists
-      Region<?, ?> region = clientCache.getRegion(regionName);
-      
-      if (region != null) {
-        result.put("success", true);
-        result.put("message", "Region already proxied");
-        return result;
-      }
-
-      // Create a PROXY region to access server-side data
-      region = clientCache.createClientRegionFactory(ClientRegionShortcut.PROXY)
-          .create(regionName);
+      Region<?, ?> region = regionRegistry.getRegion(regionName);
       
       result.put("success", true);
-      result.put("message", "Region proxy created successfully");
+      result.put("message", "Region proxy is available");
       result.put("regionName", region.getName());
       
     } catch (Exception e) {
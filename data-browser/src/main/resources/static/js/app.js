@@ -4,17 +4,19 @@ const API_BASE = '/api';
 // State
 let currentRegion = null;
 let currentData = [];
+let changeStream = null;
+let newEntryCount = 0;
+let clusterStatus = null;
+let memberMetricsTimer = null;
+let memberSort = 'operations';
 
 // Initialize
 document.addEventListener('DOMContentLoaded', () => {
     initTabs();
-    loadClusterStatus();
+    openClusterStatusStream();
     loadRegions();
     setupEventListeners();
     initCreateRegionModal();
-    
-    // Auto-refresh cluster status every 5 seconds
-    setInterval(loadClusterStatus, 5000);
 });
 
 // Tab switching
@@ -38,6 +40,13 @@ function initTabs() {
             if (tabName === 'regions') {
                 loadRegions();
             }
+            
+            // Member metrics are cached on the server; refresh only while they are shown
+            clearInterval(memberMetricsTimer);
+            if (tabName === 'members') {
+                loadMemberMetrics();
+                memberMetricsTimer = setInterval(loadMemberMetrics, 5000);
+            }
         });
     });
 }
@@ -147,18 +156,41 @@ async function createRegion() {
     }
 }
 
-// Load cluster status
-async function loadClusterStatus() {
-    try {
-        const response = await fetch(`${API_BASE}/cluster/status`);
-        const data = await response.json();
-        
-        updateClusterStatus(data);
-        updateClusterInfo(data);
-    } catch (error) {
-        console.error('Failed to load cluster status:', error);
-        updateClusterStatus({ status: 'error', error: error.message });
-    }
+// Follow the shared cluster status: the full status once, then only what changed
+function openClusterStatusStream() {
+    const stream = new EventSource(`${API_BASE}/cluster/stream`);
+    
+    stream.addEventListener('status', event => {
+        clusterStatus = JSON.parse(event.data);
+        showClusterStatus();
+    });
+    stream.addEventListener('delta', event => {
+        if (clusterStatus) {
+            applyClusterDelta(JSON.parse(event.data));
+            showClusterStatus();
+        }
+    });
+    stream.onerror = () => {
+        // EventSource reconnects by itself and receives a full status again
+        updateClusterStatus({ status: 'error', error: 'Lost connection to the data browser' });
+    };
+}
+
+// Apply a status delta to the last known status
+function applyClusterDelta(delta) {
+    Object.assign(clusterStatus, delta.set);
+    delta.unset.forEach(field => delete clusterStatus[field]);
+    
+    const members = new Map((clusterStatus.members || []).map(member => [member.id, member]));
+    delta.membersRemoved.forEach(id => members.delete(id));
+    delta.membersUpserted.forEach(member => members.set(member.id, member));
+    clusterStatus.members = Array.from(members.values());
+    clusterStatus.version = delta.version;
+}
+
+function showClusterStatus() {
+    updateClusterStatus(clusterStatus);
+    updateClusterInfo(clusterStatus);
 }
 
 // Update cluster status indicator
@@ -228,6 +260,134 @@ function updateClusterInfo(data) {
     `;
 }
 
+// Load per-member metrics from the locator's JMX manager
+async function loadMemberMetrics() {
+    const container = document.getElementById('membersInfo');
+    
+    try {
+        const response = await fetch(`${API_BASE}/cluster/members`);
+        const data = await response.json();
+        
+        if (!data.success) {
+            container.innerHTML = `
+                <div class="error">
+                    <strong>Error:</strong> ${escapeHtml(data.error || 'Failed to load member metrics')}
+                </div>
+            `;
+            return;
+        }
+        
+        displayMemberMetrics(data);
+    } catch (error) {
+        console.error('Failed to load member metrics:', error);
+        container.innerHTML = `
+            <div class="error">
+                <strong>Error:</strong> Failed to load member metrics: ${error.message}
+            </div>
+        `;
+    }
+}
+
+// Members table, hottest first; the top member by the sort column is highlighted
+function displayMemberMetrics(data) {
+    const container = document.getElementById('membersInfo');
+    const number = value => (typeof value === 'number' ? value : 0);
+    const sortValue = {
+        operations: member => number(member.getsPerSecond) + number(member.putsPerSecond),
+        heap: member => number(member.heapMaxMb) > 0 ? member.heapUsedMb / member.heapMaxMb : 0,
+        cpu: member => number(member.cpuUsage),
+        gc: member => number(member.gcTimeMs),
+        clients: member => number(member.clientConnections),
+        entries: member => number(member.entryCount)
+    }[memberSort];
+    const members = [...data.members].sort((a, b) => sortValue(b) - sortValue(a));
+    
+    const rows = members.map((member, index) => {
+        const role = member.locator ? 'Locator' : member.server ? 'Server' : 'Member';
+        const heapPercent = number(member.heapMaxMb) > 0
+            ? Math.round(100 * member.heapUsedMb / member.heapMaxMb) : 0;
+        const offHeap = number(member.offHeapMaxBytes) > 0
+            ? `${formatBytes(member.offHeapUsedBytes)} / ${formatBytes(member.offHeapMaxBytes)}` : 'N/A';
+        
+        return `
+            <tr class="${index === 0 && members.length > 1 ? 'hot-member' : ''}">
+                <td><strong>${escapeHtml(member.name)}</strong><br><small>${escapeHtml(member.host || '')}</small></td>
+                <td>${role}</td>
+                <td>${number(member.heapUsedMb)} / ${number(member.heapMaxMb)} MB (${heapPercent}%)</td>
+                <td>${offHeap}</td>
+                <td>${number(member.cpuUsage).toFixed(1)}%</td>
+                <td>${number(member.gcTimeMs)} ms</td>
+                <td>${number(member.getsPerSecond).toFixed(1)}</td>
+                <td>${number(member.putsPerSecond).toFixed(1)}</td>
+                <td>${number(member.clientConnections)}</td>
+                <td>${number(member.entryCount)}</td>
+            </tr>
+        `;
+    }).join('');
+    
+    const header = (label, sort) => sort
+        ? `<th class="sortable${memberSort === sort ? ' sorted' : ''}" onclick="sortMembers('${sort}')">${label}</th>`
+        : `<th>${label}</th>`;
+    
+    container.innerHTML = `
+        <div class="info-grid">
+            <div class="info-item">
+                <label>Members</label>
+                <value>${data.totals.memberCount}</value>
+            </div>
+            <div class="info-item">
+                <label>Heap Used</label>
+                <value>${Math.round(data.totals.heapUsedMb)} / ${Math.round(data.totals.heapMaxMb)} MB</value>
+            </div>
+            <div class="info-item">
+                <label>Gets / Puts per Second</label>
+                <value>${data.totals.getsPerSecond.toFixed(1)} / ${data.totals.putsPerSecond.toFixed(1)}</value>
+            </div>
+            <div class="info-item">
+                <label>Client Connections</label>
+                <value>${data.totals.clientConnections}</value>
+            </div>
+        </div>
+        <table class="data-table">
+            <thead>
+                <tr>
+                    ${header('Member')}
+                    ${header('Role')}
+                    ${header('Heap', 'heap')}
+                    ${header('Off-Heap')}
+                    ${header('CPU', 'cpu')}
+                    ${header('GC Time', 'gc')}
+                    ${header('Gets/s', 'operations')}
+                    ${header('Puts/s', 'operations')}
+                    ${header('Clients', 'clients')}
+                    ${header('Entries', 'entries')}
+                </tr>
+            </thead>
+            <tbody>
+                ${rows}
+            </tbody>
+        </table>
+        <p class="metrics-age">As of ${new Date(data.loadedAt).toLocaleTimeString()}</p>
+    `;
+}
+
+function sortMembers(sort) {
+    memberSort = sort;
+    loadMemberMetrics();
+}
+
+// Utility: bytes in a readable unit
+function formatBytes(bytes) {
+    const units = ['B', 'KB', 'MB', 'GB', 'TB'];
+    let value = bytes || 0;
+    let unit = 0;
+    while (value >= 1024 && unit < units.length - 1) {
+        value /= 1024;
+        unit++;
+    }
+    return `${value.toFixed(unit === 0 ? 0 : 1)} ${units[unit]}`;
+}
+
 // Load regions
 async function loadRegions() {
     try {
@@ -302,15 +462,16 @@ function selectRegion(regionName) {
     document.querySelector('[data-tab="data"]').click();
 }
 
-// Load region data
-async function loadRegionData(regionName, limit = 100, offset = 0) {
+// Load region data (cursor is the nextCursor returned by the previous page)
+async function loadRegionData(regionName, limit = 100, cursor = null) {
     currentRegion = regionName;
     const container = document.getElementById('dataContent');
     
     container.innerHTML = '<div class="loading">Loading...</div>';
     
     try {
-        const response = await fetch(`${API_BASE}/data/${encodeURIComponent(regionName)}?limit=${limit}&offset=${offset}`);
+        const cursorParam = cursor ? `&cursor=${encodeURIComponent(cursor)}` : '';
+        const response = await fetch(`${API_BASE}/data/${encodeURIComponent(regionName)}?limit=${limit}${cursorParam}`);
         const data = await response.json();
         
         if (!data.success) {
@@ -323,7 +484,9 @@ async function loadRegionData(regionName, limit = 100, offset = 0) {
         }
         
         currentData = data.entries || [];
+        newEntryCount = 0;
         displayData(data);
+        openChangeStream(regionName);
         
     } catch (error) {
         console.error('Failed to load region data:', error);
@@ -348,27 +511,20 @@ function displayData(data) {
         return;
     }
     
-    const tableRows = data.entries.map(entry => {
-        const valueStr = JSON.stringify(entry.value, null, 2);
-        const valueDisplay = typeof entry.value === 'string' 
-            ? entry.value 
-            : valueStr.length > 100 
-                ? valueStr.substring(0, 100) + '...' 
-                : valueStr;
-        
-        return `
-            <tr>
+    const tableRows = data.entries.map(entry => `
+            <tr data-key="${escapeHtml(String(entry.key))}">
                 <td class="key-cell">${escapeHtml(String(entry.key))}</td>
-                <td class="value-cell" title="${escapeHtml(valueStr)}">${escapeHtml(valueDisplay)}</td>
-                <td class="value-type">${entry.valueType || 'N/A'}</td>
+                ${valueCells(entry)}
             </tr>
-        `;
-    }).join('');
+        `).join('');
     
     container.innerHTML = `
         <div style="margin-bottom: 15px;">
             <strong>Total Records:</strong> ${data.totalSize || 0} | 
             <strong>Displayed:</strong> ${data.returnedCount || 0}
+            <button class="btn-secondary" onclick="loadRegionData(currentRegion)">First Page</button>
+            ${data.nextCursor ? `<button class="btn-secondary" onclick="loadRegionData(currentRegion, 100, '${data.nextCursor}')">Next Page</button>` : ''}
+            <span id="newEntries" class="new-entries" style="display: none;" onclick="loadRegionData(currentRegion)"></span>
         </div>
         <table class="data-table">
             <thead>
@@ -385,6 +541,64 @@ function displayData(data) {
     `;
 }
 
+// Value and type cells of a data row
+function valueCells(entry) {
+    const valueStr = JSON.stringify(entry.value, null, 2);
+    const valueDisplay = typeof entry.value === 'string' 
+        ? entry.value 
+        : valueStr.length > 100 
+            ? valueStr.substring(0, 100) + '...' 
+            : valueStr;
+    
+    return `
+                <td class="value-cell" title="${escapeHtml(valueStr)}">${escapeHtml(valueDisplay)}</td>
+                <td class="value-type">${entry.valueType || 'N/A'}</td>
+    `;
+}
+
+// Follow changes to the displayed region; replaces the stream of the previous region
+function openChangeStream(regionName) {
+    if (changeStream && changeStream.regionName === regionName) {
+        return;
+    }
+    if (changeStream) {
+        changeStream.close();
+    }
+    
+    changeStream = new EventSource(`${API_BASE}/stream/${encodeURIComponent(regionName)}`);
+    changeStream.regionName = regionName;
+    changeStream.addEventListener('changes', event => {
+        JSON.parse(event.data).forEach(applyChange);
+    });
+    changeStream.addEventListener('resync', () => {
+        // Too many changes were missed to apply them one by one
+        loadRegionData(regionName);
+    });
+}
+
+// Apply one streamed change to the displayed page
+function applyChange(change) {
+    const row = Array.from(document.querySelectorAll('.data-table tbody tr'))
+        .find(tr => tr.dataset.key === String(change.key));
+    
+    if (change.operation === 'DESTROY') {
+        if (row) {
+            row.classList.add('row-removed');
+        }
+    } else if (row) {
+        row.classList.remove('row-removed');
+        row.innerHTML = `<td class="key-cell">${escapeHtml(String(change.key))}</td>${valueCells(change)}`;
+    } else if (change.operation === 'CREATE') {
+        // New keys may belong on another page; offer a reload instead of guessing
+        newEntryCount++;
+        const notice = document.getElementById('newEntries');
+        if (notice) {
+            notice.textContent = `${newEntryCount} new ${newEntryCount === 1 ? 'entry' : 'entries'} - reload`;
+            notice.style.display = 'inline';
+        }
+    }
+}
+
 // Utility: Escape HTML
 function escapeHtml(text) {
     const div = document.createElement('div');
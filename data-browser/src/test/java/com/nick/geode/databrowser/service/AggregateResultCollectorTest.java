@@ -0,0 +1,141 @@
+package com.nick.geode.databrowser.service;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static com.nick.geode.databrowser.service.AggregateResultCollector.COUNT;
+import static com.nick.geode.databrowser.service.AggregateResultCollector.MAX;
+import static com.nick.geode.databrowser.service.AggregateResultCollector.MIN;
+import static com.nick.geode.databrowser.service.AggregateResultCollector.NUMERIC_COUNT;
+import static com.nick.geode.databrowser.service.AggregateResultCollector.SUM;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AggregateResultCollectorTest {
+
+  private static final double INF = Double.POSITIVE_INFINITY;
+
+  @Test
+  void mergesTheGroupsOfEveryMember() {
+    AggregateResultCollector collector = new AggregateResultCollector();
+
+    collector.addResult(null, Map.of(
+        "a", stats(2, 2, 10, 3, 7),
+        "b", stats(1, 1, 5, 5, 5)));
+    collector.addResult(null, Map.of(
+        "a", stats(3, 2, -4, -6, 2)));
+    collector.endResults();
+
+    Map<String, double[]> groups = collector.getResult();
+    assertEquals(2, groups.size());
+    assertArrayEquals(stats(5, 4, 6, -6, 7), groups.get("a"));
+    assertArrayEquals(stats(1, 1, 5, 5, 5), groups.get("b"));
+  }
+
+  @Test
+  void membersWithoutEntriesAddNothing() {
+    AggregateResultCollector collector = new AggregateResultCollector();
+
+    collector.addResult(null, Map.of());
+    collector.addResult(null, Map.of("a", stats(1, 1, 4, 4, 4)));
+    collector.addResult(null, Map.of());
+    collector.endResults();
+
+    Map<String, double[]> groups = collector.getResult();
+    assertEquals(1, groups.size());
+    assertArrayEquals(stats(1, 1, 4, 4, 4), groups.get("a"));
+  }
+
+  @Test
+  void noResultsIsNoGroups() {
+    AggregateResultCollector collector = new AggregateResultCollector();
+
+    collector.endResults();
+
+    assertTrue(collector.getResult().isEmpty());
+  }
+
+  @Test
+  void groupsWithoutNumericValuesKeepInfiniteBounds() {
+    AggregateResultCollector collector = new AggregateResultCollector();
+
+    collector.addResult(null, Map.of("text", stats(2, 0, 0, INF, -INF)));
+    collector.addResult(null, Map.of("text", stats(3, 0, 0, INF, -INF)));
+    collector.endResults();
+
+    double[] text = collector.getResult().get("text");
+    assertEquals(5, text[COUNT]);
+    assertEquals(0, text[NUMERIC_COUNT]);
+    assertEquals(0, text[SUM]);
+    assertEquals(INF, text[MIN]);
+    assertEquals(-INF, text[MAX]);
+  }
+
+  @Test
+  void numericValuesWinOverInfiniteBounds() {
+    AggregateResultCollector collector = new AggregateResultCollector();
+
+    collector.addResult(null, Map.of("mixed", stats(4, 0, 0, INF, -INF)));
+    collector.addResult(null, Map.of("mixed", stats(2, 2, 1, -3, 4)));
+    collector.addResult(null, Map.of("mixed", stats(1, 0, 0, INF, -INF)));
+    collector.endResults();
+
+    assertArrayEquals(stats(7, 2, 1, -3, 4), collector.getResult().get("mixed"));
+  }
+
+  @Test
+  void numericInfinitiesAreKept() {
+    AggregateResultCollector collector = new AggregateResultCollector();
+
+    collector.addResult(null, Map.of("a", stats(1, 1, -INF, -INF, -INF)));
+    collector.addResult(null, Map.of("a", stats(1, 1, 2, 2, 2)));
+    collector.endResults();
+
+    assertArrayEquals(stats(2, 2, -INF, -INF, 2), collector.getResult().get("a"));
+  }
+
+  @Test
+  void memberFailureFailsTheResult() {
+    AggregateResultCollector collector = new AggregateResultCollector();
+
+    collector.addResult(null, Map.of("a", stats(1, 1, 1, 1, 1)));
+    collector.addResult(null, new IllegalStateException("bucket moved"));
+    collector.endResults();
+
+    FunctionException e = assertThrows(FunctionException.class, collector::getResult);
+    assertTrue(e.getMessage().contains("bucket moved"));
+  }
+
+  @Test
+  void clearingForgetsEarlierResultsAndFailures() {
+    AggregateResultCollector collector = new AggregateResultCollector();
+
+    collector.addResult(null, Map.of("a", stats(1, 1, 1, 1, 1)));
+    collector.addResult(null, new IllegalStateException("bucket moved"));
+    collector.clearResults();
+    collector.addResult(null, Map.of("a", stats(2, 1, 8, 8, 8)));
+    collector.endResults();
+
+    assertArrayEquals(stats(2, 1, 8, 8, 8), collector.getResult().get("a"));
+  }
+
+  @Test
+  void mergeDoesNotModifyItsArguments() {
+    double[] a = stats(1, 1, 1, 1, 1);
+    double[] b = stats(1, 1, 2, 2, 2);
+
+    AggregateResultCollector.merge(a, b);
+
+    assertArrayEquals(stats(1, 1, 1, 1, 1), a);
+    assertArrayEquals(stats(1, 1, 2, 2, 2), b);
+  }
+
+  private static double[] stats(double count, double numericCount, double sum, double min,
+                                double max) {
+    return new double[] {count, numericCount, sum, min, max};
+  }
+}
@@ -0,0 +1,76 @@
+package com.nick.geode.databrowser.service;
+
+import com.nick.geode.databrowser.service.ChangeCoalescer.Change;
+import com.nick.geode.databrowser.service.ChangeCoalescer.ChangeType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChangeCoalescerTest {
+
+  @Test
+  void keepsLatestChangePerKeyInFirstChangeOrder() {
+    ChangeCoalescer coalescer = new ChangeCoalescer(100);
+    coalescer.offer(new Change("a", ChangeType.UPDATE, 1));
+    coalescer.offer(new Change("b", ChangeType.UPDATE, 2));
+    coalescer.offer(new Change("a", ChangeType.UPDATE, 3));
+
+    Map<Object, Change> batch = coalescer.drain();
+    assertEquals(List.of("b", "a"), List.copyOf(batch.keySet()));
+    assertEquals(3, batch.get("a").value());
+    assertTrue(coalescer.isEmpty());
+  }
+
+  @Test
+  void createFollowedByUpdateStaysCreate() {
+    ChangeCoalescer coalescer = new ChangeCoalescer(100);
+    coalescer.offer(new Change("a", ChangeType.CREATE, 1));
+    coalescer.offer(new Change("a", ChangeType.UPDATE, 2));
+
+    Change change = coalescer.drain().get("a");
+    assertEquals(ChangeType.CREATE, change.type());
+    assertEquals(2, change.value());
+  }
+
+  @Test
+  void createFollowedByDestroyIsDropped() {
+    ChangeCoalescer coalescer = new ChangeCoalescer(100);
+    coalescer.offer(new Change("a", ChangeType.CREATE, 1));
+    coalescer.offer(new Change("a", ChangeType.DESTROY, null));
+
+    assertTrue(coalescer.isEmpty());
+    assertTrue(coalescer.drain().isEmpty());
+  }
+
+  @Test
+  void updateFollowedByDestroyIsDestroy() {
+    ChangeCoalescer coalescer = new ChangeCoalescer(100);
+    coalescer.offer(new Change("a", ChangeType.UPDATE, 1));
+    coalescer.offer(new Change("a", ChangeType.DESTROY, null));
+
+    assertEquals(ChangeType.DESTROY, coalescer.drain().get("a").type());
+  }
+
+  @Test
+  void overflowTurnsIntoResync() {
+    ChangeCoalescer coalescer = new ChangeCoalescer(2);
+    coalescer.offer(new Change("a", ChangeType.UPDATE, 1));
+    coalescer.offer(new Change("b", ChangeType.UPDATE, 2));
+    assertFalse(coalescer.isResync());
+
+    coalescer.offer(new Change("c", ChangeType.UPDATE, 3));
+    assertTrue(coalescer.isResync());
+    assertFalse(coalescer.isEmpty());
+
+    // Changes offered while a resync is pending are not kept
+    coalescer.offer(new Change("d", ChangeType.UPDATE, 4));
+    assertTrue(coalescer.drain().isEmpty());
+    assertFalse(coalescer.isResync());
+    assertTrue(coalescer.isEmpty());
+  }
+}
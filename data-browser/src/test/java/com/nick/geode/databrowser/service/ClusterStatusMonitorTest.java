@@ -0,0 +1,63 @@
+package com.nick.geode.databrowser.service;
+
+import com.nick.geode.databrowser.service.ClusterStatusMonitor.Snapshot;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClusterStatusMonitorTest {
+
+  private static final Map<String, Object> SERVER_1 =
+      Map.of("id", "s1", "name", "server1", "groups", List.of());
+  private static final Map<String, Object> SERVER_2 =
+      Map.of("id", "s2", "name", "server2", "groups", List.of());
+
+  @Test
+  void deltaOfUnchangedStatusIsEmpty() {
+    Map<String, Object> status =
+        Map.of("status", "connected", "memberCount", 1, "members", List.of(SERVER_1));
+
+    Map<String, Object> delta =
+        ClusterStatusMonitor.delta(new Snapshot(1, status), new Snapshot(2, status));
+
+    assertEquals(2L, delta.get("version"));
+    assertEquals(Map.of(), delta.get("set"));
+    assertEquals(List.of(), delta.get("unset"));
+    assertEquals(List.of(), delta.get("membersUpserted"));
+    assertEquals(List.of(), delta.get("membersRemoved"));
+  }
+
+  @Test
+  void deltaReportsChangedAndRemovedFields() {
+    Map<String, Object> from = Map.of("status", "error", "error", "timeout", "members", List.of());
+    Map<String, Object> to = Map.of("status", "connected", "members", List.of());
+
+    Map<String, Object> delta =
+        ClusterStatusMonitor.delta(new Snapshot(3, from), new Snapshot(4, to));
+
+    assertEquals(Map.of("status", "connected"), delta.get("set"));
+    assertEquals(List.of("error"), delta.get("unset"));
+  }
+
+  @Test
+  void deltaReportsMembersById() {
+    Map<String, Object> server1Moved =
+        Map.of("id", "s1", "name", "server1", "groups", List.of("orders"));
+    Map<String, Object> from = Map.of("memberCount", 1, "members", List.of(SERVER_1));
+    Map<String, Object> to = Map.of("memberCount", 1, "members", List.of(server1Moved, SERVER_2));
+
+    Map<String, Object> delta =
+        ClusterStatusMonitor.delta(new Snapshot(1, from), new Snapshot(2, to));
+    assertEquals(List.of(server1Moved, SERVER_2), delta.get("membersUpserted"));
+    assertTrue(((List<?>) delta.get("membersRemoved")).isEmpty());
+
+    Map<String, Object> back =
+        ClusterStatusMonitor.delta(new Snapshot(2, to), new Snapshot(3, from));
+    assertEquals(List.of(SERVER_1), back.get("membersUpserted"));
+    assertEquals(List.of("s2"), back.get("membersRemoved"));
+  }
+}
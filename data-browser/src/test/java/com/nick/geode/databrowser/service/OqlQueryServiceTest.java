@@ -0,0 +1,78 @@
+package com.nick.geode.databrowser.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nick.geode.databrowser.config.DataBrowserProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OqlQueryServiceTest {
+
+  private final OqlQueryService service =
+      new OqlQueryService(null, new DataBrowserProperties(), new ObjectMapper());
+
+  private String query(String oql, Integer limit) {
+    return service.buildQuery(new QueryRequest(oql, null, null, null, null, limit));
+  }
+
+  private String where(String where) {
+    return service.buildQuery(new QueryRequest(null, "r", where, null, null, null));
+  }
+
+  @Test
+  void appendsDefaultLimit() {
+    assertEquals("SELECT * FROM /r LIMIT 100", query("SELECT * FROM /r", null));
+  }
+
+  @Test
+  void keepsSmallerOfQueryAndRequestedLimit() {
+    assertEquals("SELECT * FROM /r LIMIT 5", query("SELECT * FROM /r limit 5", 50));
+    assertEquals("SELECT * FROM /r LIMIT 50", query("SELECT * FROM /r LIMIT 5000", 50));
+  }
+
+  @Test
+  void ignoresLimitInLiteralsFieldsAndSubqueries() {
+    assertEquals("SELECT * FROM /r e WHERE e.name = 'it''s LIMIT 5' LIMIT 100",
+        query("SELECT * FROM /r e WHERE e.name = 'it''s LIMIT 5'", null));
+    assertEquals("SELECT e.limit FROM /r e LIMIT 100", query("SELECT e.limit FROM /r e", null));
+    assertEquals("SELECT * FROM (SELECT * FROM /r LIMIT 5) LIMIT 100",
+        query("SELECT * FROM (SELECT * FROM /r LIMIT 5)", null));
+  }
+
+  @Test
+  void rejectsComments() {
+    assertThrows(IllegalArgumentException.class, () -> query("SELECT * FROM /r --", null));
+    assertThrows(IllegalArgumentException.class, () -> query("SELECT * FROM /r /* x */", null));
+  }
+
+  @Test
+  void rejectsLimitThatIsNotATrailingNumber() {
+    assertThrows(IllegalArgumentException.class, () -> query("SELECT * FROM /r LIMIT $1", null));
+    assertThrows(IllegalArgumentException.class,
+        () -> query("SELECT * FROM /r LIMIT 5 LIMIT 6", null));
+  }
+
+  @Test
+  void rejectsUnterminatedLiteralsAndUnbalancedParentheses() {
+    assertThrows(IllegalArgumentException.class,
+        () -> query("SELECT * FROM /r e WHERE e.name = 'x", null));
+    assertThrows(IllegalArgumentException.class, () -> query("SELECT * FROM (/r", null));
+  }
+
+  @Test
+  void groupsWhereCondition() {
+    assertEquals("SELECT * FROM /r e WHERE (e.age > $1) LIMIT 100", where("e.age > $1"));
+    assertEquals("SELECT name: e.name FROM /r e LIMIT 100", service.buildQuery(
+        new QueryRequest(null, "r", null, List.of("name"), null, null)));
+  }
+
+  @Test
+  void rejectsWhereThatEscapesItsGroup() {
+    assertThrows(IllegalArgumentException.class, () -> where("true --"));
+    assertThrows(IllegalArgumentException.class, () -> where("true) OR (true"));
+    assertThrows(IllegalArgumentException.class, () -> where("true LIMIT 100000"));
+  }
+}
@@ -0,0 +1,70 @@
+package com.nick.geode.databrowser.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PageCursorTest {
+
+  @Test
+  void missingTokenIsTheStart() {
+    assertSame(PageCursor.START, PageCursor.decode(null));
+    assertSame(PageCursor.START, PageCursor.decode(""));
+  }
+
+  @Test
+  void roundTripsBucketKeyTypeAndKey() {
+    PageCursor cursor = PageCursor.after(17, "order-42");
+
+    PageCursor decoded = PageCursor.decode(cursor.encode());
+
+    assertEquals(cursor, decoded);
+    assertEquals(17, decoded.bucketId());
+    assertEquals(String.class.getName(), decoded.afterKeyType());
+    assertEquals("order-42", decoded.afterKey());
+  }
+
+  @Test
+  void roundTripsTheStart() {
+    assertEquals(PageCursor.START, PageCursor.decode(PageCursor.START.encode()));
+  }
+
+  @Test
+  void keysWithTheSameStringFormStayApart() {
+    PageCursor number = PageCursor.after(3, 1);
+    PageCursor text = PageCursor.after(3, "1");
+
+    assertNotEquals(number.encode(), text.encode());
+    assertEquals(Integer.class.getName(), PageCursor.decode(number.encode()).afterKeyType());
+    assertEquals(String.class.getName(), PageCursor.decode(text.encode()).afterKeyType());
+  }
+
+  @Test
+  void keyMayContainSeparatorsAndNonAsciiCharacters() {
+    PageCursor cursor = PageCursor.after(0, "a:b:ü/+=");
+
+    String token = cursor.encode();
+
+    assertFalse(token.contains("+") || token.contains("/") || token.contains("="));
+    assertEquals(cursor, PageCursor.decode(token));
+  }
+
+  @Test
+  void rejectsMalformedTokens() {
+    assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("not base64!"));
+    assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(encodeRaw("x")));
+    assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(encodeRaw("3:key")));
+  }
+
+  private static String encodeRaw(String raw) {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
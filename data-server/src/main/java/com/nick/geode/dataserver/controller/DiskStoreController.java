@@ -0,0 +1,65 @@
+package com.nick.geode.dataserver.controller;
+
+import com.nick.geode.dataserver.service.DiskStoreService;
+import com.nick.geode.dataserver.service.DiskStoreSpec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * REST controller for the disk stores used by persistent and overflow regions.
+ */
+@RestController
+@RequestMapping("/management/disk-stores")
+public class DiskStoreController {
+
+  private final DiskStoreService diskStoreService;
+
+  @Autowired
+  public DiskStoreController(DiskStoreService diskStoreService) {
+    this.diskStoreService = diskStoreService;
+  }
+
+  /**
+   * List the disk stores of the data server receiving the request.
+   * GET /management/disk-stores
+   */
+  @GetMapping
+  public ResponseEntity<Map<String, Object>> listDiskStores() {
+    Map<String, Object> result = diskStoreService.listDiskStores();
+    boolean success = (Boolean) result.getOrDefault("success", false);
+    return ResponseEntity.status(success ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+        .body(result);
+  }
+
+  /**
+   * Create a disk store on every data server.
+   * POST /management/disk-stores/{diskStoreName}
+   * with an optional JSON body (directory, sizes, queue, compaction, ...)
+   */
+  @PostMapping("/{diskStoreName}")
+  public ResponseEntity<Map<String, Object>> createDiskStore(
+      @PathVariable String diskStoreName,
+      @RequestBody(required = false) DiskStoreSpec spec) {
+    Map<String, Object> result = diskStoreService.createDiskStore(diskStoreName,
+        spec != null ? spec : new DiskStoreSpec());
+    boolean success = (Boolean) result.getOrDefault("success", false);
+    return ResponseEntity.status(success ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST)
+        .body(result);
+  }
+
+  /**
+   * Destroy a disk store that no region uses any more on every data server.
+   * DELETE /management/disk-stores/{diskStoreName}
+   */
+  @DeleteMapping("/{diskStoreName}")
+  public ResponseEntity<Map<String, Object>> deleteDiskStore(@PathVariable String diskStoreName) {
+    Map<String, Object> result = diskStoreService.deleteDiskStore(diskStoreName);
+    boolean success = (Boolean) result.getOrDefault("success", false);
+    return ResponseEntity.status(success ? HttpStatus.OK : HttpStatus.NOT_FOUND)
+        .body(result);
+  }
+}
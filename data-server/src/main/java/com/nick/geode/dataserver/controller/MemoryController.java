@@ -0,0 +1,38 @@
+package com.nick.geode.dataserver.controller;
+
+import com.nick.geode.dataserver.service.MemoryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * REST controller reporting heap and off-heap memory usage of this member.
+ */
+@RestController
+@RequestMapping("/management/memory")
+public class MemoryController {
+
+  private final MemoryService memoryService;
+
+  @Autowired
+  public MemoryController(MemoryService memoryService) {
+    this.memoryService = memoryService;
+  }
+
+  /**
+   * Get heap and off-heap usage, off-heap fragmentation and resource manager thresholds.
+   * GET /management/memory
+   */
+  @GetMapping
+  public ResponseEntity<Map<String, Object>> getMemoryUsage() {
+    Map<String, Object> result = memoryService.getMemoryUsage();
+    boolean success = (Boolean) result.getOrDefault("success", false);
+    return ResponseEntity.status(success ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+        .body(result);
+  }
+}
@@ -0,0 +1,33 @@
+package com.nick.geode.dataserver.controller;
+
+import com.nick.geode.dataserver.service.RecoveryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * REST controller reporting disk recovery progress after a restart.
+ */
+@RestController
+@RequestMapping("/management/recovery")
+public class RecoveryController {
+
+  private final RecoveryService recoveryService;
+
+  @Autowired
+  public RecoveryController(RecoveryService recoveryService) {
+    this.recoveryService = recoveryService;
+  }
+
+  /**
+   * Get recovery state, bytes read back per disk store and per region progress.
+   * GET /management/recovery
+   */
+  @GetMapping
+  public Map<String, Object> getProgress() {
+    return recoveryService.getProgress();
+  }
+}
@@ -1,11 +1,16 @@
 package com.nick.geode.dataserver.controller;
 
+import com.nick.geode.dataserver.service.IndexDefinition;
+import com.nick.geode.dataserver.service.IndexManagementService;
+import com.nick.geode.dataserver.service.RebalanceService;
 import com.nick.geode.dataserver.service.RegionManagementService;
+import com.nick.geode.dataserver.service.RegionSpec;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -17,28 +22,46 @@ import java.util.Map;
 public class RegionManagementController {
 
   private final RegionManagementService regionManagementService;
+  private final IndexManagementService indexManagementService;
+  private final RebalanceService rebalanceService;
 
   @Autowired
-  public RegionManagementController(RegionManagementService regionManagementService) {
+  public RegionManagementController(RegionManagementService regionManagementService,
+                                    IndexManagementService indexManagementService,
+                                    RebalanceService rebalanceService) {
     this.regionManagementService = regionManagementService;
+    this.indexManagementService = indexManagementService;
+    this.rebalanceService = rebalanceService;
   }
 
   /**
-   * Create a new region.
-   * POST /management/regions/{regionName}?type=PARTITION
+   * Create a new region on every data server, or on the members of the given server groups,
+   * responding once all of them have created it.
+   * POST /management/regions/{regionName}?type=PARTITION&group=orders
+   * with an optional JSON region spec body (buckets, redundancy, eviction, expiration, ...)
    */
   @PostMapping("/{regionName}")
   public ResponseEntity<Map<String, Object>> createRegion(
       @PathVariable String regionName,
-      @RequestParam(required = false, defaultValue = "PARTITION") String type) {
-    Map<String, Object> result = regionManagementService.createRegion(regionName, type);
+      @RequestParam(required = false) String type,
+      @RequestParam(required = false) List<String> group,
+      @RequestBody(required = false) RegionSpec spec) {
+    if (spec == null) {
+      spec = RegionSpec.ofType(type);
+    } else if (spec.getType() == null) {
+      spec.setType(type);
+    }
+    if (spec.getGroups() == null) {
+      spec.setGroups(group);
+    }
+    Map<String, Object> result = regionManagementService.createRegion(regionName, spec);
     boolean success = (Boolean) result.getOrDefault("success", false);
     return ResponseEntity.status(success ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST)
         .body(result);
   }
 
   /**
-   * Delete a region.
+   * Delete a region from every data server.
    * DELETE /management/regions/{regionName}
    */
   @DeleteMapping("/{regionName}")
@@ -48,4 +71,87 @@ public class RegionManagementController {
     return ResponseEntity.status(success ? HttpStatus.OK : HttpStatus.NOT_FOUND)
         .body(result);
   }
+
+  /**
+   * List the indexes of a region with their statistics.
+   * GET /management/regions/{regionName}/indexes
+   */
+  @GetMapping("/{regionName}/indexes")
+  public ResponseEntity<Map<String, Object>> listIndexes(@PathVariable String regionName) {
+    Map<String, Object> result = indexManagementService.listIndexes(regionName);
+    boolean success = (Boolean) result.getOrDefault("success", false);
+    return ResponseEntity.status(success ? HttpStatus.OK : HttpStatus.NOT_FOUND)
+        .body(result);
+  }
+
+  /**
+   * Create an index.
+   * POST /management/regions/{regionName}/indexes
+   * with {"name": "statusIdx", "type": "FUNCTIONAL", "expression": "e.status"}
+   */
+  @PostMapping("/{regionName}/indexes")
+  public ResponseEntity<Map<String, Object>> createIndex(
+      @PathVariable String regionName,
+      @RequestBody IndexDefinition definition) {
+    Map<String, Object> result = indexManagementService.createIndex(regionName, definition);
+    boolean success = (Boolean) result.getOrDefault("success", false);
+    return ResponseEntity.status(success ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST)
+        .body(result);
+  }
+
+  /**
+   * Define several indexes and build them in one pass over the region.
+   * POST /management/regions/{regionName}/indexes/batch with a JSON array of definitions
+   */
+  @PostMapping("/{regionName}/indexes/batch")
+  public ResponseEntity<Map<String, Object>> createIndexes(
+      @PathVariable String regionName,
+      @RequestBody List<IndexDefinition> definitions) {
+    Map<String, Object> result = indexManagementService.createIndexes(regionName, definitions);
+    boolean success = (Boolean) result.getOrDefault("success", false);
+    return ResponseEntity.status(success ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST)
+        .body(result);
+  }
+
+  /**
+   * Drop an index.
+   * DELETE /management/regions/{regionName}/indexes/{indexName}
+   */
+  @DeleteMapping("/{regionName}/indexes/{indexName}")
+  public ResponseEntity<Map<String, Object>> deleteIndex(
+      @PathVariable String regionName,
+      @PathVariable String indexName) {
+    Map<String, Object> result = indexManagementService.deleteIndex(regionName, indexName);
+    boolean success = (Boolean) result.getOrDefault("success", false);
+    return ResponseEntity.status(success ? HttpStatus.OK : HttpStatus.NOT_FOUND)
+        .body(result);
+  }
+
+  /**
+   * Bucket and primary counts per member for every partitioned region.
+   * GET /management/regions/balance
+   */
+  @GetMapping("/balance")
+  public ResponseEntity<Map<String, Object>> getBalance() {
+    Map<String, Object> result = rebalanceService.getBalance();
+    boolean success = (Boolean) result.getOrDefault("success", false);
+    return ResponseEntity.status(success ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+        .body(result);
+  }
+
+  /**
+   * Rebalance partitioned regions across the data servers, reporting the balance before
+   * and after. With simulate=true nothing is moved.
+   * POST /management/regions/rebalance?simulate=true&include=orders,customers&exclude=audit
+   */
+  @PostMapping("/rebalance")
+  public ResponseEntity<Map<String, Object>> rebalance(
+      @RequestParam(defaultValue = "false") boolean simulate,
+      @RequestParam(required = false) List<String> include,
+      @RequestParam(required = false) List<String> exclude) {
+    Map<String, Object> result = rebalanceService.rebalance(simulate, include, exclude);
+    boolean success = (Boolean) result.getOrDefault("success", false);
+    return ResponseEntity.status(success ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR)
+        .body(result);
+  }
 }
@@ -0,0 +1,165 @@
+package com.nick.geode.dataserver.function;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.internal.cache.BucketRegion;
+import org.apache.geode.internal.cache.LocalDataSet;
+import org.apache.geode.internal.cache.PartitionedRegion;
+import org.apache.geode.internal.cache.PartitionedRegionDataStore;
+import org.apache.geode.pdx.PdxInstance;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Computes count, sum, min and max of a field, optionally grouped by another field, over the
+ * primary buckets this member was asked to process. Buckets are aggregated in parallel, on a
+ * pool of one thread per CPU shared by all executions, and only the per-group partial results
+ * are returned, to be merged by the caller's result collector.
+ *
+ * Executed with {@code onRegion}; for a partitioned region each member processes its own
+ * primary buckets, for a replicated region a single member processes the whole region.
+ *
+ * Arguments: {@code Object[] {field, groupBy}}, both optional dotted paths into Map or PDX
+ * values; without a field the value itself is aggregated.
+ * Result: a {@code Map<String, double[]>} from group (the empty string when ungrouped) to
+ * {@code {count, numericCount, sum, min, max}}, where sum, min and max cover numeric values only.
+ */
+public class AggregateFunction implements Function<Object[]> {
+
+  public static final String ID = "browser.aggregate";
+
+  public static final int COUNT = 0;
+  public static final int NUMERIC_COUNT = 1;
+  public static final int SUM = 2;
+  public static final int MIN = 3;
+  public static final int MAX = 4;
+
+  // Not the common ForkJoinPool, which other work in this JVM shares and which concurrent
+  // aggregations could exhaust; this pool bounds them together to one thread per CPU
+  private final transient ExecutorService bucketExecutor = Executors.newFixedThreadPool(
+      Runtime.getRuntime().availableProcessors(),
+      Thread.ofPlatform().name("aggregate-bucket-", 0).daemon().factory());
+
+  @Override
+  public void execute(FunctionContext<Object[]> context) {
+    Object[] args = context.getArguments();
+    String field = args != null && args.length > 0 ? (String) args[0] : null;
+    String groupBy = args != null && args.length > 1 ? (String) args[1] : null;
+
+    Region<?, ?> region = ((RegionFunctionContext) context).getDataSet();
+    Map<String, double[]> groups;
+
+    if (region instanceof PartitionedRegion && ((PartitionedRegion) region).getDataStore() != null) {
+      PartitionedRegionDataStore dataStore = ((PartitionedRegion) region).getDataStore();
+      LocalDataSet localData = (LocalDataSet) PartitionRegionHelper
+          .getLocalDataForContext((RegionFunctionContext) context);
+      List<Future<Map<String, double[]>>> partials = new ArrayList<>();
+      for (Integer bucketId : localData.getBucketSet()) {
+        BucketRegion bucket = dataStore.getLocalBucketById(bucketId);
+        if (bucket != null) {
+          partials.add(bucketExecutor.submit(() -> aggregate(bucket, field, groupBy)));
+        }
+      }
+      Map<String, double[]> merged = new HashMap<>();
+      try {
+        for (Future<Map<String, double[]>> partial : partials) {
+          partial.get().forEach((group, stats) ->
+              merged.merge(group, stats, AggregateFunction::merge));
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new FunctionException("Interrupted while aggregating", e);
+      } catch (ExecutionException e) {
+        throw new FunctionException("Failed to aggregate: " + e.getCause().getMessage(),
+            e.getCause());
+      } finally {
+        partials.forEach(partial -> partial.cancel(true));
+      }
+      groups = merged;
+    } else {
+      groups = aggregate(region, field, groupBy);
+    }
+
+    context.getResultSender().lastResult(groups);
+  }
+
+  private Map<String, double[]> aggregate(Region<?, ?> region, String field, String groupBy) {
+    Map<String, double[]> groups = new HashMap<>();
+    for (Object value : region.values()) {
+      String group = groupBy != null ? String.valueOf(extract(value, groupBy)) : "";
+      double[] stats = groups.computeIfAbsent(group, key -> empty());
+      stats[COUNT]++;
+      Object fieldValue = field != null ? extract(value, field) : value;
+      if (fieldValue instanceof Number) {
+        double number = ((Number) fieldValue).doubleValue();
+        stats[NUMERIC_COUNT]++;
+        stats[SUM] += number;
+        stats[MIN] = Math.min(stats[MIN], number);
+        stats[MAX] = Math.max(stats[MAX], number);
+      }
+    }
+    return groups;
+  }
+
+  /**
+   * Follows a dotted path through Map and PDX values; returns null when a step is missing.
+   */
+  private static Object extract(Object value, String path) {
+    Object current = value;
+    for (String step : path.split("\\.")) {
+      if (current instanceof Map) {
+        current = ((Map<?, ?>) current).get(step);
+      } else if (current instanceof PdxInstance) {
+        current = ((PdxInstance) current).getField(step);
+      } else {
+        return null;
+      }
+    }
+    return current;
+  }
+
+  private static double[] empty() {
+    return new double[] {0, 0, 0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+  }
+
+  /**
+   * Must stay in step with the merge of the data browser's {@code AggregateResultCollector},
+   * which combines the results of every member the same way and is covered by its tests.
+   */
+  private static double[] merge(double[] a, double[] b) {
+    return new double[] {
+        a[COUNT] + b[COUNT],
+        a[NUMERIC_COUNT] + b[NUMERIC_COUNT],
+        a[SUM] + b[SUM],
+        Math.min(a[MIN], b[MIN]),
+        Math.max(a[MAX], b[MAX])};
+  }
+
+  @Override
+  public boolean optimizeForWrite() {
+    // Route execution to the members hosting primary buckets, so every bucket is read once
+    return true;
+  }
+
+  @Override
+  public boolean isHA() {
+    // Read-only, so it is safe to re-execute after a member failure
+    return true;
+  }
+
+  @Override
+  public String getId() {
+    return ID;
+  }
+}
@@ -0,0 +1,64 @@
+package com.nick.geode.dataserver.function;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nick.geode.dataserver.service.DiskStoreService;
+import com.nick.geode.dataserver.service.DiskStoreSpec;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Creates a disk store on this member and saves its definition. Executed by
+ * {@link DiskStoreService#createDiskStore} on every data server; the caller combines the
+ * per-member results.
+ *
+ * Arguments: {@code Object[] {diskStoreName, diskStoreSpecJson}}.
+ * Result: a {@code Map<String, Object>} with {@code member}, {@code success} and either
+ * {@code error} (with {@code exists} when the member already has the disk store) or
+ * {@code diskStore}.
+ */
+public class CreateDiskStoreFunction implements Function<Object[]> {
+
+  public static final String ID = "dataserver.create-disk-store";
+
+  private final transient DiskStoreService diskStoreService;
+  private final transient ObjectMapper objectMapper;
+
+  public CreateDiskStoreFunction(DiskStoreService diskStoreService, ObjectMapper objectMapper) {
+    this.diskStoreService = diskStoreService;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public void execute(FunctionContext<Object[]> context) {
+    Object[] args = context.getArguments();
+    String diskStoreName = (String) args[0];
+
+    Map<String, Object> result;
+    try {
+      DiskStoreSpec spec = objectMapper.readValue((String) args[1], DiskStoreSpec.class);
+      result = new HashMap<>(diskStoreService.createLocalDiskStore(diskStoreName, spec));
+    } catch (JsonProcessingException e) {
+      result = new HashMap<>();
+      result.put("success", false);
+      result.put("error", "Invalid disk store spec: " + e.getOriginalMessage());
+    }
+    result.put("member", context.getCache().getDistributedSystem().getDistributedMember()
+        .getName());
+    context.getResultSender().lastResult(result);
+  }
+
+  @Override
+  public String getId() {
+    return ID;
+  }
+
+  @Override
+  public boolean isHA() {
+    // A member that leaves mid-way is reported to the caller rather than retried
+    return false;
+  }
+}
@@ -0,0 +1,69 @@
+package com.nick.geode.dataserver.function;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nick.geode.dataserver.service.IndexDefinition;
+import com.nick.geode.dataserver.service.IndexManagementService;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds indexes on a region of this member and saves their definitions. Executed by
+ * {@link IndexManagementService#createIndexes} on every data server; the caller combines the
+ * per-member results.
+ *
+ * Arguments: {@code Object[] {regionName, indexDefinitionsJson}}.
+ * Result: a {@code Map<String, Object>} with {@code member}, {@code success} and either
+ * {@code error} (with {@code found=false} when the member does not host the region, or
+ * {@code exists} when it already holds all of the indexes) or {@code indexes}.
+ */
+public class CreateIndexFunction implements Function<Object[]> {
+
+  public static final String ID = "dataserver.create-index";
+
+  private final transient IndexManagementService indexManagementService;
+  private final transient ObjectMapper objectMapper;
+
+  public CreateIndexFunction(IndexManagementService indexManagementService,
+                             ObjectMapper objectMapper) {
+    this.indexManagementService = indexManagementService;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public void execute(FunctionContext<Object[]> context) {
+    Object[] args = context.getArguments();
+    String regionName = (String) args[0];
+
+    Map<String, Object> result;
+    try {
+      List<IndexDefinition> definitions =
+          objectMapper.readValue((String) args[1], new TypeReference<>() {
+          });
+      result = new HashMap<>(indexManagementService.createLocalIndexes(regionName, definitions));
+    } catch (JsonProcessingException e) {
+      result = new HashMap<>();
+      result.put("success", false);
+      result.put("error", "Invalid index definitions: " + e.getOriginalMessage());
+    }
+    result.put("member", context.getCache().getDistributedSystem().getDistributedMember()
+        .getName());
+    context.getResultSender().lastResult(result);
+  }
+
+  @Override
+  public String getId() {
+    return ID;
+  }
+
+  @Override
+  public boolean isHA() {
+    // A member that leaves mid-way is reported to the caller rather than retried
+    return false;
+  }
+}
@@ -0,0 +1,65 @@
+package com.nick.geode.dataserver.function;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nick.geode.dataserver.service.RegionManagementService;
+import com.nick.geode.dataserver.service.RegionSpec;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Creates a region on this member and saves its definition. Executed by
+ * {@link RegionManagementService#createRegion} on every data server of the target groups;
+ * the caller combines the per-member results.
+ *
+ * Arguments: {@code Object[] {regionName, regionSpecJson}}.
+ * Result: a {@code Map<String, Object>} with {@code member}, {@code success} and either
+ * {@code error} (with {@code exists} when the member already hosts the region) or
+ * {@code regionType}.
+ */
+public class CreateRegionFunction implements Function<Object[]> {
+
+  public static final String ID = "dataserver.create-region";
+
+  private final transient RegionManagementService regionManagementService;
+  private final transient ObjectMapper objectMapper;
+
+  public CreateRegionFunction(RegionManagementService regionManagementService,
+                              ObjectMapper objectMapper) {
+    this.regionManagementService = regionManagementService;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public void execute(FunctionContext<Object[]> context) {
+    Object[] args = context.getArguments();
+    String regionName = (String) args[0];
+
+    Map<String, Object> result;
+    try {
+      RegionSpec spec = objectMapper.readValue((String) args[1], RegionSpec.class);
+      result = new HashMap<>(regionManagementService.createLocalRegion(regionName, spec));
+    } catch (JsonProcessingException e) {
+      result = new HashMap<>();
+      result.put("success", false);
+      result.put("error", "Invalid region spec: " + e.getOriginalMessage());
+    }
+    result.put("member", context.getCache().getDistributedSystem().getDistributedMember()
+        .getName());
+    context.getResultSender().lastResult(result);
+  }
+
+  @Override
+  public String getId() {
+    return ID;
+  }
+
+  @Override
+  public boolean isHA() {
+    // A member that leaves mid-way is reported to the caller rather than retried
+    return false;
+  }
+}
@@ -0,0 +1,48 @@
+package com.nick.geode.dataserver.function;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nick.geode.dataserver.service.DefinitionStore;
+import com.nick.geode.dataserver.service.DiskStoreService;
+import com.nick.geode.dataserver.service.IndexManagementService;
+import com.nick.geode.dataserver.service.RebalanceService;
+import com.nick.geode.dataserver.service.RegionManagementService;
+import org.apache.geode.cache.execute.FunctionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registers every function this member serves, for clients such as the data browser and for
+ * the other data servers. Spring creates this bean before any lifecycle starts, so all
+ * functions are registered before the cache is created and no peer or client can reach this
+ * member without them.
+ */
+@Component
+public class DataServerFunctions {
+
+  @Autowired
+  public DataServerFunctions(DiskStoreService diskStoreService,
+                             RegionManagementService regionManagementService,
+                             IndexManagementService indexManagementService,
+                             RebalanceService rebalanceService,
+                             DefinitionStore definitionStore, ObjectMapper objectMapper) {
+    // Used by clients
+    FunctionService.registerFunction(new RegionPageFunction());
+    FunctionService.registerFunction(new RegionExportFunction());
+    FunctionService.registerFunction(new AggregateFunction());
+    FunctionService.registerFunction(new RegionCatalogFunction());
+
+    // Used by the data servers to act on each other
+    FunctionService.registerFunction(new CreateDiskStoreFunction(diskStoreService, objectMapper));
+    FunctionService.registerFunction(new DestroyDiskStoreFunction(diskStoreService));
+    FunctionService.registerFunction(
+        new CreateRegionFunction(regionManagementService, objectMapper));
+    FunctionService.registerFunction(new DestroyRegionFunction(regionManagementService));
+    FunctionService.registerFunction(new RegionDefinitionsFunction(definitionStore, objectMapper));
+    FunctionService.registerFunction(
+        new CreateIndexFunction(indexManagementService, objectMapper));
+    FunctionService.registerFunction(new DestroyIndexFunction(indexManagementService));
+    FunctionService.registerFunction(new ListIndexesFunction(indexManagementService));
+    FunctionService.registerFunction(new RegionBalanceFunction(rebalanceService));
+    FunctionService.registerFunction(new RebalanceFunction(rebalanceService));
+  }
+}
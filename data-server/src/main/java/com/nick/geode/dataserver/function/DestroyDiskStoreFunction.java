@@ -0,0 +1,46 @@
+package com.nick.geode.dataserver.function;
+
+import com.nick.geode.dataserver.service.DiskStoreService;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Destroys a disk store on this member, if it has it, and forgets its definition.
+ * Executed by {@link DiskStoreService#deleteDiskStore} on every data server.
+ *
+ * Arguments: the disk store name.
+ * Result: a {@code Map<String, Object>} with {@code member}, {@code success},
+ * {@code found} and, on failure, {@code error}.
+ */
+public class DestroyDiskStoreFunction implements Function<String> {
+
+  public static final String ID = "dataserver.destroy-disk-store";
+
+  private final transient DiskStoreService diskStoreService;
+
+  public DestroyDiskStoreFunction(DiskStoreService diskStoreService) {
+    this.diskStoreService = diskStoreService;
+  }
+
+  @Override
+  public void execute(FunctionContext<String> context) {
+    Map<String, Object> result =
+        new HashMap<>(diskStoreService.destroyLocalDiskStore(context.getArguments()));
+    result.put("member", context.getCache().getDistributedSystem().getDistributedMember()
+        .getName());
+    context.getResultSender().lastResult(result);
+  }
+
+  @Override
+  public String getId() {
+    return ID;
+  }
+
+  @Override
+  public boolean isHA() {
+    return false;
+  }
+}
@@ -0,0 +1,47 @@
+package com.nick.geode.dataserver.function;
+
+import com.nick.geode.dataserver.service.IndexManagementService;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Drops an index on this member, if it holds it, and forgets its definition. Executed by
+ * {@link IndexManagementService#deleteIndex} on every data server.
+ *
+ * Arguments: {@code Object[] {regionName, indexName}}.
+ * Result: a {@code Map<String, Object>} with {@code member}, {@code success},
+ * {@code found} and, on failure, {@code error}.
+ */
+public class DestroyIndexFunction implements Function<Object[]> {
+
+  public static final String ID = "dataserver.destroy-index";
+
+  private final transient IndexManagementService indexManagementService;
+
+  public DestroyIndexFunction(IndexManagementService indexManagementService) {
+    this.indexManagementService = indexManagementService;
+  }
+
+  @Override
+  public void execute(FunctionContext<Object[]> context) {
+    Object[] args = context.getArguments();
+    Map<String, Object> result = new HashMap<>(
+        indexManagementService.destroyLocalIndex((String) args[0], (String) args[1]));
+    result.put("member", context.getCache().getDistributedSystem().getDistributedMember()
+        .getName());
+    context.getResultSender().lastResult(result);
+  }
+
+  @Override
+  public String getId() {
+    return ID;
+  }
+
+  @Override
+  public boolean isHA() {
+    return false;
+  }
+}
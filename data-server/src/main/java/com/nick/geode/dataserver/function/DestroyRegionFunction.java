@@ -0,0 +1,46 @@
+package com.nick.geode.dataserver.function;
+
+import com.nick.geode.dataserver.service.RegionManagementService;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Destroys a region on this member, if it still hosts it, and forgets its definition.
+ * Executed by {@link RegionManagementService#deleteRegion} on every data server.
+ *
+ * Arguments: the region name.
+ * Result: a {@code Map<String, Object>} with {@code member}, {@code success},
+ * {@code found} and, on failure, {@code error}.
+ */
+public class DestroyRegionFunction implements Function<String> {
+
+  public static final String ID = "dataserver.destroy-region";
+
+  private final transient RegionManagementService regionManagementService;
+
+  public DestroyRegionFunction(RegionManagementService regionManagementService) {
+    this.regionManagementService = regionManagementService;
+  }
+
+  @Override
+  public void execute(FunctionContext<String> context) {
+    Map<String, Object> result =
+        new HashMap<>(regionManagementService.destroyLocalRegion(context.getArguments()));
+    result.put("member", context.getCache().getDistributedSystem().getDistributedMember()
+        .getName());
+    context.getResultSender().lastResult(result);
+  }
+
+  @Override
+  public String getId() {
+    return ID;
+  }
+
+  @Override
+  public boolean isHA() {
+    return false;
+  }
+}
@@ -0,0 +1,49 @@
+package com.nick.geode.dataserver.function;
+
+import com.nick.geode.dataserver.service.IndexManagementService;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lists the indexes this member holds on a region, with their statistics. Executed by
+ * {@link IndexManagementService#listIndexes} on every data server; the caller combines the
+ * per-member results.
+ *
+ * Arguments: the region name.
+ * Result: a {@code Map<String, Object>} with {@code member}, {@code success} and either
+ * {@code indexes} or {@code error} (with {@code found=false} when the member does not host
+ * the region).
+ */
+public class ListIndexesFunction implements Function<String> {
+
+  public static final String ID = "dataserver.list-indexes";
+
+  private final transient IndexManagementService indexManagementService;
+
+  public ListIndexesFunction(IndexManagementService indexManagementService) {
+    this.indexManagementService = indexManagementService;
+  }
+
+  @Override
+  public void execute(FunctionContext<String> context) {
+    Map<String, Object> result =
+        new HashMap<>(indexManagementService.listLocalIndexes(context.getArguments()));
+    result.put("member", context.getCache().getDistributedSystem().getDistributedMember()
+        .getName());
+    context.getResultSender().lastResult(result);
+  }
+
+  @Override
+  public String getId() {
+    return ID;
+  }
+
+  @Override
+  public boolean isHA() {
+    // Read-only, so it is safe to re-execute after a member failure
+    return true;
+  }
+}
@@ -0,0 +1,53 @@
+package com.nick.geode.dataserver.function;
+
+import com.nick.geode.dataserver.service.RebalanceService;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rebalances (or simulates rebalancing) the given partitioned regions from this member, which
+ * must host them. Executed by {@link RebalanceService#rebalance} on one member per region.
+ *
+ * Arguments: {@code Object[] {simulate, regionPaths}}.
+ * Result: a {@code Map<String, Object>} with {@code member}, {@code success} and either
+ * {@code error} or {@code totals} and {@code regions}.
+ */
+public class RebalanceFunction implements Function<Object[]> {
+
+  public static final String ID = "dataserver.rebalance";
+
+  private final transient RebalanceService rebalanceService;
+
+  public RebalanceFunction(RebalanceService rebalanceService) {
+    this.rebalanceService = rebalanceService;
+  }
+
+  @Override
+  public void execute(FunctionContext<Object[]> context) {
+    Object[] args = context.getArguments();
+    boolean simulate = Boolean.TRUE.equals(args[0]);
+    List<String> regionPaths = Arrays.asList((String[]) args[1]);
+
+    Map<String, Object> result =
+        new HashMap<>(rebalanceService.rebalanceLocal(simulate, regionPaths, List.of()));
+    result.put("member", context.getCache().getDistributedSystem().getDistributedMember()
+        .getName());
+    context.getResultSender().lastResult(result);
+  }
+
+  @Override
+  public String getId() {
+    return ID;
+  }
+
+  @Override
+  public boolean isHA() {
+    // A member that leaves mid-way is reported to the caller rather than retried
+    return false;
+  }
+}
@@ -0,0 +1,46 @@
+package com.nick.geode.dataserver.function;
+
+import com.nick.geode.dataserver.service.RebalanceService;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reports the bucket balance of the partitioned regions this member hosts. Executed by
+ * {@link RebalanceService} on every data server, since a member does not see the regions of
+ * server groups it does not belong to.
+ *
+ * Result: a {@code Map<String, Object>} with {@code member}, {@code success} and either
+ * {@code error} or {@code regions} (and {@code lastAutoRebalance} if this member ran one).
+ */
+public class RegionBalanceFunction implements Function<Object> {
+
+  public static final String ID = "dataserver.region-balance";
+
+  private final transient RebalanceService rebalanceService;
+
+  public RegionBalanceFunction(RebalanceService rebalanceService) {
+    this.rebalanceService = rebalanceService;
+  }
+
+  @Override
+  public void execute(FunctionContext<Object> context) {
+    Map<String, Object> result = new HashMap<>(rebalanceService.getLocalBalance());
+    result.put("member", context.getCache().getDistributedSystem().getDistributedMember()
+        .getName());
+    context.getResultSender().lastResult(result);
+  }
+
+  @Override
+  public String getId() {
+    return ID;
+  }
+
+  @Override
+  public boolean isHA() {
+    // Read-only, so it is safe to re-execute after a member failure
+    return true;
+  }
+}
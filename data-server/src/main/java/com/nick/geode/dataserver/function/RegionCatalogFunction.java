@@ -0,0 +1,93 @@
+package com.nick.geode.dataserver.function;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.internal.cache.PartitionedRegion;
+import org.apache.geode.internal.cache.PartitionedRegionDataStore;
+import org.apache.geode.management.ManagementService;
+import org.apache.geode.management.RegionMXBean;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Describes every root region hosted on this member in a single call: data policy, local
+ * entry count, primary and secondary bucket counts and memory use. Executed on all servers
+ * of a client pool; callers combine the per-member rows.
+ *
+ * Result: a {@code List<Map<String, Object>>} with one map per region. For partitioned
+ * regions {@code entryCount} only counts primary entries, so member counts can be summed.
+ */
+public class RegionCatalogFunction implements Function<Object> {
+
+  public static final String ID = "browser.region-catalog";
+
+  @Override
+  public void execute(FunctionContext<Object> context) {
+    Cache cache = context.getCache();
+    ManagementService managementService = ManagementService.getManagementService(cache);
+    String member = cache.getDistributedSystem().getDistributedMember().getName();
+
+    List<Map<String, Object>> regions = new ArrayList<>();
+    for (Region<?, ?> region : cache.rootRegions()) {
+      Map<String, Object> info = new HashMap<>();
+      info.put("name", region.getName());
+      info.put("fullPath", region.getFullPath());
+      info.put("member", member);
+      info.put("dataPolicy", region.getAttributes().getDataPolicy().toString());
+      info.put("partitioned", region.getAttributes().getDataPolicy().withPartitioning());
+
+      RegionMXBean regionBean = managementService.getLocalRegionMBean(region.getFullPath());
+      if (regionBean != null) {
+        info.put("entryCount", regionBean.getEntryCount());
+        info.put("memoryBytes", regionBean.getEntrySize());
+        info.put("primaryBuckets", Math.max(regionBean.getPrimaryBucketCount(), 0));
+        info.put("secondaryBuckets",
+            Math.max(regionBean.getBucketCount() - regionBean.getPrimaryBucketCount(), 0));
+      } else {
+        describeDirectly(region, info);
+      }
+      regions.add(info);
+    }
+
+    context.getResultSender().lastResult(regions);
+  }
+
+  /**
+   * Fallback for when the management beans are not (yet) registered.
+   */
+  private void describeDirectly(Region<?, ?> region, Map<String, Object> info) {
+    if (region instanceof PartitionedRegion) {
+      PartitionedRegionDataStore dataStore = ((PartitionedRegion) region).getDataStore();
+      if (dataStore != null) {
+        int primaries = dataStore.getAllLocalPrimaryBucketIds().size();
+        long primaryEntries = dataStore.getAllLocalPrimaryBucketRegions().stream()
+            .mapToLong(bucket -> bucket.size())
+            .sum();
+        info.put("entryCount", primaryEntries);
+        info.put("memoryBytes", dataStore.currentAllocatedMemory());
+        info.put("primaryBuckets", primaries);
+        info.put("secondaryBuckets", dataStore.getAllLocalBucketIds().size() - primaries);
+        return;
+      }
+    }
+    info.put("entryCount", (long) region.size());
+    info.put("memoryBytes", -1L);
+    info.put("primaryBuckets", 0);
+    info.put("secondaryBuckets", 0);
+  }
+
+  @Override
+  public boolean isHA() {
+    return false;
+  }
+
+  @Override
+  public String getId() {
+    return ID;
+  }
+}
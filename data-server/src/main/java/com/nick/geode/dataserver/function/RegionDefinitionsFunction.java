@@ -0,0 +1,56 @@
+package com.nick.geode.dataserver.function;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nick.geode.dataserver.service.DefinitionStore;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Returns the disk store and region definitions saved on this member, so a data server that
+ * joins later can create the regions its peers already host.
+ *
+ * Result: a {@code Map<String, Object>} with {@code member}, {@code success} and
+ * {@code definitions}, the {@link DefinitionStore.Definitions} as a JSON string.
+ */
+public class RegionDefinitionsFunction implements Function<Object> {
+
+  public static final String ID = "dataserver.region-definitions";
+
+  private final transient DefinitionStore definitionStore;
+  private final transient ObjectMapper objectMapper;
+
+  public RegionDefinitionsFunction(DefinitionStore definitionStore, ObjectMapper objectMapper) {
+    this.definitionStore = definitionStore;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public void execute(FunctionContext<Object> context) {
+    Map<String, Object> result = new HashMap<>();
+    try {
+      result.put("definitions", objectMapper.writeValueAsString(definitionStore.snapshot()));
+      result.put("success", true);
+    } catch (JsonProcessingException e) {
+      result.put("success", false);
+      result.put("error", "Failed to serialize definitions: " + e.getOriginalMessage());
+    }
+    result.put("member", context.getCache().getDistributedSystem().getDistributedMember()
+        .getName());
+    context.getResultSender().lastResult(result);
+  }
+
+  @Override
+  public String getId() {
+    return ID;
+  }
+
+  @Override
+  public boolean isHA() {
+    // Read-only, so it is safe to re-execute after a member failure
+    return true;
+  }
+}
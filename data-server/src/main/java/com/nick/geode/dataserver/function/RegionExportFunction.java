@@ -0,0 +1,101 @@
+package com.nick.geode.dataserver.function;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.internal.cache.BucketRegion;
+import org.apache.geode.internal.cache.PartitionedRegion;
+import org.apache.geode.internal.cache.PartitionedRegionDataStore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams every entry of a region, or only its keys, in batches sent as they fill. For a
+ * partitioned region each primary bucket hosted on this member is read in a single pass, in
+ * no particular order; any other region is read whole, so callers execute the function on a
+ * single server for those.
+ *
+ * The function is executed on servers of a client pool, so callers choose which pool carries
+ * the export. Members that do not host the region send an empty batch.
+ *
+ * Arguments: {@code Object[] {regionName, batchSize, keysOnly}}.
+ * Result: batches, each a list of {@code Object[] {bucketId, key, value}}; the value is null
+ * when {@code keysOnly} is set.
+ */
+public class RegionExportFunction implements Function<Object[]> {
+
+  public static final String ID = "browser.region-export";
+
+  @Override
+  public void execute(FunctionContext<Object[]> context) {
+    Object[] args = context.getArguments();
+    String regionName = (String) args[0];
+    int batchSize = (Integer) args[1];
+    boolean keysOnly = args.length > 2 && Boolean.TRUE.equals(args[2]);
+
+    Region<?, ?> region = context.getCache().getRegion(regionName);
+    ResultSender<Object> sender = context.getResultSender();
+    List<Object[]> batch = new ArrayList<>(batchSize);
+
+    if (region instanceof PartitionedRegion) {
+      PartitionedRegionDataStore dataStore = ((PartitionedRegion) region).getDataStore();
+      if (dataStore != null) {
+        for (Integer bucketId : dataStore.getAllLocalPrimaryBucketIds()) {
+          BucketRegion bucket = dataStore.getLocalBucketById(bucketId);
+          if (bucket != null) {
+            batch = send(bucket, bucketId, batchSize, keysOnly, batch, sender);
+          }
+        }
+      }
+    } else if (region != null) {
+      batch = send(region, 0, batchSize, keysOnly, batch, sender);
+    }
+
+    sender.lastResult(batch);
+  }
+
+  /**
+   * Add the entries of the given region to the batch, sending every full batch.
+   *
+   * @return the batch still to be sent
+   */
+  private List<Object[]> send(Region<?, ?> region, int bucketId, int batchSize,
+                              boolean keysOnly, List<Object[]> batch,
+                              ResultSender<Object> sender) {
+    if (keysOnly) {
+      for (Object key : region.keySet()) {
+        batch.add(new Object[] {bucketId, key, null});
+        batch = sendIfFull(batch, batchSize, sender);
+      }
+      return batch;
+    }
+    for (Map.Entry<?, ?> entry : region.entrySet()) {
+      batch.add(new Object[] {bucketId, entry.getKey(), entry.getValue()});
+      batch = sendIfFull(batch, batchSize, sender);
+    }
+    return batch;
+  }
+
+  private List<Object[]> sendIfFull(List<Object[]> batch, int batchSize,
+                                    ResultSender<Object> sender) {
+    if (batch.size() < batchSize) {
+      return batch;
+    }
+    sender.sendResult(batch);
+    return new ArrayList<>(batchSize);
+  }
+
+  @Override
+  public boolean isHA() {
+    // Batches already written cannot be taken back, so a retry would duplicate them
+    return false;
+  }
+
+  @Override
+  public String getId() {
+    return ID;
+  }
+}
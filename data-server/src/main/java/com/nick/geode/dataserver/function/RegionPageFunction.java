@@ -0,0 +1,132 @@
+package com.nick.geode.dataserver.function;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.internal.cache.BucketRegion;
+import org.apache.geode.internal.cache.PartitionedRegion;
+import org.apache.geode.internal.cache.PartitionedRegionDataStore;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Returns one page of entries from the primary buckets hosted on this member.
+ * Entries are ordered by bucket id, then by the class name of the key and then by its string
+ * form, so a (bucket, key type, key) triple is enough to resume the scan without re-reading
+ * earlier buckets. The class name keeps keys such as {@code 1} and {@code "1"} apart.
+ *
+ * Executed with {@code onRegion}; for a partitioned region each member pages through its own
+ * primary buckets, for a replicated region a single member pages through the whole region.
+ *
+ * Arguments: {@code Object[] {regionName, startBucket, afterKeyType, afterKey, limit,
+ * keysOnly}}, where {@code afterKeyType} is the class name of the last key returned.
+ * Result: a list of {@code Object[] {bucketId, key, value}}; the value is null when
+ * {@code keysOnly} is set.
+ */
+public class RegionPageFunction implements Function<Object[]> {
+
+  public static final String ID = "browser.region-page";
+
+  private static final Comparator<Object> KEY_ORDER =
+      Comparator.comparing((Object key) -> key.getClass().getName())
+          .thenComparing(String::valueOf);
+
+  @Override
+  public void execute(FunctionContext<Object[]> context) {
+    Object[] args = context.getArguments();
+    String regionName = (String) args[0];
+    int startBucket = (Integer) args[1];
+    String afterKeyType = (String) args[2];
+    String afterKey = (String) args[3];
+    int limit = (Integer) args[4];
+    boolean keysOnly = args.length > 5 && Boolean.TRUE.equals(args[5]);
+
+    Region<?, ?> region = context.getCache().getRegion(regionName);
+    List<Object[]> page = new ArrayList<>();
+
+    if (region instanceof PartitionedRegion) {
+      PartitionedRegionDataStore dataStore = ((PartitionedRegion) region).getDataStore();
+      if (dataStore != null) {
+        List<Integer> bucketIds = new ArrayList<>(dataStore.getAllLocalPrimaryBucketIds());
+        bucketIds.sort(null);
+        for (Integer bucketId : bucketIds) {
+          if (bucketId < startBucket) {
+            continue;
+          }
+          BucketRegion bucket = dataStore.getLocalBucketById(bucketId);
+          if (bucket != null) {
+            boolean resume = bucketId == startBucket;
+            collect(bucket, bucketId, resume ? afterKeyType : null, resume ? afterKey : null,
+                limit, keysOnly, page);
+          }
+          if (page.size() >= limit) {
+            break;
+          }
+        }
+      }
+    } else if (region != null && startBucket == 0) {
+      // Non-partitioned regions are treated as a single bucket
+      collect(region, 0, afterKeyType, afterKey, limit, keysOnly, page);
+    }
+
+    context.getResultSender().lastResult(page);
+  }
+
+  /**
+   * Appends the smallest keys after {@code afterKey} in the given region to the page,
+   * keeping at most the remaining page capacity in memory.
+   */
+  private void collect(Region<?, ?> region, int bucketId, String afterKeyType,
+                       String afterKey, int limit, boolean keysOnly, List<Object[]> page) {
+    int remaining = limit - page.size();
+    if (remaining <= 0) {
+      return;
+    }
+
+    // Max-heap bounded to the remaining capacity, so a large bucket is never fully sorted;
+    // sized by the bucket too, so a large limit on a small bucket allocates little
+    PriorityQueue<Object> smallest =
+        new PriorityQueue<>(Math.min(remaining, region.size()) + 1, KEY_ORDER.reversed());
+    for (Object key : region.keySet()) {
+      if (afterKey != null && !isAfter(key, afterKeyType, afterKey)) {
+        continue;
+      }
+      smallest.offer(key);
+      if (smallest.size() > remaining) {
+        smallest.poll();
+      }
+    }
+
+    List<Object> keys = new ArrayList<>(smallest);
+    keys.sort(KEY_ORDER);
+    for (Object key : keys) {
+      if (keysOnly) {
+        page.add(new Object[] {bucketId, key, null});
+        continue;
+      }
+      Region.Entry<?, ?> entry = region.getEntry(key);
+      if (entry != null) {
+        page.add(new Object[] {bucketId, key, entry.getValue()});
+      }
+    }
+  }
+
+  private static boolean isAfter(Object key, String afterKeyType, String afterKey) {
+    int byType = key.getClass().getName().compareTo(afterKeyType);
+    return byType != 0 ? byType > 0 : String.valueOf(key).compareTo(afterKey) > 0;
+  }
+
+  @Override
+  public boolean optimizeForWrite() {
+    // Route execution to the members hosting primary buckets, so every bucket is read once
+    return true;
+  }
+
+  @Override
+  public String getId() {
+    return ID;
+  }
+}
@@ -1,6 +1,7 @@
 package com.nick.geode.dataserver.geode;
 
-import org.apache.geode.cache.CacheFactory;
+import com.nick.geode.metrics.GeodeStatisticsMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.geode.cache.GemFireCache;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -17,32 +18,25 @@ public class DataServerConfiguration {
     return new EmbeddedDataServerLifecycle(properties);
   }
 
+  @Bean
+  public GeodeStatisticsMetrics geodeStatisticsMetrics(MeterRegistry meterRegistry,
+                                                       DataServerProperties properties,
+                                                       EmbeddedDataServerLifecycle lifecycle) {
+    return new GeodeStatisticsMetrics(meterRegistry, () -> {
+      GemFireCache cache = lifecycle.getCache();
+      return cache != null ? cache.getDistributedSystem() : null;
+    }, properties.getMetricsStatisticsTypes(), properties.getMetricsRefreshInterval());
+  }
+
   @Bean
   @DependsOn("embeddedDataServerLifecycle")
   @Lazy
-  public GemFireCache gemFireCache() {
-    // Wait for cache to be available (lifecycle will start it)
-    int retries = 20;
-    while (retries > 0) {
-      try {
-        GemFireCache cache = CacheFactory.getAnyInstance();
-        if (cache != null && !cache.isClosed()) {
-          return cache;
-        }
-      } catch (Exception e) {
-        // Cache not available yet, wait and retry
-      }
-      
-      try {
-        Thread.sleep(500);
-      } catch (InterruptedException e) {
-        Thread.currentThread().interrupt();
-        throw new IllegalStateException("Interrupted while waiting for cache", e);
-      }
-      retries--;
+  public GemFireCache gemFireCache(EmbeddedDataServerLifecycle lifecycle) {
+    // The lifecycle starts the server and creates the cache before any lazy bean is used
+    GemFireCache cache = lifecycle.getCache();
+    if (cache == null || cache.isClosed()) {
+      throw new IllegalStateException("Failed to get cache instance. Make sure the data server has started and connected to the locator.");
     }
-    
-    throw new IllegalStateException("Failed to get cache instance. Make sure the data server has started and connected to the locator.");
+    return cache;
   }
 }
-
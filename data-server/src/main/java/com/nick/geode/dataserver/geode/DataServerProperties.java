@@ -2,6 +2,10 @@ package com.nick.geode.dataserver.geode;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Configuration properties for running an embedded Apache Geode Data Server.
  */
@@ -33,6 +37,126 @@ public class DataServerProperties {
    */
   private int locatorPort = 10334;
 
+  /**
+   * Cache server port clients connect to (0 picks a free port).
+   */
+  private int serverPort = 0;
+
+  /**
+   * Server groups this member belongs to. Clients and functions can target a group.
+   */
+  private List<String> groups = new ArrayList<>();
+
+  /**
+   * Redundancy zone of this member, e.g. its rack or availability zone. Redundant copies of
+   * partitioned buckets are placed in a different zone than the primary. Empty for none.
+   */
+  private String redundancyZone = "";
+
+  /**
+   * Whether to rebalance partitioned regions after a data server joins the cluster.
+   */
+  private boolean autoRebalance = true;
+
+  /**
+   * How long to wait after the last member joined before rebalancing, so several members
+   * starting together cause a single rebalance.
+   */
+  private Duration autoRebalanceDelay = Duration.ofSeconds(30);
+
+  /**
+   * Maximum time to wait for a rebalance (or simulation) to finish.
+   */
+  private Duration rebalanceTimeout = Duration.ofMinutes(10);
+
+  /**
+   * Maximum time region creation and deletion wait for every target member to confirm.
+   */
+  private Duration memberOperationTimeout = Duration.ofMinutes(2);
+
+  /**
+   * Maximum time an OQL query may run on this server before it is cancelled.
+   * Zero disables the limit.
+   */
+  private Duration maxQueryExecutionTime = Duration.ofSeconds(30);
+
+  /**
+   * Size of the off-heap memory pool, for example 512m or 4g. Empty disables off-heap storage.
+   */
+  private String offHeapMemorySize = "";
+
+  /**
+   * Whether to lock heap and off-heap memory into RAM so it is never swapped out.
+   */
+  private boolean lockMemory = false;
+
+  /**
+   * Heap usage percentage at which the member refuses operations that add data (0 disables).
+   */
+  private float criticalHeapPercentage = 0;
+
+  /**
+   * Heap usage percentage at which heap LRU regions start evicting (0 keeps the Geode default).
+   */
+  private float evictionHeapPercentage = 0;
+
+  /**
+   * Off-heap usage percentage at which the member refuses operations that add data (0 disables).
+   */
+  private float criticalOffHeapPercentage = 0;
+
+  /**
+   * Off-heap usage percentage at which off-heap LRU regions start evicting
+   * (0 keeps the Geode default).
+   */
+  private float evictionOffHeapPercentage = 0;
+
+  /**
+   * How values of persistent regions are recovered from disk on restart.
+   */
+  private RecoveryMode recoveryMode = RecoveryMode.BACKGROUND;
+
+  /**
+   * Whether the saved disk stores, and then the persistent regions, are recovered in parallel
+   * on restart, on up to one thread per CPU.
+   */
+  private boolean parallelDiskStoreRecovery = true;
+
+  /**
+   * Statistics archive file (.gfs) written by the sampler, relative to the working directory.
+   * Empty disables archiving.
+   */
+  private String statisticArchiveFile = "";
+
+  /**
+   * How often Geode samples its statistics (and writes them to the archive).
+   */
+  private Duration statisticSampleRate = Duration.ofSeconds(1);
+
+  /**
+   * Size in megabytes at which the statistics archive is rolled over (0 for no limit).
+   */
+  private int archiveFileSizeLimit = 0;
+
+  /**
+   * Megabytes all rolled statistics archives may use before the oldest are deleted
+   * (0 for no limit).
+   */
+  private int archiveDiskSpaceLimit = 0;
+
+  /**
+   * Geode statistics types published as metrics.
+   */
+  private List<String> metricsStatisticsTypes = new ArrayList<>(List.of(
+      "CachePerfStats", "PartitionedRegionStats", "DiskStoreStatistics", "DiskRegionStatistics",
+      "CacheServerStats", "ResourceManagerStats", "OffHeapMemoryStats", "DistributionStats",
+      "VMStats", "VMGCStats", "VMMemoryPoolStats"));
+
+  /**
+   * How often new Geode statistics instances (regions, disk stores, ...) are picked up as metrics.
+   */
+  private Duration metricsRefreshInterval = Duration.ofSeconds(30);
+
   public boolean isEnabled() {
     return enabled;
   }
@@ -72,5 +196,199 @@ public class DataServerProperties {
   public void setLocatorPort(int locatorPort) {
     this.locatorPort = locatorPort;
   }
-}
 
+  public int getServerPort() {
+    return serverPort;
+  }
+
+  public void setServerPort(int serverPort) {
+    this.serverPort = serverPort;
+  }
+
+  public List<String> getGroups() {
+    return groups;
+  }
+
+  public void setGroups(List<String> groups) {
+    this.groups = groups;
+  }
+
+  public String getRedundancyZone() {
+    return redundancyZone;
+  }
+
+  public void setRedundancyZone(String redundancyZone) {
+    this.redundancyZone = redundancyZone;
+  }
+
+  public boolean isAutoRebalance() {
+    return autoRebalance;
+  }
+
+  public void setAutoRebalance(boolean autoRebalance) {
+    this.autoRebalance = autoRebalance;
+  }
+
+  public Duration getAutoRebalanceDelay() {
+    return autoRebalanceDelay;
+  }
+
+  public void setAutoRebalanceDelay(Duration autoRebalanceDelay) {
+    this.autoRebalanceDelay = autoRebalanceDelay;
+  }
+
+  public Duration getRebalanceTimeout() {
+    return rebalanceTimeout;
+  }
+
+  public void setRebalanceTimeout(Duration rebalanceTimeout) {
+    this.rebalanceTimeout = rebalanceTimeout;
+  }
+
+  public Duration getMemberOperationTimeout() {
+    return memberOperationTimeout;
+  }
+
+  public void setMemberOperationTimeout(Duration memberOperationTimeout) {
+    this.memberOperationTimeout = memberOperationTimeout;
+  }
+
+  public Duration getMaxQueryExecutionTime() {
+    return maxQueryExecutionTime;
+  }
+
+  public void setMaxQueryExecutionTime(Duration maxQueryExecutionTime) {
+    this.maxQueryExecutionTime = maxQueryExecutionTime;
+  }
+
+  public String getOffHeapMemorySize() {
+    return offHeapMemorySize;
+  }
+
+  public void setOffHeapMemorySize(String offHeapMemorySize) {
+    this.offHeapMemorySize = offHeapMemorySize;
+  }
+
+  public boolean isLockMemory() {
+    return lockMemory;
+  }
+
+  public void setLockMemory(boolean lockMemory) {
+    this.lockMemory = lockMemory;
+  }
+
+  public float getCriticalHeapPercentage() {
+    return criticalHeapPercentage;
+  }
+
+  public void setCriticalHeapPercentage(float criticalHeapPercentage) {
+    this.criticalHeapPercentage = criticalHeapPercentage;
+  }
+
+  public float getEvictionHeapPercentage() {
+    return evictionHeapPercentage;
+  }
+
+  public void setEvictionHeapPercentage(float evictionHeapPercentage) {
+    this.evictionHeapPercentage = evictionHeapPercentage;
+  }
+
+  public float getCriticalOffHeapPercentage() {
+    return criticalOffHeapPercentage;
+  }
+
+  public void setCriticalOffHeapPercentage(float criticalOffHeapPercentage) {
+    this.criticalOffHeapPercentage = criticalOffHeapPercentage;
+  }
+
+  public float getEvictionOffHeapPercentage() {
+    return evictionOffHeapPercentage;
+  }
+
+  public void setEvictionOffHeapPercentage(float evictionOffHeapPercentage) {
+    this.evictionOffHeapPercentage = evictionOffHeapPercentage;
+  }
+
+  public RecoveryMode getRecoveryMode() {
+    return recoveryMode;
+  }
+
+  public void setRecoveryMode(RecoveryMode recoveryMode) {
+    this.recoveryMode = recoveryMode;
+  }
+
+  public boolean isParallelDiskStoreRecovery() {
+    return parallelDiskStoreRecovery;
+  }
+
+  public void setParallelDiskStoreRecovery(boolean parallelDiskStoreRecovery) {
+    this.parallelDiskStoreRecovery = parallelDiskStoreRecovery;
+  }
+
+  /**
+   * Value recovery strategy for persistent regions. Keys are always recovered before a
+   * region is available.
+   */
+  public enum RecoveryMode {
+    /**
+     * Recover keys and values before the region is available.
+     */
+    EAGER,
+    /**
+     * Recover keys, make the region available, then load values in the background.
+     */
+    BACKGROUND,
+    /**
+     * Recover keys only; values are read from disk on first access.
+     */
+    LAZY
+  }
+
+  public String getStatisticArchiveFile() {
+    return statisticArchiveFile;
+  }
+
+  public void setStatisticArchiveFile(String statisticArchiveFile) {
+    this.statisticArchiveFile = statisticArchiveFile;
+  }
+
+  public Duration getStatisticSampleRate() {
+    return statisticSampleRate;
+  }
+
+  public void setStatisticSampleRate(Duration statisticSampleRate) {
+    this.statisticSampleRate = statisticSampleRate;
+  }
+
+  public int getArchiveFileSizeLimit() {
+    return archiveFileSizeLimit;
+  }
+
+  public void setArchiveFileSizeLimit(int archiveFileSizeLimit) {
+    this.archiveFileSizeLimit = archiveFileSizeLimit;
+  }
+
+  public int getArchiveDiskSpaceLimit() {
+    return archiveDiskSpaceLimit;
+  }
+
+  public void setArchiveDiskSpaceLimit(int archiveDiskSpaceLimit) {
+    this.archiveDiskSpaceLimit = archiveDiskSpaceLimit;
+  }
+
+  public List<String> getMetricsStatisticsTypes() {
+    return metricsStatisticsTypes;
+  }
+
+  public void setMetricsStatisticsTypes(List<String> metricsStatisticsTypes) {
+    this.metricsStatisticsTypes = metricsStatisticsTypes;
+  }
+
+  public Duration getMetricsRefreshInterval() {
+    return metricsRefreshInterval;
+  }
+
+  public void setMetricsRefreshInterval(Duration metricsRefreshInterval) {
+    this.metricsRefreshInterval = metricsRefreshInterval;
+  }
+}
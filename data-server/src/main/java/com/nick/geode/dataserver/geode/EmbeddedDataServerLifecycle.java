@@ -1,13 +1,14 @@
 package com.nick.geode.dataserver.geode;
 
-import org.apache.geode.cache.CacheFactory;
-import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Cache;
 import org.apache.geode.distributed.ServerLauncher;
 import org.springframework.context.SmartLifecycle;
 
 import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -15,11 +16,18 @@ import java.util.concurrent.atomic.AtomicBoolean;
  */
 public class EmbeddedDataServerLifecycle implements SmartLifecycle {
 
+  /**
+   * Server group every data server belongs to, in addition to its configured groups; member
+   * functions target it so they never run on locators.
+   */
+  public static final String DATA_SERVER_GROUP = "data-servers";
+
   private final DataServerProperties properties;
   private final AtomicBoolean running = new AtomicBoolean(false);
 
   private ServerLauncher launcher;
-  private GemFireCache cache;
+  private volatile Cache cache;
+  private String workingDirectory;
 
   public EmbeddedDataServerLifecycle(DataServerProperties properties) {
     this.properties = properties;
@@ -33,50 +41,119 @@ public class EmbeddedDataServerLifecycle implements SmartLifecycle {
     if (running.compareAndSet(false, true)) {
       String workingDir = resolveWorkingDirectory(properties.getWorkingDir());
       ensureDirectoryExists(workingDir);
+      workingDirectory = workingDir;
 
       String locators = properties.getLocatorHost() + "[" + properties.getLocatorPort() + "]";
 
-      launcher = new ServerLauncher.Builder()
+      // Read by Geode when the cache is created, so it must be set before the launcher starts
+      if (!properties.getMaxQueryExecutionTime().isZero()) {
+        System.setProperty("gemfire.Cache.MAX_QUERY_EXECUTION_TIME",
+            String.valueOf(properties.getMaxQueryExecutionTime().toMillis()));
+      }
+
+      configureRecovery();
+
+      ServerLauncher.Builder builder = new ServerLauncher.Builder()
           .setMemberName(properties.getMemberName())
-          .setServerPort(0) // Use random port
+          .setServerPort(properties.getServerPort())
           .setWorkingDirectory(workingDir)
           .set("locators", locators)
           .set("log-level", "info")
-          .build();
+          // Values stay in PDX form on the server; the type registry is persisted because
+          // persistent regions may hold PDX values
+          .setPdxReadSerialized(true)
+          .setPdxPersistent(true);
+      configureTopology(builder);
+      configureMemory(builder);
+      configureStatistics(builder, workingDir);
+      launcher = builder.build();
 
       launcher.start();
 
-      // Wait for cache to be available
-      int retries = 10;
-      while (retries > 0 && cache == null) {
-        try {
-          cache = CacheFactory.getAnyInstance();
-          if (cache == null) {
-            try {
-              Thread.sleep(500);
-            } catch (InterruptedException e) {
-              Thread.currentThread().interrupt();
-              throw new IllegalStateException("Interrupted while waiting for cache", e);
-            }
-            retries--;
-          }
-        } catch (Exception e) {
-          try {
-            Thread.sleep(500);
-          } catch (InterruptedException ie) {
-            Thread.currentThread().interrupt();
-            throw new IllegalStateException("Interrupted while waiting for cache", ie);
-          }
-          retries--;
-        }
-      }
-      
+      // The embedded launcher creates the cache synchronously in start()
+      cache = launcher.getCache();
       if (cache == null) {
         throw new IllegalStateException("Failed to get cache instance after starting server");
       }
     }
   }
 
+  /**
+   * Sets the disk recovery system properties, which Geode reads when disk stores are created.
+   */
+  private void configureRecovery() {
+    DataServerProperties.RecoveryMode mode = properties.getRecoveryMode();
+    System.setProperty("gemfire.disk.recoverValues",
+        String.valueOf(mode != DataServerProperties.RecoveryMode.LAZY));
+    System.setProperty("gemfire.disk.recoverValuesSync",
+        String.valueOf(mode == DataServerProperties.RecoveryMode.EAGER));
+    // Parallel recovery is done by RecoveryService; gemfire.parallelDiskStoreRecovery only
+    // applies to disk stores declared in cache.xml or cluster configuration
+  }
+
+  /**
+   * Places this member in its server groups and redundancy zone.
+   */
+  private void configureTopology(ServerLauncher.Builder builder) {
+    Set<String> groups = new LinkedHashSet<>();
+    groups.add(DATA_SERVER_GROUP);
+    properties.getGroups().stream()
+        .map(String::trim)
+        .filter(group -> !group.isEmpty())
+        .forEach(groups::add);
+    builder.set("groups", String.join(",", groups));
+    String zone = properties.getRedundancyZone();
+    if (zone != null && !zone.isBlank()) {
+      builder.set("redundancy-zone", zone.trim());
+    }
+  }
+
+  /**
+   * Applies the off-heap pool and resource manager thresholds. Unset values keep Geode's defaults.
+   */
+  private void configureMemory(ServerLauncher.Builder builder) {
+    if (properties.getOffHeapMemorySize() != null && !properties.getOffHeapMemorySize().isBlank()) {
+      builder.set("off-heap-memory-size", properties.getOffHeapMemorySize());
+    }
+    if (properties.isLockMemory()) {
+      builder.set("lock-memory", "true");
+    }
+    if (properties.getCriticalHeapPercentage() > 0) {
+      builder.setCriticalHeapPercentage(properties.getCriticalHeapPercentage());
+    }
+    if (properties.getEvictionHeapPercentage() > 0) {
+      builder.setEvictionHeapPercentage(properties.getEvictionHeapPercentage());
+    }
+    if (properties.getCriticalOffHeapPercentage() > 0) {
+      builder.setCriticalOffHeapPercentage(properties.getCriticalOffHeapPercentage());
+    }
+    if (properties.getEvictionOffHeapPercentage() > 0) {
+      builder.setEvictionOffHeapPercentage(properties.getEvictionOffHeapPercentage());
+    }
+  }
+
+  /**
+   * Enables statistic sampling, which also feeds the metrics bridge, and the optional archive.
+   */
+  private void configureStatistics(ServerLauncher.Builder builder, String workingDir) {
+    builder.set("statistic-sampling-enabled", "true");
+    builder.set("statistic-sample-rate",
+        String.valueOf(properties.getStatisticSampleRate().toMillis()));
+    String archiveFile = properties.getStatisticArchiveFile();
+    if (archiveFile != null && !archiveFile.isBlank()) {
+      builder.set("statistic-archive-file",
+          Paths.get(workingDir).resolve(archiveFile).toAbsolutePath().toString());
+      if (properties.getArchiveFileSizeLimit() > 0) {
+        builder.set("archive-file-size-limit",
+            String.valueOf(properties.getArchiveFileSizeLimit()));
+      }
+      if (properties.getArchiveDiskSpaceLimit() > 0) {
+        builder.set("archive-disk-space-limit",
+            String.valueOf(properties.getArchiveDiskSpaceLimit()));
+      }
+    }
+  }
+
   /**
    * Resolves the working directory path. If the path is relative, it will be resolved
    * relative to the project root (where target directory exists).
@@ -149,8 +226,20 @@ public class EmbeddedDataServerLifecycle implements SmartLifecycle {
     return Integer.MIN_VALUE;
   }
 
-  public GemFireCache getCache() {
-    return cache;
+  /**
+   * This member's cache, or null while the server is not running. The one way the services
+   * and functions of this application reach the cache.
+   */
+  public Cache getCache() {
+    Cache current = cache;
+    return current != null && !current.isClosed() ? current : null;
+  }
+
+  /**
+   * Absolute working directory of the running server, or null before it has started.
+   */
+  public String getWorkingDirectory() {
+    return workingDirectory;
   }
 }
 
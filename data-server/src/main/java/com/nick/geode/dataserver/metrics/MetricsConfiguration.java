@@ -0,0 +1,22 @@
+package com.nick.geode.dataserver.metrics;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caps the number of distinct {@code region} tags of {@code geode.operation}. Every tag value
+ * carries a full percentile histogram, so meters beyond the cap are dropped rather than
+ * registered.
+ */
+@Configuration
+public class MetricsConfiguration {
+
+  static final int MAX_REGION_TAGS = 200;
+
+  @Bean
+  public MeterFilter operationRegionTagLimit() {
+    return MeterFilter.maximumAllowableTags(OperationMetricsAspect.METRIC_NAME, "region",
+        MAX_REGION_TAGS, MeterFilter.deny());
+  }
+}
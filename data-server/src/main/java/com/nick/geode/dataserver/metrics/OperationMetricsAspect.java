@@ -0,0 +1,110 @@
+package com.nick.geode.dataserver.metrics;
+
+import com.nick.geode.dataserver.geode.EmbeddedDataServerLifecycle;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.geode.cache.Cache;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Times every public method of the {@code @Service} beans as {@code geode.operation}, tagged
+ * with the service, the operation, the region (the {@code regionName} argument, if any) and
+ * the outcome: SUCCESS, FAILURE (a result with {@code success=false}) or ERROR (an exception).
+ * Spring lifecycle callbacks are not timed. Names of regions that do not exist on this member,
+ * before or after the call, are tagged {@code unknown}, so arbitrary names in request paths
+ * cannot create new meters.
+ */
+@Aspect
+@Component
+public class OperationMetricsAspect {
+
+  public static final String METRIC_NAME = "geode.operation";
+
+  private final MeterRegistry meterRegistry;
+  private final EmbeddedDataServerLifecycle lifecycle;
+
+  @Autowired
+  public OperationMetricsAspect(MeterRegistry meterRegistry,
+                                EmbeddedDataServerLifecycle lifecycle) {
+    this.meterRegistry = meterRegistry;
+    this.lifecycle = lifecycle;
+  }
+
+  @Around("@within(org.springframework.stereotype.Service) && execution(public * *(..))"
+      + " && !execution(* org.springframework.context.Lifecycle.*(..))"
+      + " && !execution(* org.springframework.context.SmartLifecycle.*(..))"
+      + " && !execution(* org.springframework.context.Phased.*(..))")
+  public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+    MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+    String service = signature.getDeclaringType().getSimpleName();
+    String operation = signature.getName();
+    String regionName = regionName(signature, joinPoint.getArgs());
+    // Checked before and after, so created and deleted regions keep their name
+    boolean known = regionName != null && regionExists(regionName);
+
+    Timer.Sample sample = Timer.start(meterRegistry);
+    Object result;
+    try {
+      result = joinPoint.proceed();
+    } catch (Throwable e) {
+      sample.stop(timer(service, operation, regionTag(regionName, known), "ERROR"));
+      throw e;
+    }
+    sample.stop(timer(service, operation, regionTag(regionName, known), outcome(result)));
+    return result;
+  }
+
+  private Timer timer(String service, String operation, String region, String outcome) {
+    return Timer.builder(METRIC_NAME)
+        .description("Data server management operations")
+        .tag("service", service)
+        .tag("operation", operation)
+        .tag("region", region)
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  private String outcome(Object result) {
+    if (result instanceof Map && ((Map<?, ?>) result).containsKey("success")) {
+      return Boolean.TRUE.equals(((Map<?, ?>) result).get("success")) ? "SUCCESS" : "FAILURE";
+    }
+    return "SUCCESS";
+  }
+
+  private String regionName(MethodSignature signature, Object[] args) {
+    String[] names = signature.getParameterNames();
+    if (names != null) {
+      for (int i = 0; i < names.length; i++) {
+        if ("regionName".equals(names[i]) && args[i] != null) {
+          return args[i].toString();
+        }
+      }
+    }
+    return null;
+  }
+
+  private String regionTag(String regionName, boolean known) {
+    if (regionName == null) {
+      return "none";
+    }
+    return known || regionExists(regionName) ? regionName : "unknown";
+  }
+
+  private boolean regionExists(String regionName) {
+    try {
+      Cache cache = lifecycle.getCache();
+      return cache != null && cache.getRegion(regionName) != null;
+    } catch (Exception e) {
+      // Not a valid region name
+      return false;
+    }
+  }
+}
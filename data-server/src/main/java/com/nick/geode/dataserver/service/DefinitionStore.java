@@ -0,0 +1,176 @@
+package com.nick.geode.dataserver.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nick.geode.dataserver.geode.EmbeddedDataServerLifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the disk stores, regions and indexes this member hosts, as created through the
+ * management API, in {@code definitions.json} in the working directory, so they can be
+ * recreated on restart and handed to data servers that join later. Deleted regions are
+ * remembered too, so a member that missed the deletion does not bring them back.
+ */
+@Component
+public class DefinitionStore {
+
+  private static final String FILE_NAME = "definitions.json";
+
+  private final EmbeddedDataServerLifecycle lifecycle;
+  private final ObjectMapper objectMapper;
+
+  private Definitions definitions;
+
+  @Autowired
+  public DefinitionStore(EmbeddedDataServerLifecycle lifecycle, ObjectMapper objectMapper) {
+    this.lifecycle = lifecycle;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Saved definitions, in creation order.
+   */
+  public synchronized Definitions load() {
+    if (definitions == null) {
+      File file = file();
+      try {
+        definitions = file.exists()
+            ? objectMapper.readValue(file, Definitions.class)
+            : new Definitions(null, null, null, null);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to read " + file, e);
+      }
+    }
+    return definitions;
+  }
+
+  /**
+   * A copy of the saved definitions that later changes do not affect.
+   */
+  public synchronized Definitions snapshot() {
+    Definitions current = load();
+    return new Definitions(current.diskStores(), current.regions(), current.indexes(),
+        current.deletedRegions());
+  }
+
+  public synchronized void saveDiskStore(String name, DiskStoreSpec spec) {
+    load().diskStores().put(name, spec);
+    write();
+  }
+
+  public synchronized void removeDiskStore(String name) {
+    if (load().diskStores().remove(name) != null) {
+      write();
+    }
+  }
+
+  public synchronized void saveRegion(String name, RegionSpec spec) {
+    load().regions().put(name, spec);
+    load().deletedRegions().remove(name);
+    write();
+  }
+
+  /**
+   * @return whether a definition was removed
+   */
+  public synchronized boolean removeRegion(String name) {
+    return removeRegion(name, System.currentTimeMillis());
+  }
+
+  /**
+   * Remove a region definition and remember when the region was deleted, so it is neither
+   * recreated on restart nor handed to joining members until it is created again.
+   *
+   * @return whether a definition was removed
+   */
+  public synchronized boolean removeRegion(String name, long deletedAt) {
+    boolean removed = load().regions().remove(name) != null;
+    load().indexes().remove(name);
+    Long previous = load().deletedRegions().get(name);
+    if (!removed && previous != null && previous >= deletedAt) {
+      return false;
+    }
+    load().deletedRegions().put(name, deletedAt);
+    write();
+    return removed;
+  }
+
+  public synchronized void saveIndex(String regionName, IndexDefinition definition) {
+    load().indexes().computeIfAbsent(regionName, region -> new LinkedHashMap<>())
+        .put(definition.name(), definition);
+    write();
+  }
+
+  /**
+   * @return whether a definition was removed
+   */
+  public synchronized boolean removeIndex(String regionName, String indexName) {
+    Map<String, IndexDefinition> indexes = load().indexes().get(regionName);
+    if (indexes == null || indexes.remove(indexName) == null) {
+      return false;
+    }
+    if (indexes.isEmpty()) {
+      load().indexes().remove(regionName);
+    }
+    write();
+    return true;
+  }
+
+  private void write() {
+    Path target = file().toPath();
+    Path temp = target.resolveSibling(FILE_NAME + ".tmp");
+    try {
+      // Write then rename, so a crash never leaves a truncated file behind
+      objectMapper.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), definitions);
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to write " + target, e);
+    }
+  }
+
+  private File file() {
+    String workingDirectory = lifecycle.getWorkingDirectory();
+    if (workingDirectory == null) {
+      throw new IllegalStateException("Data server has not started");
+    }
+    return Paths.get(workingDirectory, FILE_NAME).toFile();
+  }
+
+  /**
+   * Disk store and region specs by name, index definitions by region and index name, and the
+   * deletion time of deleted regions.
+   */
+  public record Definitions(Map<String, DiskStoreSpec> diskStores,
+                            Map<String, RegionSpec> regions,
+                            Map<String, Map<String, IndexDefinition>> indexes,
+                            Map<String, Long> deletedRegions) {
+
+    public Definitions {
+      diskStores = diskStores != null ? new LinkedHashMap<>(diskStores) : new LinkedHashMap<>();
+      regions = regions != null ? new LinkedHashMap<>(regions) : new LinkedHashMap<>();
+      Map<String, Map<String, IndexDefinition>> indexCopy = new LinkedHashMap<>();
+      if (indexes != null) {
+        indexes.forEach((region, regionIndexes) ->
+            indexCopy.put(region, new LinkedHashMap<>(regionIndexes)));
+      }
+      indexes = indexCopy;
+      deletedRegions =
+          deletedRegions != null ? new LinkedHashMap<>(deletedRegions) : new LinkedHashMap<>();
+    }
+
+    public Definitions(Map<String, DiskStoreSpec> diskStores, Map<String, RegionSpec> regions) {
+      this(diskStores, regions, null, null);
+    }
+  }
+}
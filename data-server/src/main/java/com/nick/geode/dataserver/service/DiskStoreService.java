@@ -0,0 +1,334 @@
+package com.nick.geode.dataserver.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nick.geode.dataserver.function.CreateDiskStoreFunction;
+import com.nick.geode.dataserver.function.DestroyDiskStoreFunction;
+import com.nick.geode.dataserver.geode.EmbeddedDataServerLifecycle;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.DiskStore;
+import org.apache.geode.cache.DiskStoreFactory;
+import org.apache.geode.management.ManagementService;
+import org.apache.geode.management.MemberMXBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.File;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service for managing the disk stores used by persistent and overflow regions.
+ *
+ * <p>Like regions, disk stores are created and destroyed on every data server through member
+ * functions, and each call returns once all of them have confirmed, so a region spec naming
+ * the disk store can be created on any of them right away.
+ */
+@Service
+public class DiskStoreService {
+
+  private final EmbeddedDataServerLifecycle lifecycle;
+  private final DefinitionStore definitionStore;
+  private final ObjectMapper objectMapper;
+  private final MemberFunctions memberFunctions;
+
+  @Autowired
+  public DiskStoreService(EmbeddedDataServerLifecycle lifecycle,
+                          DefinitionStore definitionStore, ObjectMapper objectMapper,
+                          MemberFunctions memberFunctions) {
+    this.lifecycle = lifecycle;
+    this.definitionStore = definitionStore;
+    this.objectMapper = objectMapper;
+    this.memberFunctions = memberFunctions;
+  }
+
+  /**
+   * List the disk stores of this member with their settings.
+   */
+  public Map<String, Object> listDiskStores() {
+    Map<String, Object> result = new HashMap<>();
+
+    Cache cache = lifecycle.getCache();
+    if (cache == null) {
+      result.put("success", false);
+      result.put("error", "Cache is not available");
+      return result;
+    }
+
+    try {
+      List<Map<String, Object>> diskStores = new ArrayList<>();
+      MemberMXBean member = ManagementService.getManagementService(cache).getMemberMXBean();
+      if (member != null) {
+        for (String name : member.listDiskStores(true)) {
+          DiskStore diskStore = cache.findDiskStore(name);
+          if (diskStore != null) {
+            diskStores.add(describe(diskStore));
+          }
+        }
+      }
+
+      result.put("success", true);
+      result.put("diskStores", diskStores);
+
+    } catch (Exception e) {
+      result.put("success", false);
+      result.put("error", "Failed to list disk stores: " + e.getMessage());
+    }
+
+    return result;
+  }
+
+  /**
+   * Create a disk store on every data server and wait until each of them has confirmed.
+   * Members that already have the disk store count as confirmed, so repeating a creation that
+   * failed on some members completes it.
+   */
+  public Map<String, Object> createDiskStore(String name, DiskStoreSpec spec) {
+    Map<String, Object> result = new HashMap<>();
+
+    if (lifecycle.getCache() == null) {
+      result.put("success", false);
+      result.put("error", "Cache is not available");
+      return result;
+    }
+
+    List<Map<String, Object>> members;
+    try {
+      members = memberFunctions.executeOnDataServers(CreateDiskStoreFunction.ID,
+          new Object[] {name, objectMapper.writeValueAsString(spec)});
+    } catch (JsonProcessingException e) {
+      result.put("success", false);
+      result.put("error", "Invalid disk store spec: " + e.getOriginalMessage());
+      return result;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      result.put("success", false);
+      result.put("error", "Interrupted while creating disk store: " + name);
+      return result;
+    } catch (Exception e) {
+      result.put("success", false);
+      result.put("error", "Failed to create disk store: " + e.getMessage());
+      return result;
+    }
+
+    int created = 0;
+    List<String> failures = new ArrayList<>();
+    List<String> warnings = new ArrayList<>();
+    for (Map<String, Object> member : members) {
+      if ((Boolean) member.getOrDefault("success", false)) {
+        created++;
+      } else if (!(Boolean) member.getOrDefault("exists", false)) {
+        failures.add(member.get("member") + ": " + member.get("error"));
+      }
+      if (member.containsKey("warning")) {
+        warnings.add(member.get("member") + ": " + member.get("warning"));
+      }
+    }
+
+    result.put("diskStoreName", name);
+    result.put("members", members);
+    if (!failures.isEmpty()) {
+      result.put("success", false);
+      result.put("error", "Failed to create disk store on " + failures.size() + " of "
+          + members.size() + " members: " + String.join("; ", failures));
+    } else if (created == 0) {
+      result.put("success", false);
+      result.put("error", "Disk store already exists: " + name);
+    } else {
+      result.put("success", true);
+      result.put("message", "Disk store created successfully: " + name);
+    }
+    if (!warnings.isEmpty()) {
+      result.put("warning", String.join("; ", warnings));
+    }
+    return result;
+  }
+
+  /**
+   * Create a disk store on this member only and save its definition. Used by
+   * {@link CreateDiskStoreFunction} and by recovery on startup.
+   */
+  public Map<String, Object> createLocalDiskStore(String name, DiskStoreSpec spec) {
+    Map<String, Object> result = new HashMap<>();
+
+    Cache cache = lifecycle.getCache();
+    if (cache == null) {
+      result.put("success", false);
+      result.put("error", "Cache is not available");
+      return result;
+    }
+    if (cache.findDiskStore(name) != null) {
+      result.put("success", false);
+      result.put("exists", true);
+      result.put("error", "Disk store already exists: " + name);
+      return result;
+    }
+
+    try {
+      File directory = resolveDirectory(name, spec.getDirectory());
+      if (!directory.exists() && !directory.mkdirs()) {
+        throw new IllegalStateException("Failed to create directory: " + directory);
+      }
+
+      DiskStoreFactory factory = cache.createDiskStoreFactory();
+      if (spec.getDirectorySizeMb() != null) {
+        factory.setDiskDirsAndSizes(new File[] {directory}, new int[] {spec.getDirectorySizeMb()});
+      } else {
+        factory.setDiskDirs(new File[] {directory});
+      }
+      if (spec.getMaxOplogSizeMb() != null) {
+        factory.setMaxOplogSize(spec.getMaxOplogSizeMb());
+      }
+      if (spec.getQueueSize() != null) {
+        factory.setQueueSize(spec.getQueueSize());
+      }
+      if (spec.getTimeInterval() != null) {
+        factory.setTimeInterval(spec.getTimeInterval());
+      }
+      if (spec.getWriteBufferSize() != null) {
+        factory.setWriteBufferSize(spec.getWriteBufferSize());
+      }
+      if (spec.getCompactionThreshold() != null) {
+        factory.setCompactionThreshold(spec.getCompactionThreshold());
+      }
+      if (spec.getAutoCompact() != null) {
+        factory.setAutoCompact(spec.getAutoCompact());
+      }
+      if (spec.getAllowForceCompaction() != null) {
+        factory.setAllowForceCompaction(spec.getAllowForceCompaction());
+      }
+      DiskStore diskStore = factory.create(name);
+
+      result.put("success", true);
+      result.put("message", "Disk store created successfully: " + name);
+      result.put("diskStore", describe(diskStore));
+
+      // Disk stores are recreated on restart so persistent regions can recover from them
+      try {
+        definitionStore.saveDiskStore(name, spec);
+      } catch (UncheckedIOException e) {
+        result.put("warning", "Disk store will not be recreated on restart: " + e.getMessage());
+      }
+
+    } catch (IllegalArgumentException e) {
+      result.put("success", false);
+      result.put("error", "Invalid disk store spec: " + e.getMessage());
+    } catch (Exception e) {
+      result.put("success", false);
+      result.put("error", "Failed to create disk store: " + e.getMessage());
+    }
+
+    return result;
+  }
+
+  /**
+   * Destroy a disk store that is no longer used by any region on every data server and wait
+   * until each of them has confirmed. Its files are left on disk.
+   */
+  public Map<String, Object> deleteDiskStore(String name) {
+    Map<String, Object> result = new HashMap<>();
+
+    if (lifecycle.getCache() == null) {
+      result.put("success", false);
+      result.put("error", "Cache is not available");
+      return result;
+    }
+
+    try {
+      List<Map<String, Object>> members = memberFunctions.executeOnDataServers(
+          DestroyDiskStoreFunction.ID, name);
+
+      boolean found = false;
+      List<String> failures = new ArrayList<>();
+      for (Map<String, Object> member : members) {
+        found |= (Boolean) member.getOrDefault("found", false);
+        if (!(Boolean) member.getOrDefault("success", false)) {
+          failures.add(member.get("member") + ": " + member.get("error"));
+        }
+      }
+
+      result.put("members", members);
+      if (!failures.isEmpty()) {
+        result.put("success", false);
+        result.put("error", "Failed to delete disk store on " + failures.size() + " of "
+            + members.size() + " members: " + String.join("; ", failures));
+      } else if (!found) {
+        result.put("success", false);
+        result.put("error", "Disk store not found: " + name);
+      } else {
+        result.put("success", true);
+        result.put("message", "Disk store deleted successfully: " + name);
+      }
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      result.put("success", false);
+      result.put("error", "Interrupted while deleting disk store: " + name);
+    } catch (Exception e) {
+      result.put("success", false);
+      result.put("error", "Failed to delete disk store: " + e.getMessage());
+    }
+
+    return result;
+  }
+
+  /**
+   * Destroy a disk store on this member, if it has it, and remove its definition. Used by
+   * {@link DestroyDiskStoreFunction}.
+   */
+  public Map<String, Object> destroyLocalDiskStore(String name) {
+    Map<String, Object> result = new HashMap<>();
+
+    Cache cache = lifecycle.getCache();
+    if (cache == null) {
+      result.put("success", false);
+      result.put("error", "Cache is not available");
+      return result;
+    }
+
+    try {
+      DiskStore diskStore = cache.findDiskStore(name);
+      if (diskStore != null) {
+        diskStore.destroy();
+      }
+      definitionStore.removeDiskStore(name);
+      result.put("success", true);
+      result.put("found", diskStore != null);
+    } catch (Exception e) {
+      result.put("success", false);
+      result.put("error", "Failed to delete disk store: " + e.getMessage());
+    }
+    return result;
+  }
+
+  private Map<String, Object> describe(DiskStore diskStore) {
+    Map<String, Object> info = new HashMap<>();
+    info.put("name", diskStore.getName());
+    info.put("directories", Arrays.stream(diskStore.getDiskDirs()).map(File::getPath).toList());
+    info.put("directorySizesMb", diskStore.getDiskDirSizes());
+    info.put("maxOplogSizeMb", diskStore.getMaxOplogSize());
+    info.put("queueSize", diskStore.getQueueSize());
+    info.put("timeInterval", diskStore.getTimeInterval());
+    info.put("writeBufferSize", diskStore.getWriteBufferSize());
+    info.put("compactionThreshold", diskStore.getCompactionThreshold());
+    info.put("autoCompact", diskStore.getAutoCompact());
+    info.put("allowForceCompaction", diskStore.getAllowForceCompaction());
+    return info;
+  }
+
+  private File resolveDirectory(String name, String directory) {
+    Path path = Paths.get(directory != null && !directory.isBlank()
+        ? directory
+        : "disk-stores/" + name);
+    if (!path.isAbsolute() && lifecycle.getWorkingDirectory() != null) {
+      path = Paths.get(lifecycle.getWorkingDirectory()).resolve(path);
+    }
+    return path.toAbsolutePath().toFile();
+  }
+}
@@ -0,0 +1,127 @@
+package com.nick.geode.dataserver.service;
+
+/**
+ * Disk store options accepted as the JSON body of
+ * {@code POST /management/disk-stores/{diskStoreName}}. Every field is optional; unset
+ * fields keep Geode's disk store defaults.
+ */
+public class DiskStoreSpec {
+
+  /**
+   * Directory for the store's oplog files; relative paths are resolved against the data
+   * server working directory (default: disk-stores/&lt;name&gt;).
+   */
+  private String directory;
+
+  /**
+   * Maximum megabytes the store may use in its directory.
+   */
+  private Integer directorySizeMb;
+
+  /**
+   * Megabytes after which an oplog file is rolled over.
+   */
+  private Long maxOplogSizeMb;
+
+  /**
+   * Maximum number of pending asynchronous writes before writers block (0 is unbounded).
+   */
+  private Integer queueSize;
+
+  /**
+   * Milliseconds asynchronous writes may wait in the queue before being flushed.
+   */
+  private Long timeInterval;
+
+  /**
+   * Size in bytes of the write buffer.
+   */
+  private Integer writeBufferSize;
+
+  /**
+   * Percentage of garbage in an oplog at which it becomes eligible for compaction.
+   */
+  private Integer compactionThreshold;
+
+  /**
+   * Compact oplogs automatically once they reach the compaction threshold.
+   */
+  private Boolean autoCompact;
+
+  /**
+   * Allow compaction to be forced manually.
+   */
+  private Boolean allowForceCompaction;
+
+  public String getDirectory() {
+    return directory;
+  }
+
+  public void setDirectory(String directory) {
+    this.directory = directory;
+  }
+
+  public Integer getDirectorySizeMb() {
+    return directorySizeMb;
+  }
+
+  public void setDirectorySizeMb(Integer directorySizeMb) {
+    this.directorySizeMb = directorySizeMb;
+  }
+
+  public Long getMaxOplogSizeMb() {
+    return maxOplogSizeMb;
+  }
+
+  public void setMaxOplogSizeMb(Long maxOplogSizeMb) {
+    this.maxOplogSizeMb = maxOplogSizeMb;
+  }
+
+  public Integer getQueueSize() {
+    return queueSize;
+  }
+
+  public void setQueueSize(Integer queueSize) {
+    this.queueSize = queueSize;
+  }
+
+  public Long getTimeInterval() {
+    return timeInterval;
+  }
+
+  public void setTimeInterval(Long timeInterval) {
+    this.timeInterval = timeInterval;
+  }
+
+  public Integer getWriteBufferSize() {
+    return writeBufferSize;
+  }
+
+  public void setWriteBufferSize(Integer writeBufferSize) {
+    this.writeBufferSize = writeBufferSize;
+  }
+
+  public Integer getCompactionThreshold() {
+    return compactionThreshold;
+  }
+
+  public void setCompactionThreshold(Integer compactionThreshold) {
+    this.compactionThreshold = compactionThreshold;
+  }
+
+  public Boolean getAutoCompact() {
+    return autoCompact;
+  }
+
+  public void setAutoCompact(Boolean autoCompact) {
+    this.autoCompact = autoCompact;
+  }
+
+  public Boolean getAllowForceCompaction() {
+    return allowForceCompaction;
+  }
+
+  public void setAllowForceCompaction(Boolean allowForceCompaction) {
+    this.allowForceCompaction = allowForceCompaction;
+  }
+}
@@ -0,0 +1,13 @@
+package com.nick.geode.dataserver.service;
+
+/**
+ * Index to create on a region.
+ *
+ * @param name index name
+ * @param type FUNCTIONAL (alias RANGE) or KEY; defaults to FUNCTIONAL
+ * @param expression indexed expression, for example {@code e.status}
+ * @param fromClause region path with alias, for example {@code /orders e};
+ *                   defaults to {@code /<region> e}
+ */
+public record IndexDefinition(String name, String type, String expression, String fromClause) {
+}
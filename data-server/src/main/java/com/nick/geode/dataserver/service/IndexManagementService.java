@@ -0,0 +1,497 @@
+package com.nick.geode.dataserver.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nick.geode.dataserver.function.CreateIndexFunction;
+import com.nick.geode.dataserver.function.DestroyIndexFunction;
+import com.nick.geode.dataserver.function.ListIndexesFunction;
+import com.nick.geode.dataserver.geode.EmbeddedDataServerLifecycle;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.Index;
+import org.apache.geode.cache.query.IndexStatistics;
+import org.apache.geode.cache.query.MultiIndexCreationException;
+import org.apache.geode.cache.query.QueryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Service for managing OQL indexes on server-side regions.
+ *
+ * <p>Like regions, indexes are created and dropped on every data server through member
+ * functions, and each call returns once all of them have answered. Members that do not host
+ * the region are left out. Each member saves the definitions of the indexes it built next to
+ * its region definitions, so they are rebuilt on restart and on data servers that join later
+ * (see {@link RecoveryService}).
+ */
+@Service
+public class IndexManagementService {
+
+  private final EmbeddedDataServerLifecycle lifecycle;
+  private final DefinitionStore definitionStore;
+  private final ObjectMapper objectMapper;
+  private final MemberFunctions memberFunctions;
+  private final ReentrantLock definedIndexesLock = new ReentrantLock();
+
+  @Autowired
+  public IndexManagementService(EmbeddedDataServerLifecycle lifecycle,
+                                DefinitionStore definitionStore, ObjectMapper objectMapper,
+                                MemberFunctions memberFunctions) {
+    this.lifecycle = lifecycle;
+    this.definitionStore = definitionStore;
+    this.objectMapper = objectMapper;
+    this.memberFunctions = memberFunctions;
+  }
+
+  /**
+   * List the indexes of a region across the data servers hosting it. Statistics are summed
+   * over those members, and each member's own statistics are listed under {@code members}.
+   */
+  public Map<String, Object> listIndexes(String regionName) {
+    Map<String, Object> result = new HashMap<>();
+
+    Cache cache = lifecycle.getCache();
+    if (cache == null) {
+      result.put("success", false);
+      result.put("error", "Cache is not available");
+      return result;
+    }
+
+    try {
+      Map<String, Map<String, Object>> indexes = new TreeMap<>();
+      boolean found = false;
+      List<String> failures = new ArrayList<>();
+      for (Map<String, Object> member :
+          memberFunctions.executeOnDataServers(ListIndexesFunction.ID, regionName)) {
+        if (!(Boolean) member.getOrDefault("success", false)) {
+          if ((Boolean) member.getOrDefault("found", true)) {
+            failures.add(member.get("member") + ": " + member.get("error"));
+          }
+          continue;
+        }
+        found = true;
+        for (Object memberIndex : (List<?>) member.get("indexes")) {
+          addMemberIndex(indexes, (String) member.get("member"), (Map<?, ?>) memberIndex);
+        }
+      }
+
+      if (!found && failures.isEmpty()) {
+        result.put("success", false);
+        result.put("error", "Region not found: " + regionName);
+        return result;
+      }
+      result.put("success", failures.isEmpty());
+      result.put("region", regionName);
+      result.put("indexes", new ArrayList<>(indexes.values()));
+      if (!failures.isEmpty()) {
+        result.put("error", "Failed to list indexes on " + failures.size() + " members: "
+            + String.join("; ", failures));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      result.put("success", false);
+      result.put("error", "Interrupted while listing indexes of region: " + regionName);
+    } catch (Exception e) {
+      result.put("success", false);
+      result.put("error", "Failed to list indexes: " + e.getMessage());
+    }
+    return result;
+  }
+
+  /**
+   * Add one member's view of an index to the combined list, summing its statistics.
+   */
+  private static void addMemberIndex(Map<String, Map<String, Object>> indexes, String member,
+                                     Map<?, ?> memberIndex) {
+    Map<String, Object> index = indexes.computeIfAbsent((String) memberIndex.get("name"),
+        name -> {
+          Map<String, Object> combined = new LinkedHashMap<>();
+          combined.put("name", name);
+          combined.put("type", memberIndex.get("type"));
+          combined.put("expression", memberIndex.get("expression"));
+          combined.put("fromClause", memberIndex.get("fromClause"));
+          combined.put("statistics", new LinkedHashMap<String, Long>());
+          combined.put("members", new ArrayList<Map<String, Object>>());
+          return combined;
+        });
+
+    Map<?, ?> statistics = (Map<?, ?>) memberIndex.get("statistics");
+    if (statistics != null) {
+      @SuppressWarnings("unchecked")
+      Map<String, Long> totals = (Map<String, Long>) index.get("statistics");
+      statistics.forEach((name, value) ->
+          totals.merge((String) name, ((Number) value).longValue(), Long::sum));
+    }
+
+    Map<String, Object> memberStatistics = new LinkedHashMap<>();
+    memberStatistics.put("member", member);
+    memberStatistics.put("statistics", statistics);
+    @SuppressWarnings("unchecked")
+    List<Map<String, Object>> members = (List<Map<String, Object>>) index.get("members");
+    members.add(memberStatistics);
+  }
+
+  /**
+   * List the indexes this member holds on a region, with their statistics. Used by
+   * {@link ListIndexesFunction}.
+   */
+  public Map<String, Object> listLocalIndexes(String regionName) {
+    Map<String, Object> result = new HashMap<>();
+
+    Cache cache = lifecycle.getCache();
+    if (cache == null) {
+      result.put("success", false);
+      result.put("error", "Cache is not available");
+      return result;
+    }
+
+    Region<?, ?> region = cache.getRegion(regionName);
+    if (region == null) {
+      result.put("success", false);
+      result.put("found", false);
+      result.put("error", "Region not found: " + regionName);
+      return result;
+    }
+
+    List<Map<String, Object>> indexes = new ArrayList<>();
+    for (Index index : cache.getQueryService().getIndexes(region)) {
+      indexes.add(describe(index));
+    }
+
+    result.put("success", true);
+    result.put("indexes", indexes);
+    return result;
+  }
+
+  /**
+   * Create a single index on a region on every data server hosting it.
+   */
+  public Map<String, Object> createIndex(String regionName, IndexDefinition definition) {
+    Map<String, Object> result = createIndexes(regionName, List.of(definition));
+    if ((Boolean) result.getOrDefault("success", false)) {
+      result.put("message", "Index created successfully: " + definition.name());
+    }
+    return result;
+  }
+
+  /**
+   * Define several indexes and have every data server hosting the region build them together
+   * in a single pass over its data, then wait until each of them has answered. Members that
+   * already hold all of the indexes count as done, so repeating a creation that failed on some
+   * members completes it.
+   */
+  public Map<String, Object> createIndexes(String regionName, List<IndexDefinition> definitions) {
+    Map<String, Object> result = new HashMap<>();
+
+    Cache cache = lifecycle.getCache();
+    if (cache == null) {
+      result.put("success", false);
+      result.put("error", "Cache is not available");
+      return result;
+    }
+
+    for (IndexDefinition definition : definitions) {
+      String invalid = validate(definition);
+      if (invalid != null) {
+        result.put("success", false);
+        result.put("error", invalid);
+        return result;
+      }
+    }
+
+    List<Map<String, Object>> members;
+    try {
+      members = memberFunctions.executeOnDataServers(CreateIndexFunction.ID,
+          new Object[] {regionName, objectMapper.writeValueAsString(definitions)});
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      result.put("success", false);
+      result.put("error", "Interrupted while creating indexes on region: " + regionName);
+      return result;
+    } catch (JsonProcessingException e) {
+      result.put("success", false);
+      result.put("error", "Invalid index definitions: " + e.getOriginalMessage());
+      return result;
+    } catch (Exception e) {
+      result.put("success", false);
+      result.put("error", "Failed to create indexes: " + e.getMessage());
+      return result;
+    }
+
+    int created = 0;
+    int hosting = 0;
+    List<String> failures = new ArrayList<>();
+    List<String> warnings = new ArrayList<>();
+    List<Map<String, Object>> hostingMembers = new ArrayList<>();
+    for (Map<String, Object> member : members) {
+      if (!(Boolean) member.getOrDefault("found", true)) {
+        continue;
+      }
+      hosting++;
+      hostingMembers.add(member);
+      if ((Boolean) member.getOrDefault("success", false)) {
+        created++;
+      } else if (!(Boolean) member.getOrDefault("exists", false)) {
+        failures.add(member.get("member") + ": " + member.get("error"));
+      }
+      if (member.containsKey("warning")) {
+        warnings.add(member.get("member") + ": " + member.get("warning"));
+      }
+    }
+
+    result.put("region", regionName);
+    result.put("members", hostingMembers);
+    if (hosting == 0) {
+      result.put("success", false);
+      result.put("error", "Region not found: " + regionName);
+    } else if (!failures.isEmpty()) {
+      result.put("success", false);
+      result.put("error", "Failed to create indexes on " + failures.size() + " of " + hosting
+          + " members: " + String.join("; ", failures));
+    } else if (created == 0) {
+      result.put("success", false);
+      result.put("error", "Indexes already exist on region: " + regionName);
+    } else {
+      result.put("success", true);
+      result.put("message", "Indexes created successfully: " + definitions.size());
+      result.put("indexes", definitions.stream().map(IndexDefinition::name).toList());
+    }
+    if (!warnings.isEmpty()) {
+      result.put("warning", String.join("; ", warnings));
+    }
+    return result;
+  }
+
+  /**
+   * Define the indexes this member does not hold yet on a region, build them together in a
+   * single pass over its data and save their definitions. Used by {@link CreateIndexFunction}
+   * and by recovery on startup. Batches run one at a time, because defined indexes are pending
+   * in a list shared by the whole cache until they are built.
+   */
+  public Map<String, Object> createLocalIndexes(String regionName,
+                                                List<IndexDefinition> definitions) {
+    Map<String, Object> result = new HashMap<>();
+
+    Cache cache = lifecycle.getCache();
+    if (cache == null) {
+      result.put("success", false);
+      result.put("error", "Cache is not available");
+      return result;
+    }
+
+    Region<?, ?> region = cache.getRegion(regionName);
+    if (region == null) {
+      result.put("success", false);
+      result.put("found", false);
+      result.put("error", "Region not found: " + regionName);
+      return result;
+    }
+
+    QueryService queryService = cache.getQueryService();
+    List<IndexDefinition> missing = definitions.stream()
+        .filter(definition -> queryService.getIndex(region, definition.name()) == null)
+        .toList();
+    if (missing.isEmpty()) {
+      result.put("success", false);
+      result.put("exists", true);
+      result.put("error", "Indexes already exist on region: " + regionName);
+      return result;
+    }
+
+    definedIndexesLock.lock();
+    try {
+      for (IndexDefinition definition : missing) {
+        String fromClause = fromClause(regionName, definition);
+        if (isKeyIndex(definition)) {
+          queryService.defineKeyIndex(definition.name(), definition.expression(), fromClause);
+        } else {
+          queryService.defineIndex(definition.name(), definition.expression(), fromClause);
+        }
+      }
+
+      List<Map<String, Object>> created = new ArrayList<>();
+      for (Index index : queryService.createDefinedIndexes()) {
+        created.add(describe(index));
+      }
+
+      result.put("success", true);
+      result.put("indexes", created);
+
+    } catch (MultiIndexCreationException e) {
+      Map<String, String> failures = new HashMap<>();
+      e.getExceptionsMap().forEach((name, error) -> failures.put(name, error.getMessage()));
+      // The rest of the batch was built
+      List<Map<String, Object>> created = new ArrayList<>();
+      for (IndexDefinition definition : missing) {
+        Index index = failures.containsKey(definition.name())
+            ? null : queryService.getIndex(region, definition.name());
+        if (index != null) {
+          created.add(describe(index));
+        }
+      }
+      result.put("success", false);
+      result.put("error", "Failed to create " + failures.size() + " indexes: " + failures);
+      result.put("failures", failures);
+      result.put("indexes", created);
+    } catch (Exception e) {
+      result.put("success", false);
+      result.put("error", "Failed to create indexes: " + e.getMessage());
+    } finally {
+      // Definitions left behind by a failed call would be built by the next batch
+      queryService.clearDefinedIndexes();
+      definedIndexesLock.unlock();
+    }
+
+    // Rebuilt on restart and on data servers that join later
+    try {
+      for (IndexDefinition definition : definitions) {
+        if (queryService.getIndex(region, definition.name()) != null) {
+          definitionStore.saveIndex(regionName, definition);
+        }
+      }
+    } catch (UncheckedIOException e) {
+      result.put("warning", "Indexes will not be rebuilt on restart: " + e.getMessage());
+    }
+    return result;
+  }
+
+  /**
+   * Drop an index from every data server hosting the region and wait until each of them has
+   * confirmed.
+   */
+  public Map<String, Object> deleteIndex(String regionName, String indexName) {
+    Map<String, Object> result = new HashMap<>();
+
+    Cache cache = lifecycle.getCache();
+    if (cache == null) {
+      result.put("success", false);
+      result.put("error", "Cache is not available");
+      return result;
+    }
+
+    try {
+      List<Map<String, Object>> members = memberFunctions.executeOnDataServers(
+          DestroyIndexFunction.ID, new Object[] {regionName, indexName});
+
+      boolean found = false;
+      List<String> failures = new ArrayList<>();
+      for (Map<String, Object> member : members) {
+        found |= (Boolean) member.getOrDefault("found", false);
+        if (!(Boolean) member.getOrDefault("success", false)) {
+          failures.add(member.get("member") + ": " + member.get("error"));
+        }
+      }
+
+      result.put("members", members);
+      if (!failures.isEmpty()) {
+        result.put("success", false);
+        result.put("error", "Failed to delete index on " + failures.size() + " of "
+            + members.size() + " members: " + String.join("; ", failures));
+      } else if (!found) {
+        result.put("success", false);
+        result.put("error", "Index not found: " + indexName);
+      } else {
+        result.put("success", true);
+        result.put("message", "Index deleted successfully: " + indexName);
+      }
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      result.put("success", false);
+      result.put("error", "Interrupted while deleting index: " + indexName);
+    } catch (Exception e) {
+      result.put("success", false);
+      result.put("error", "Failed to delete index: " + e.getMessage());
+    }
+
+    return result;
+  }
+
+  /**
+   * Drop an index on this member, if it holds it, and forget its definition. Used by
+   * {@link DestroyIndexFunction}.
+   */
+  public Map<String, Object> destroyLocalIndex(String regionName, String indexName) {
+    Map<String, Object> result = new HashMap<>();
+
+    Cache cache = lifecycle.getCache();
+    if (cache == null) {
+      result.put("success", false);
+      result.put("error", "Cache is not available");
+      return result;
+    }
+
+    try {
+      Region<?, ?> region = cache.getRegion(regionName);
+      Index index = region != null ? cache.getQueryService().getIndex(region, indexName) : null;
+      if (index != null) {
+        cache.getQueryService().removeIndex(index);
+      }
+      boolean removed = definitionStore.removeIndex(regionName, indexName);
+      result.put("success", true);
+      result.put("found", index != null || removed);
+    } catch (Exception e) {
+      result.put("success", false);
+      result.put("error", "Failed to delete index: " + e.getMessage());
+    }
+    return result;
+  }
+
+  private Map<String, Object> describe(Index index) {
+    Map<String, Object> info = new HashMap<>();
+    info.put("name", index.getName());
+    info.put("type", index.getType().toString());
+    info.put("expression", index.getIndexedExpression());
+    info.put("fromClause", index.getFromClause());
+
+    IndexStatistics statistics = index.getStatistics();
+    if (statistics != null) {
+      Map<String, Object> stats = new HashMap<>();
+      stats.put("totalUses", statistics.getTotalUses());
+      stats.put("numberOfKeys", statistics.getNumberOfKeys());
+      stats.put("numberOfValues", statistics.getNumberOfValues());
+      stats.put("numUpdates", statistics.getNumUpdates());
+      stats.put("totalUpdateTimeNanos", statistics.getTotalUpdateTime());
+      info.put("statistics", stats);
+    }
+    return info;
+  }
+
+  /**
+   * Check an index definition, returning an error message or null when it is valid.
+   */
+  private String validate(IndexDefinition definition) {
+    if (definition.name() == null || definition.name().isBlank()) {
+      return "Index name is required";
+    }
+    if (definition.expression() == null || definition.expression().isBlank()) {
+      return "Indexed expression is required: " + definition.name();
+    }
+    String type = definition.type();
+    if (type != null && !type.equalsIgnoreCase("FUNCTIONAL") && !type.equalsIgnoreCase("RANGE")
+        && !type.equalsIgnoreCase("KEY")) {
+      return "Invalid index type: " + type + " (expected FUNCTIONAL, RANGE or KEY)";
+    }
+    return null;
+  }
+
+  private boolean isKeyIndex(IndexDefinition definition) {
+    return "KEY".equalsIgnoreCase(definition.type());
+  }
+
+  private String fromClause(String regionName, IndexDefinition definition) {
+    if (definition.fromClause() != null && !definition.fromClause().isBlank()) {
+      return definition.fromClause();
+    }
+    return "/" + regionName + " e";
+  }
+}
@@ -0,0 +1,133 @@
+package com.nick.geode.dataserver.service;
+
+import com.nick.geode.dataserver.geode.DataServerProperties;
+import com.nick.geode.dataserver.geode.EmbeddedDataServerLifecycle;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the member functions through which the services act on every data server, and turns
+ * what the members answer into result maps. Member functions answer with a
+ * {@code Map<String, Object>} holding {@code member}, {@code success} and, on failure,
+ * {@code error}; an exception or a missing answer becomes such a map too.
+ */
+@Component
+public class MemberFunctions {
+
+  private final DataServerProperties properties;
+
+  @Autowired
+  public MemberFunctions(DataServerProperties properties) {
+    this.properties = properties;
+  }
+
+  /**
+   * Run a member function on every data server and return the results sorted by member name,
+   * once all of them have answered.
+   */
+  public List<Map<String, Object>> executeOnDataServers(String functionId, Object arguments)
+      throws InterruptedException {
+    return executeOnMembers(new String[] {EmbeddedDataServerLifecycle.DATA_SERVER_GROUP},
+        functionId, arguments);
+  }
+
+  /**
+   * Run a member function on every data server of the given groups and return the results
+   * sorted by member name, once all of them have answered.
+   */
+  public List<Map<String, Object>> executeOnMembers(String[] groups, String functionId,
+                                                    Object arguments)
+      throws InterruptedException {
+    return collect(withArguments(FunctionService.onMembers(groups), arguments)
+        .execute(functionId));
+  }
+
+  /**
+   * Run a member function on the given members and return the results sorted by member name,
+   * once all of them have answered.
+   */
+  public List<Map<String, Object>> executeOnMembers(Set<DistributedMember> members,
+                                                    String functionId, Object arguments)
+      throws InterruptedException {
+    return collect(withArguments(FunctionService.onMembers(members), arguments)
+        .execute(functionId));
+  }
+
+  /**
+   * Wait up to {@code geode.dataserver.member-operation-timeout} for every member's answer.
+   */
+  private List<Map<String, Object>> collect(ResultCollector<?, ?> collector)
+      throws InterruptedException {
+    List<?> results = (List<?>) collector.getResult(
+        properties.getMemberOperationTimeout().toMillis(), TimeUnit.MILLISECONDS);
+
+    List<Map<String, Object>> members = new ArrayList<>();
+    for (Object memberResult : results) {
+      members.add(memberResult(memberResult));
+    }
+    members.sort(Comparator.comparing(member -> String.valueOf(member.get("member"))));
+    return members;
+  }
+
+  /**
+   * Start a member function on one member without waiting, so several members can run in
+   * parallel; collect the answer with {@link #getResult}.
+   */
+  public ResultCollector<?, ?> start(DistributedMember member, String functionId,
+                                     Object arguments) {
+    return withArguments(FunctionService.onMember(member), arguments).execute(functionId);
+  }
+
+  /**
+   * Wait for the answer of a function started with {@link #start}.
+   */
+  public Map<String, Object> getResult(ResultCollector<?, ?> collector, long timeoutMillis)
+      throws InterruptedException {
+    try {
+      List<?> results = (List<?>) collector.getResult(timeoutMillis, TimeUnit.MILLISECONDS);
+      return memberResult(results.isEmpty() ? null : results.get(0));
+    } catch (FunctionException e) {
+      return memberResult(e);
+    }
+  }
+
+  /**
+   * Geode rejects null arguments, so functions without arguments are executed without any.
+   */
+  @SuppressWarnings("unchecked")
+  private static Execution<Object, Object, List<Object>> withArguments(
+      Execution<?, ?, ?> execution, Object arguments) {
+    Execution<Object, Object, List<Object>> typed =
+        (Execution<Object, Object, List<Object>>) execution;
+    return arguments != null ? typed.setArguments(arguments) : typed;
+  }
+
+  /**
+   * The result map a member function returned, or a failure for an exception result.
+   */
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> memberResult(Object memberResult) {
+    if (memberResult instanceof Map) {
+      return (Map<String, Object>) memberResult;
+    }
+    Map<String, Object> failure = new HashMap<>();
+    failure.put("success", false);
+    failure.put("error", memberResult instanceof Throwable
+        ? ((Throwable) memberResult).getMessage()
+        : "No result");
+    return failure;
+  }
+}
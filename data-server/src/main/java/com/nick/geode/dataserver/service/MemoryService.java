@@ -0,0 +1,87 @@
+package com.nick.geode.dataserver.service;
+
+import com.nick.geode.dataserver.geode.EmbeddedDataServerLifecycle;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.control.ResourceManager;
+import org.apache.geode.management.ManagementService;
+import org.apache.geode.management.MemberMXBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service reporting heap and off-heap memory usage of this member.
+ */
+@Service
+public class MemoryService {
+
+  private final EmbeddedDataServerLifecycle lifecycle;
+
+  @Autowired
+  public MemoryService(EmbeddedDataServerLifecycle lifecycle) {
+    this.lifecycle = lifecycle;
+  }
+
+  /**
+   * Report heap and off-heap usage, off-heap fragmentation, resource manager thresholds
+   * and which regions store their values off-heap.
+   */
+  public Map<String, Object> getMemoryUsage() {
+    Map<String, Object> result = new HashMap<>();
+
+    Cache cache = lifecycle.getCache();
+    if (cache == null) {
+      result.put("success", false);
+      result.put("error", "Cache is not available");
+      return result;
+    }
+
+    try {
+      MemberMXBean member = ManagementService.getManagementService(cache).getMemberMXBean();
+      if (member != null) {
+        Map<String, Object> heap = new HashMap<>();
+        heap.put("usedMemoryMb", member.getUsedMemory());
+        heap.put("freeMemoryMb", member.getFreeMemory());
+        heap.put("maxMemoryMb", member.getMaxMemory());
+        result.put("heap", heap);
+
+        Map<String, Object> offHeap = new HashMap<>();
+        offHeap.put("maxMemoryBytes", member.getOffHeapMaxMemory());
+        offHeap.put("usedMemoryBytes", member.getOffHeapUsedMemory());
+        offHeap.put("freeMemoryBytes", member.getOffHeapFreeMemory());
+        offHeap.put("objects", member.getOffHeapObjects());
+        offHeap.put("fragmentationPercent", member.getOffHeapFragmentation());
+        offHeap.put("compactionTimeMs", member.getOffHeapCompactionTime());
+        result.put("offHeap", offHeap);
+      }
+
+      ResourceManager resourceManager = cache.getResourceManager();
+      Map<String, Object> thresholds = new HashMap<>();
+      thresholds.put("criticalHeapPercentage", resourceManager.getCriticalHeapPercentage());
+      thresholds.put("evictionHeapPercentage", resourceManager.getEvictionHeapPercentage());
+      thresholds.put("criticalOffHeapPercentage", resourceManager.getCriticalOffHeapPercentage());
+      thresholds.put("evictionOffHeapPercentage", resourceManager.getEvictionOffHeapPercentage());
+      result.put("thresholds", thresholds);
+
+      List<String> offHeapRegions = new ArrayList<>();
+      for (Region<?, ?> region : cache.rootRegions()) {
+        if (region.getAttributes().getOffHeap()) {
+          offHeapRegions.add(region.getName());
+        }
+      }
+      result.put("offHeapRegions", offHeapRegions);
+      result.put("success", true);
+
+    } catch (Exception e) {
+      result.put("success", false);
+      result.put("error", "Failed to read memory usage: " + e.getMessage());
+    }
+
+    return result;
+  }
+}
@@ -0,0 +1,501 @@
+package com.nick.geode.dataserver.service;
+
+import com.nick.geode.dataserver.function.RebalanceFunction;
+import com.nick.geode.dataserver.function.RegionBalanceFunction;
+import com.nick.geode.dataserver.geode.DataServerProperties;
+import com.nick.geode.dataserver.geode.EmbeddedDataServerLifecycle;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.control.RebalanceFactory;
+import org.apache.geode.cache.control.RebalanceOperation;
+import org.apache.geode.cache.control.RebalanceResults;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.cache.partition.PartitionMemberInfo;
+import org.apache.geode.cache.partition.PartitionRebalanceInfo;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.cache.partition.PartitionRegionInfo;
+import org.apache.geode.distributed.DistributedLockService;
+import org.apache.geode.distributed.DistributedMember;
+import org.apache.geode.management.ManagementService;
+import org.apache.geode.management.membership.MembershipEvent;
+import org.apache.geode.management.membership.MembershipListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Rebalances partitioned regions across the data servers and reports how evenly their
+ * buckets and primaries are spread. A member only sees the partitioned regions it hosts, so
+ * the balance is collected from every data server and each region is rebalanced by one of the
+ * members hosting it, through member functions. With {@code geode.dataserver.auto-rebalance}
+ * a rebalance runs {@code auto-rebalance-delay} after the last data server joined; a
+ * distributed lock makes sure only one member runs it per join.
+ */
+@Service
+public class RebalanceService implements SmartLifecycle {
+
+  private static final String LOCK_SERVICE_NAME = "data-server-rebalance";
+  private static final String LOCK_NAME = "auto-rebalance";
+
+  private final EmbeddedDataServerLifecycle lifecycle;
+  private final MemberFunctions memberFunctions;
+  private final DataServerProperties properties;
+
+  private ScheduledExecutorService scheduler;
+  private ScheduledFuture<?> pendingRebalance;
+  private MembershipListener membershipListener;
+  private volatile Map<String, Object> lastAutoRebalance;
+
+  @Autowired
+  public RebalanceService(EmbeddedDataServerLifecycle lifecycle, MemberFunctions memberFunctions,
+                          DataServerProperties properties) {
+    this.lifecycle = lifecycle;
+    this.memberFunctions = memberFunctions;
+    this.properties = properties;
+  }
+
+  /**
+   * Report bucket and primary counts per member for every partitioned region in the cluster,
+   * collected from all data servers, and the result of the latest automatic rebalance.
+   */
+  public Map<String, Object> getBalance() {
+    Map<String, Object> result = new HashMap<>();
+
+    Cache cache = lifecycle.getCache();
+    if (cache == null) {
+      result.put("success", false);
+      result.put("error", "Cache is not available");
+      return result;
+    }
+
+    try {
+      Map<String, Object> regions = new TreeMap<>();
+      Map<?, ?> lastRebalance = null;
+      List<String> failures = new ArrayList<>();
+      for (Map<String, Object> member :
+          memberFunctions.executeOnDataServers(RegionBalanceFunction.ID, null)) {
+        if (!(Boolean) member.getOrDefault("success", false)) {
+          failures.add(member.get("member") + ": " + member.get("error"));
+          continue;
+        }
+        // Every member hosting a region reports the same cluster-wide figures for it
+        for (Object region : (List<?>) member.get("regions")) {
+          regions.putIfAbsent((String) ((Map<?, ?>) region).get("region"), region);
+        }
+        Map<?, ?> memberRebalance = (Map<?, ?>) member.get("lastAutoRebalance");
+        if (memberRebalance != null && (lastRebalance == null
+            || (Long) memberRebalance.get("finishedAt") > (Long) lastRebalance.get("finishedAt"))) {
+          lastRebalance = memberRebalance;
+        }
+      }
+
+      result.put("success", failures.isEmpty());
+      result.put("regions", new ArrayList<>(regions.values()));
+      result.put("autoRebalance", properties.isAutoRebalance());
+      if (lastRebalance != null) {
+        result.put("lastAutoRebalance", lastRebalance);
+      }
+      if (!failures.isEmpty()) {
+        result.put("error", "Failed to read the balance of " + failures.size()
+            + " members: " + String.join("; ", failures));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      result.put("success", false);
+      result.put("error", "Interrupted while reading the balance");
+    } catch (Exception e) {
+      result.put("success", false);
+      result.put("error", e.getMessage());
+    }
+    return result;
+  }
+
+  /**
+   * Report bucket and primary counts per member for the partitioned regions this member hosts.
+   * Used by {@link RegionBalanceFunction}.
+   */
+  public Map<String, Object> getLocalBalance() {
+    Map<String, Object> result = new HashMap<>();
+
+    Cache cache = lifecycle.getCache();
+    if (cache == null) {
+      result.put("success", false);
+      result.put("error", "Cache is not available");
+      return result;
+    }
+
+    try {
+      List<Map<String, Object>> regions = new ArrayList<>();
+      for (PartitionRegionInfo info : PartitionRegionHelper.getPartitionRegionInfo(cache)) {
+        Map<String, Object> region = new LinkedHashMap<>();
+        region.put("region", info.getRegionPath());
+        region.put("totalBuckets", info.getConfiguredBucketCount());
+        region.put("createdBuckets", info.getCreatedBucketCount());
+        region.put("lowRedundancyBuckets", info.getLowRedundancyBucketCount());
+        region.put("configuredRedundantCopies", info.getConfiguredRedundantCopies());
+        region.put("actualRedundantCopies", info.getActualRedundantCopies());
+        region.put("balance", balance(info.getPartitionMemberInfo()));
+        regions.add(region);
+      }
+      regions.sort(Comparator.comparing(region -> (String) region.get("region")));
+
+      result.put("success", true);
+      result.put("regions", regions);
+      if (lastAutoRebalance != null) {
+        result.put("lastAutoRebalance", lastAutoRebalance);
+      }
+    } catch (Exception e) {
+      result.put("success", false);
+      result.put("error", e.getMessage());
+    }
+    return result;
+  }
+
+  /**
+   * Rebalance the partitioned regions of the cluster, or with {@code simulate} only compute
+   * what a rebalance would move. Each region is rebalanced by the first data server (by name)
+   * hosting it, and the members run in parallel. Reports the bucket and primary balance before
+   * and after for every region.
+   *
+   * @param includeRegions regions to rebalance; empty for all
+   * @param excludeRegions regions to leave alone
+   */
+  public Map<String, Object> rebalance(boolean simulate, List<String> includeRegions,
+                                       List<String> excludeRegions) {
+    Map<String, Object> result = new HashMap<>();
+
+    Cache cache = lifecycle.getCache();
+    if (cache == null) {
+      result.put("success", false);
+      result.put("error", "Cache is not available");
+      return result;
+    }
+
+    try {
+      Set<String> included = regionPaths(includeRegions);
+      Set<String> excluded = regionPaths(excludeRegions);
+      Map<String, Set<String>> assignments = new TreeMap<>();
+      Set<String> assigned = new HashSet<>();
+      List<String> failures = new ArrayList<>();
+      for (Map<String, Object> member :
+          memberFunctions.executeOnDataServers(RegionBalanceFunction.ID, null)) {
+        if (!(Boolean) member.getOrDefault("success", false)) {
+          failures.add(member.get("member") + ": " + member.get("error"));
+          continue;
+        }
+        for (Object region : (List<?>) member.get("regions")) {
+          String path = (String) ((Map<?, ?>) region).get("region");
+          if ((included.isEmpty() || included.contains(path)) && !excluded.contains(path)
+              && assigned.add(path)) {
+            assignments.computeIfAbsent((String) member.get("member"),
+                name -> new LinkedHashSet<>()).add(path);
+          }
+        }
+      }
+
+      Map<String, ResultCollector<?, ?>> running = new TreeMap<>();
+      for (DistributedMember member : cache.getDistributedSystem()
+          .getGroupMembers(EmbeddedDataServerLifecycle.DATA_SERVER_GROUP)) {
+        Set<String> paths = assignments.get(member.getName());
+        if (paths != null) {
+          running.put(member.getName(), memberFunctions.start(member, RebalanceFunction.ID,
+              new Object[] {simulate, paths.toArray(new String[0])}));
+        }
+      }
+
+      Map<String, Long> totals = new LinkedHashMap<>();
+      List<Map<String, Object>> regions = new ArrayList<>();
+      long timeoutMillis = properties.getRebalanceTimeout().toMillis()
+          + properties.getMemberOperationTimeout().toMillis();
+      for (Map.Entry<String, ResultCollector<?, ?>> member : running.entrySet()) {
+        Map<String, Object> memberResult =
+            memberFunctions.getResult(member.getValue(), timeoutMillis);
+        if (!(Boolean) memberResult.getOrDefault("success", false)) {
+          failures.add(member.getKey() + ": " + memberResult.get("error"));
+          continue;
+        }
+        ((Map<?, ?>) memberResult.get("totals")).forEach((name, value) ->
+            totals.merge((String) name, ((Number) value).longValue(), Long::sum));
+        for (Object region : (List<?>) memberResult.get("regions")) {
+          Map<String, Object> regionResult = new LinkedHashMap<>();
+          ((Map<?, ?>) region).forEach((name, value) -> regionResult.put((String) name, value));
+          regionResult.put("rebalancedBy", member.getKey());
+          regions.add(regionResult);
+        }
+      }
+      regions.sort(Comparator.comparing(region -> (String) region.get("region")));
+
+      result.put("success", failures.isEmpty());
+      result.put("simulated", simulate);
+      result.put("totals", totals);
+      result.put("regions", regions);
+      if (!failures.isEmpty()) {
+        result.put("error", "Rebalance failed on " + failures.size() + " members: "
+            + String.join("; ", failures));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      result.put("success", false);
+      result.put("error", "Rebalance was interrupted");
+    } catch (Exception e) {
+      result.put("success", false);
+      result.put("error", e.getMessage());
+    }
+    return result;
+  }
+
+  /**
+   * Rebalance the partitioned regions this member hosts, or with {@code simulate} only compute
+   * what a rebalance would move. Used by {@link RebalanceFunction}.
+   *
+   * @param includeRegions regions to rebalance; empty for all
+   * @param excludeRegions regions to leave alone
+   */
+  public Map<String, Object> rebalanceLocal(boolean simulate, List<String> includeRegions,
+                                            List<String> excludeRegions) {
+    Map<String, Object> result = new HashMap<>();
+
+    Cache cache = lifecycle.getCache();
+    if (cache == null) {
+      result.put("success", false);
+      result.put("error", "Cache is not available");
+      return result;
+    }
+
+    RebalanceFactory factory = cache.getResourceManager().createRebalanceFactory();
+    if (includeRegions != null && !includeRegions.isEmpty()) {
+      factory.includeRegions(new HashSet<>(includeRegions));
+    }
+    if (excludeRegions != null && !excludeRegions.isEmpty()) {
+      factory.excludeRegions(new HashSet<>(excludeRegions));
+    }
+
+    RebalanceOperation operation = simulate ? factory.simulate() : factory.start();
+    try {
+      RebalanceResults results = operation.getResults(
+          properties.getRebalanceTimeout().toMillis(), TimeUnit.MILLISECONDS);
+      result.put("success", true);
+      result.put("simulated", simulate);
+      result.putAll(toMap(results));
+    } catch (TimeoutException e) {
+      operation.cancel();
+      result.put("success", false);
+      result.put("error", "Rebalance did not finish within " + properties.getRebalanceTimeout()
+          + " and was cancelled");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      operation.cancel();
+      result.put("success", false);
+      result.put("error", "Rebalance was interrupted");
+    } catch (Exception e) {
+      result.put("success", false);
+      result.put("error", e.getMessage());
+    }
+    return result;
+  }
+
+  /**
+   * Region names as the full paths rebalance results report.
+   */
+  private static Set<String> regionPaths(List<String> regions) {
+    Set<String> paths = new HashSet<>();
+    if (regions != null) {
+      for (String region : regions) {
+        String name = region.trim();
+        paths.add(name.startsWith("/") ? name : "/" + name);
+      }
+    }
+    return paths;
+  }
+
+  private Map<String, Object> toMap(RebalanceResults results) {
+    Map<String, Object> totals = new LinkedHashMap<>();
+    totals.put("bucketCreates", results.getTotalBucketCreatesCompleted());
+    totals.put("bucketCreateBytes", results.getTotalBucketCreateBytes());
+    totals.put("bucketTransfers", results.getTotalBucketTransfersCompleted());
+    totals.put("bucketTransferBytes", results.getTotalBucketTransferBytes());
+    totals.put("primaryTransfers", results.getTotalPrimaryTransfersCompleted());
+    totals.put("timeMs", results.getTotalTime());
+
+    List<Map<String, Object>> regions = new ArrayList<>();
+    for (PartitionRebalanceInfo info : results.getPartitionRebalanceDetails()) {
+      Map<String, Object> region = new LinkedHashMap<>();
+      region.put("region", info.getRegionPath());
+      region.put("bucketCreates", info.getBucketCreatesCompleted());
+      region.put("bucketTransfers", info.getBucketTransfersCompleted());
+      region.put("bucketTransferBytes", info.getBucketTransferBytes());
+      region.put("primaryTransfers", info.getPrimaryTransfersCompleted());
+      region.put("timeMs", info.getTime());
+      region.put("before", balance(info.getPartitionMemberDetailsBefore()));
+      region.put("after", balance(info.getPartitionMemberDetailsAfter()));
+      regions.add(region);
+    }
+    regions.sort(Comparator.comparing(region -> (String) region.get("region")));
+
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("totals", totals);
+    map.put("regions", regions);
+    return map;
+  }
+
+  /**
+   * Buckets, primaries and bytes per member, and the spread between the most and least
+   * loaded member; a spread of 0 or 1 is as even as the bucket count allows.
+   */
+  private Map<String, Object> balance(Set<? extends PartitionMemberInfo> memberInfos) {
+    List<Map<String, Object>> members = new ArrayList<>();
+    int minBuckets = Integer.MAX_VALUE;
+    int maxBuckets = 0;
+    int minPrimaries = Integer.MAX_VALUE;
+    int maxPrimaries = 0;
+    for (PartitionMemberInfo info : memberInfos) {
+      DistributedMember member = info.getDistributedMember();
+      Map<String, Object> memberBalance = new LinkedHashMap<>();
+      memberBalance.put("member", member.getName());
+      memberBalance.put("host", member.getHost());
+      memberBalance.put("buckets", info.getBucketCount());
+      memberBalance.put("primaries", info.getPrimaryCount());
+      memberBalance.put("sizeBytes", info.getSize());
+      members.add(memberBalance);
+
+      minBuckets = Math.min(minBuckets, info.getBucketCount());
+      maxBuckets = Math.max(maxBuckets, info.getBucketCount());
+      minPrimaries = Math.min(minPrimaries, info.getPrimaryCount());
+      maxPrimaries = Math.max(maxPrimaries, info.getPrimaryCount());
+    }
+    members.sort(Comparator.comparing(member -> String.valueOf(member.get("member"))));
+
+    Map<String, Object> balance = new LinkedHashMap<>();
+    balance.put("members", members);
+    balance.put("bucketSpread", members.isEmpty() ? 0 : maxBuckets - minBuckets);
+    balance.put("primarySpread", members.isEmpty() ? 0 : maxPrimaries - minPrimaries);
+    return balance;
+  }
+
+  @Override
+  public synchronized void start() {
+    Cache cache = lifecycle.getCache();
+    if (!properties.isEnabled() || !properties.isAutoRebalance() || cache == null) {
+      return;
+    }
+    scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("auto-rebalance").daemon().factory());
+    membershipListener = new MembershipListener() {
+      @Override
+      public void memberJoined(MembershipEvent event) {
+        // Locators and clients hold no buckets, so only data servers change the balance
+        DistributedMember member = event.getDistributedMember();
+        if (member != null
+            && member.getGroups().contains(EmbeddedDataServerLifecycle.DATA_SERVER_GROUP)) {
+          scheduleAutoRebalance();
+        }
+      }
+
+      @Override
+      public void memberLeft(MembershipEvent event) {
+        // Redundancy is restored by Geode's recovery delay, not by rebalancing
+      }
+
+      @Override
+      public void memberCrashed(MembershipEvent event) {
+        // Redundancy is restored by Geode's recovery delay, not by rebalancing
+      }
+    };
+    ManagementService.getManagementService(cache).addMembershipListener(membershipListener);
+  }
+
+  /**
+   * (Re)start the delay, so members joining in quick succession cause one rebalance.
+   */
+  private synchronized void scheduleAutoRebalance() {
+    if (scheduler == null) {
+      return;
+    }
+    if (pendingRebalance != null) {
+      pendingRebalance.cancel(false);
+    }
+    long joinedAt = System.currentTimeMillis();
+    pendingRebalance = scheduler.schedule(() -> autoRebalance(joinedAt),
+        properties.getAutoRebalanceDelay().toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Rebalance for a data server that joined at {@code joinedAt}, unless another member already
+   * did. Every member sees the join and gets here at about the same time; they queue on the
+   * lock, and whoever gets it after the first one finds a rebalance that finished after the
+   * join and skips it. The clocks of the members only need to agree to well within the delay.
+   */
+  private void autoRebalance(long joinedAt) {
+    Cache cache = lifecycle.getCache();
+    if (cache == null) {
+      return;
+    }
+    DistributedLockService lockService = lockService(cache);
+    long waitMillis = properties.getRebalanceTimeout().toMillis()
+        + 2 * properties.getMemberOperationTimeout().toMillis();
+    if (!lockService.lock(LOCK_NAME, waitMillis, -1)) {
+      // Another member is still rebalancing, which covers this join too
+      return;
+    }
+    try {
+      Map<?, ?> last = (Map<?, ?>) getBalance().get("lastAutoRebalance");
+      if (last != null && (Long) last.get("finishedAt") >= joinedAt) {
+        return;
+      }
+      Map<String, Object> result = rebalance(false, List.of(), List.of());
+      result.put("finishedAt", System.currentTimeMillis());
+      lastAutoRebalance = result;
+    } finally {
+      lockService.unlock(LOCK_NAME);
+    }
+  }
+
+  private static synchronized DistributedLockService lockService(Cache cache) {
+    DistributedLockService lockService =
+        DistributedLockService.getServiceNamed(LOCK_SERVICE_NAME);
+    if (lockService == null) {
+      lockService =
+          DistributedLockService.create(LOCK_SERVICE_NAME, cache.getDistributedSystem());
+    }
+    return lockService;
+  }
+
+  @Override
+  public synchronized void stop() {
+    Cache cache = lifecycle.getCache();
+    if (membershipListener != null && cache != null) {
+      ManagementService.getManagementService(cache).removeMembershipListener(membershipListener);
+    }
+    membershipListener = null;
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+      scheduler = null;
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return scheduler != null;
+  }
+
+  @Override
+  public int getPhase() {
+    // After the embedded data server and disk recovery have started
+    return Integer.MIN_VALUE + 2;
+  }
+}
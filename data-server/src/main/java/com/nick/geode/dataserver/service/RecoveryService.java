@@ -0,0 +1,419 @@
+package com.nick.geode.dataserver.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nick.geode.dataserver.function.RegionDefinitionsFunction;
+import com.nick.geode.dataserver.geode.DataServerProperties;
+import com.nick.geode.dataserver.geode.EmbeddedDataServerLifecycle;
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsFactory;
+import org.apache.geode.StatisticsType;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.partition.PartitionMemberInfo;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.cache.partition.PartitionRegionInfo;
+import org.apache.geode.distributed.DistributedMember;
+import org.apache.geode.management.DiskStoreMXBean;
+import org.apache.geode.management.ManagementService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Recreates the saved disk stores, regions and indexes after the data server has started,
+ * recovering persistent data from disk, and reports recovery progress. A data server joining a
+ * running cluster takes its region definitions from its peers: it creates the regions they
+ * host within its server groups, uses their specs and indexes, and drops saved regions they
+ * have seen deleted.
+ * Each region serves reads as soon as its own keys are recovered; values follow according
+ * to {@code geode.dataserver.recovery-mode}.
+ */
+@Service
+public class RecoveryService implements SmartLifecycle {
+
+  public enum State {
+    NOT_STARTED, RECOVERING, COMPLETE, FAILED
+  }
+
+  private static final String DISK_STORE_STATISTICS = "DiskStoreStatistics";
+
+  private final EmbeddedDataServerLifecycle lifecycle;
+  private final DefinitionStore definitionStore;
+  private final DiskStoreService diskStoreService;
+  private final RegionManagementService regionManagementService;
+  private final IndexManagementService indexManagementService;
+  private final MemberFunctions memberFunctions;
+  private final DataServerProperties properties;
+  private final ObjectMapper objectMapper;
+
+  private final Map<String, RegionRecovery> regions = new ConcurrentHashMap<>();
+  private final Map<String, String> diskStoreErrors = new ConcurrentHashMap<>();
+
+  private volatile State state = State.NOT_STARTED;
+  private volatile long startedAt;
+  private volatile long finishedAt;
+  private volatile Thread recoveryThread;
+  private volatile String error;
+  private volatile String warning;
+
+  @Autowired
+  public RecoveryService(EmbeddedDataServerLifecycle lifecycle, DefinitionStore definitionStore,
+                         DiskStoreService diskStoreService,
+                         RegionManagementService regionManagementService,
+                         IndexManagementService indexManagementService,
+                         MemberFunctions memberFunctions, DataServerProperties properties,
+                         ObjectMapper objectMapper) {
+    this.lifecycle = lifecycle;
+    this.definitionStore = definitionStore;
+    this.diskStoreService = diskStoreService;
+    this.regionManagementService = regionManagementService;
+    this.indexManagementService = indexManagementService;
+    this.memberFunctions = memberFunctions;
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public void start() {
+    if (!properties.isEnabled() || recoveryThread != null) {
+      return;
+    }
+    startedAt = System.currentTimeMillis();
+    state = State.RECOVERING;
+    // Recover in the background so the management API can report progress meanwhile
+    recoveryThread = Thread.ofPlatform().name("region-recovery").daemon().start(this::recover);
+  }
+
+  private void recover() {
+    try {
+      DefinitionStore.Definitions definitions = withPeerDefinitions(definitionStore.snapshot());
+      // Forget regions deleted while this member was down, and pass that on to later joiners
+      definitions.deletedRegions().forEach(definitionStore::removeRegion);
+      // Likewise indexes the peers dropped from regions they host
+      definitionStore.snapshot().indexes().forEach((region, indexes) -> {
+        Map<String, IndexDefinition> kept = definitions.indexes().getOrDefault(region, Map.of());
+        indexes.keySet().stream()
+            .filter(index -> !kept.containsKey(index))
+            .forEach(index -> definitionStore.removeIndex(region, index));
+      });
+
+      // Every disk store is open before the regions that write to it are created
+      inParallel(definitions.diskStores(), (name, spec) -> {
+        Map<String, Object> result = diskStoreService.createLocalDiskStore(name, spec);
+        if (!(Boolean) result.getOrDefault("success", false)) {
+          diskStoreErrors.put(name, String.valueOf(result.get("error")));
+        }
+      });
+
+      definitions.regions().keySet().forEach(name -> regions.put(name, new RegionRecovery()));
+      inParallel(definitions.regions(), (name, spec) -> recoverRegion(name, spec,
+          definitions.indexes().getOrDefault(name, Map.of()).values()));
+
+      boolean failed = !diskStoreErrors.isEmpty()
+          || regions.values().stream().anyMatch(region -> region.error != null);
+      state = failed ? State.FAILED : State.COMPLETE;
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      state = State.FAILED;
+    } catch (Exception e) {
+      error = e.getMessage();
+      state = State.FAILED;
+    } finally {
+      finishedAt = System.currentTimeMillis();
+    }
+  }
+
+  /**
+   * Run the task for every definition and wait for all of them: on up to one thread per CPU
+   * with {@code parallel-disk-store-recovery}, one after the other otherwise.
+   */
+  private <T> void inParallel(Map<String, T> definitions, BiConsumer<String, T> task)
+      throws InterruptedException {
+    int threads = properties.isParallelDiskStoreRecovery()
+        ? Math.max(1, Math.min(definitions.size(), Runtime.getRuntime().availableProcessors()))
+        : 1;
+    ExecutorService executor = Executors.newFixedThreadPool(threads,
+        Thread.ofPlatform().name("region-recovery-", 0).daemon().factory());
+    try {
+      definitions.forEach((name, definition) ->
+          executor.submit(() -> task.accept(name, definition)));
+      executor.shutdown();
+      executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Reconcile the saved definitions with the other data servers, which are authoritative when
+   * there are any: their specs and indexes replace saved ones, regions they host within this
+   * member's groups are added, and saved regions they have seen deleted are dropped. A region
+   * some peer still hosts outlives a deletion another peer remembers, since it was created
+   * again later.
+   */
+  private DefinitionStore.Definitions withPeerDefinitions(DefinitionStore.Definitions local)
+      throws InterruptedException {
+    Cache cache = lifecycle.getCache();
+    if (cache == null) {
+      return local;
+    }
+    DistributedMember self = cache.getDistributedSystem().getDistributedMember();
+    Set<DistributedMember> peers = new HashSet<>(cache.getDistributedSystem()
+        .getGroupMembers(EmbeddedDataServerLifecycle.DATA_SERVER_GROUP));
+    peers.remove(self);
+    if (peers.isEmpty()) {
+      return local;
+    }
+
+    Map<String, RegionSpec> peerRegions = new LinkedHashMap<>();
+    Map<String, Map<String, IndexDefinition>> peerIndexes = new HashMap<>();
+    Map<String, Long> deletedRegions = new HashMap<>();
+    Map<String, DiskStoreSpec> peerDiskStores = new LinkedHashMap<>();
+    try {
+      for (Map<String, Object> peerResult :
+          memberFunctions.executeOnMembers(peers, RegionDefinitionsFunction.ID, null)) {
+        if (!(Boolean) peerResult.getOrDefault("success", false)) {
+          continue;
+        }
+        DefinitionStore.Definitions peer = objectMapper.readValue(
+            (String) peerResult.get("definitions"), DefinitionStore.Definitions.class);
+        peer.regions().forEach(peerRegions::putIfAbsent);
+        peer.indexes().forEach((region, indexes) -> indexes.forEach((name, index) ->
+            peerIndexes.computeIfAbsent(region, key -> new LinkedHashMap<>())
+                .putIfAbsent(name, index)));
+        peer.deletedRegions().forEach((name, deletedAt) ->
+            deletedRegions.merge(name, deletedAt, Math::max));
+        peer.diskStores().forEach(peerDiskStores::putIfAbsent);
+      }
+    } catch (InterruptedException e) {
+      throw e;
+    } catch (Exception e) {
+      warning = "Could not read region definitions from peers: " + e.getMessage();
+      return local;
+    }
+    deletedRegions.keySet().removeAll(peerRegions.keySet());
+
+    Map<String, RegionSpec> regionSpecs = new LinkedHashMap<>();
+    local.regions().forEach((name, spec) -> {
+      if (!deletedRegions.containsKey(name)) {
+        regionSpecs.put(name, peerRegions.getOrDefault(name, spec));
+      }
+    });
+    peerRegions.forEach((name, spec) -> {
+      if (inGroups(self, spec.getGroups())) {
+        regionSpecs.putIfAbsent(name, spec);
+      }
+    });
+
+    // Disk store directories are local, so saved disk store specs are kept
+    Map<String, DiskStoreSpec> diskStoreSpecs = new LinkedHashMap<>(local.diskStores());
+    for (RegionSpec spec : regionSpecs.values()) {
+      String diskStoreName = spec.getDiskStoreName();
+      if (diskStoreName != null && peerDiskStores.containsKey(diskStoreName)) {
+        diskStoreSpecs.putIfAbsent(diskStoreName, peerDiskStores.get(diskStoreName));
+      }
+    }
+    // A region the peers host has exactly their indexes, even if that is none
+    Map<String, Map<String, IndexDefinition>> indexes = new LinkedHashMap<>();
+    for (String name : regionSpecs.keySet()) {
+      Map<String, IndexDefinition> regionIndexes = peerRegions.containsKey(name)
+          ? peerIndexes.get(name)
+          : local.indexes().get(name);
+      if (regionIndexes != null) {
+        indexes.put(name, regionIndexes);
+      }
+    }
+    return new DefinitionStore.Definitions(diskStoreSpecs, regionSpecs, indexes,
+        deletedRegions);
+  }
+
+  private static boolean inGroups(DistributedMember member, List<String> groups) {
+    return groups == null || groups.isEmpty()
+        || groups.stream().map(String::trim).anyMatch(member.getGroups()::contains);
+  }
+
+  private void recoverRegion(String name, RegionSpec spec,
+                             Collection<IndexDefinition> indexes) {
+    RegionRecovery recovery = regions.get(name);
+    recovery.startedAt = System.currentTimeMillis();
+    // Region creation returns once the region's keys have been recovered from disk
+    Map<String, Object> result = regionManagementService.createLocalRegion(name, spec);
+    if (!(Boolean) result.getOrDefault("success", false)) {
+      recovery.error = String.valueOf(result.get("error"));
+    } else if (!indexes.isEmpty()) {
+      // Built in one pass over the recovered entries
+      Map<String, Object> indexResult =
+          indexManagementService.createLocalIndexes(name, new ArrayList<>(indexes));
+      if (!(Boolean) indexResult.getOrDefault("success", false)
+          && !(Boolean) indexResult.getOrDefault("exists", false)) {
+        recovery.error = "Failed to rebuild indexes: " + indexResult.get("error");
+      }
+    }
+    recovery.finishedAt = System.currentTimeMillis();
+  }
+
+  /**
+   * Report recovery state, per disk store bytes read back so far and per region progress.
+   */
+  public Map<String, Object> getProgress() {
+    Map<String, Object> result = new HashMap<>();
+    result.put("success", true);
+    result.put("state", state.name());
+    result.put("recoveryMode", properties.getRecoveryMode().name());
+    result.put("parallel", properties.isParallelDiskStoreRecovery());
+    if (startedAt > 0) {
+      long end = finishedAt > 0 ? finishedAt : System.currentTimeMillis();
+      result.put("elapsedMs", end - startedAt);
+    }
+    if (error != null) {
+      result.put("error", error);
+    }
+    if (warning != null) {
+      result.put("warning", warning);
+    }
+
+    Cache cache = lifecycle.getCache();
+    ManagementService managementService =
+        cache != null ? ManagementService.getManagementService(cache) : null;
+
+    List<Map<String, Object>> diskStores = new ArrayList<>();
+    for (String name : definitionStore.load().diskStores().keySet()) {
+      Map<String, Object> info = new HashMap<>();
+      info.put("name", name);
+      DiskStoreMXBean diskStore =
+          managementService != null ? managementService.getLocalDiskStoreMBean(name) : null;
+      if (diskStore != null) {
+        // Size of the oplog files, not how much of them has been read
+        info.put("bytesOnDisk", diskStore.getTotalBytesOnDisk());
+        info.put("recoveriesInProgress", diskStore.getTotalRecoveriesInProgress());
+      }
+      if (cache != null) {
+        addDiskStoreProgress(cache, name, info);
+      }
+      if (diskStoreErrors.containsKey(name)) {
+        info.put("error", diskStoreErrors.get(name));
+      }
+      diskStores.add(info);
+    }
+    result.put("diskStores", diskStores);
+
+    List<Map<String, Object>> regionProgress = new ArrayList<>();
+    regions.forEach((name, recovery) -> {
+      Map<String, Object> info = new HashMap<>();
+      info.put("name", name);
+      info.put("status", recovery.status());
+      if (recovery.startedAt > 0) {
+        long end = recovery.finishedAt > 0 ? recovery.finishedAt : System.currentTimeMillis();
+        info.put("elapsedMs", end - recovery.startedAt);
+      }
+      if (recovery.error != null) {
+        info.put("error", recovery.error);
+      }
+      Region<?, ?> region = cache != null ? cache.getRegion(name) : null;
+      if (region != null) {
+        addRegionProgress(cache, region, info);
+      }
+      regionProgress.add(info);
+    });
+    result.put("regions", regionProgress);
+    return result;
+  }
+
+  /**
+   * Bytes and entries read back from the disk store's oplogs so far, from its
+   * {@code DiskStoreStatistics}, which the management MBean does not expose.
+   */
+  private void addDiskStoreProgress(Cache cache, String name, Map<String, Object> info) {
+    StatisticsFactory factory = cache.getDistributedSystem();
+    StatisticsType type = factory.findType(DISK_STORE_STATISTICS);
+    if (type == null) {
+      return;
+    }
+    for (Statistics statistics : factory.findStatisticsByType(type)) {
+      if (!statistics.isClosed() && name.equals(statistics.getTextId())) {
+        info.put("bytesRecovered", statistics.get("recoveredBytes"));
+        info.put("entriesRecovered", statistics.get("recoveredEntryCreates"));
+      }
+    }
+  }
+
+  private void addRegionProgress(Cache cache, Region<?, ?> region, Map<String, Object> info) {
+    if (!PartitionRegionHelper.isPartitionedRegion(region)) {
+      info.put("localEntries", region.size());
+      return;
+    }
+    info.put("localEntries", PartitionRegionHelper.getLocalData(region).size());
+    info.put("totalBuckets", region.getAttributes().getPartitionAttributes().getTotalNumBuckets());
+
+    PartitionRegionInfo partitionInfo = PartitionRegionHelper.getPartitionRegionInfo(region);
+    DistributedMember self = cache.getDistributedSystem().getDistributedMember();
+    if (partitionInfo != null) {
+      for (PartitionMemberInfo member : partitionInfo.getPartitionMemberInfo()) {
+        if (self.equals(member.getDistributedMember())) {
+          info.put("bucketsRecovered", member.getBucketCount());
+          info.put("primaryBuckets", member.getPrimaryCount());
+          info.put("localBytes", member.getSize());
+        }
+      }
+    }
+  }
+
+  public State getState() {
+    return state;
+  }
+
+  @Override
+  public void stop() {
+    Thread thread = recoveryThread;
+    if (thread != null) {
+      thread.interrupt();
+      recoveryThread = null;
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return recoveryThread != null;
+  }
+
+  @Override
+  public int getPhase() {
+    // Right after the embedded data server has started
+    return Integer.MIN_VALUE + 1;
+  }
+
+  /**
+   * Recovery progress of a single region.
+   */
+  private static class RegionRecovery {
+
+    volatile long startedAt;
+    volatile long finishedAt;
+    volatile String error;
+
+    String status() {
+      if (error != null) {
+        return "FAILED";
+      }
+      if (finishedAt > 0) {
+        return "RECOVERED";
+      }
+      return startedAt > 0 ? "RECOVERING" : "PENDING";
+    }
+  }
+}
@@ -1,46 +1,143 @@
 package com.nick.geode.dataserver.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nick.geode.dataserver.function.CreateRegionFunction;
+import com.nick.geode.dataserver.function.DestroyRegionFunction;
+import com.nick.geode.dataserver.geode.EmbeddedDataServerLifecycle;
 import org.apache.geode.cache.Cache;
-import org.apache.geode.cache.CacheFactory;
-import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.EvictionAction;
+import org.apache.geode.cache.EvictionAttributes;
+import org.apache.geode.cache.ExpirationAction;
+import org.apache.geode.cache.ExpirationAttributes;
+import org.apache.geode.cache.PartitionAttributesFactory;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.RegionDestroyedException;
 import org.apache.geode.cache.RegionExistsException;
 import org.apache.geode.cache.RegionFactory;
 import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.cache.util.ObjectSizer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Service for managing Geode regions on the server side.
+ *
+ * <p>Regions are created and deleted on every data server (or every member of the spec's
+ * server groups) through member functions, and each call returns only once all of them have
+ * confirmed, so a client can use the region as soon as the call returns. Each member saves the
+ * definitions of the regions it hosts; a data server that joins later takes them from its
+ * peers on startup (see {@link RecoveryService}).
  */
 @Service
 public class RegionManagementService {
 
+  private final EmbeddedDataServerLifecycle lifecycle;
+  private final DefinitionStore definitionStore;
+  private final ObjectMapper objectMapper;
+  private final MemberFunctions memberFunctions;
+
+  @Autowired
+  public RegionManagementService(EmbeddedDataServerLifecycle lifecycle,
+                                 DefinitionStore definitionStore, ObjectMapper objectMapper,
+                                 MemberFunctions memberFunctions) {
+    this.lifecycle = lifecycle;
+    this.definitionStore = definitionStore;
+    this.objectMapper = objectMapper;
+    this.memberFunctions = memberFunctions;
+  }
+
   /**
-   * Get the cache instance directly from CacheFactory.
+   * Create a region on every data server of the spec's groups (all data servers by default)
+   * and wait until each of them has confirmed. Members that already host the region count as
+   * confirmed, so repeating a creation that failed on some members completes it.
    */
-  private Cache getCache() {
+  public Map<String, Object> createRegion(String regionName, RegionSpec spec) {
+    Map<String, Object> result = new HashMap<>();
+
+    Cache cache = lifecycle.getCache();
+    if (cache == null) {
+      result.put("success", false);
+      result.put("error", "Cache is not available");
+      return result;
+    }
+
+    String specJson;
+    RegionShortcut shortcut;
     try {
-      GemFireCache cache = CacheFactory.getAnyInstance();
-      if (cache != null && !cache.isClosed() && cache instanceof Cache) {
-        return (Cache) cache;
-      }
+      shortcut = parseRegionType(spec.getType());
+      specJson = objectMapper.writeValueAsString(spec);
+    } catch (IllegalArgumentException | JsonProcessingException e) {
+      result.put("success", false);
+      result.put("error", "Invalid region spec: " + e.getMessage());
+      return result;
+    }
+
+    List<Map<String, Object>> members;
+    try {
+      members = memberFunctions.executeOnMembers(targetGroups(spec), CreateRegionFunction.ID,
+          new Object[] {regionName, specJson});
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      result.put("success", false);
+      result.put("error", "Interrupted while creating region: " + regionName);
+      return result;
     } catch (Exception e) {
-      // Cache not available
+      result.put("success", false);
+      result.put("error", "Failed to create region: " + e.getMessage());
+      return result;
+    }
+
+    int created = 0;
+    List<String> failures = new ArrayList<>();
+    List<String> warnings = new ArrayList<>();
+    for (Map<String, Object> member : members) {
+      if ((Boolean) member.getOrDefault("success", false)) {
+        created++;
+      } else if (!(Boolean) member.getOrDefault("exists", false)) {
+        failures.add(member.get("member") + ": " + member.get("error"));
+      }
+      if (member.containsKey("warning")) {
+        warnings.add(member.get("member") + ": " + member.get("warning"));
+      }
     }
-    return null;
+
+    result.put("regionName", regionName);
+    result.put("members", members);
+    if (!failures.isEmpty()) {
+      result.put("success", false);
+      result.put("error", "Failed to create region on " + failures.size() + " of "
+          + members.size() + " members: " + String.join("; ", failures));
+    } else if (created == 0) {
+      result.put("success", false);
+      result.put("error", "Region already exists: " + regionName);
+    } else {
+      result.put("success", true);
+      result.put("message", "Region created successfully: " + regionName);
+      result.put("regionType", shortcut.toString());
+    }
+    if (!warnings.isEmpty()) {
+      result.put("warning", String.join("; ", warnings));
+    }
+    return result;
   }
 
   /**
-   * Create a new region on the server.
+   * Create a region on this member only and save its definition. Used by
+   * {@link CreateRegionFunction} and by recovery on startup.
    */
-  public Map<String, Object> createRegion(String regionName, String regionType) {
+  public Map<String, Object> createLocalRegion(String regionName, RegionSpec spec) {
     Map<String, Object> result = new HashMap<>();
     
-    Cache cache = getCache();
-    if (cache == null || cache.isClosed()) {
+    Cache cache = lifecycle.getCache();
+    if (cache == null) {
       result.put("success", false);
       result.put("error", "Cache is not available");
       return result;
@@ -50,24 +147,37 @@ public class RegionManagementService {
       // Check if region already exists
       if (cache.getRegion(regionName) != null) {
         result.put("success", false);
+        result.put("exists", true);
         result.put("error", "Region already exists: " + regionName);
         return result;
       }
 
       // Parse region type (default to PARTITION)
-      RegionShortcut shortcut = parseRegionType(regionType);
+      RegionShortcut shortcut = parseRegionType(spec.getType());
       
-      RegionFactory<?, ?> regionFactory = cache.createRegionFactory(shortcut);
+      RegionFactory<Object, Object> regionFactory = cache.createRegionFactory(shortcut);
+      configure(regionFactory, cache, shortcut, spec);
       Region<?, ?> region = regionFactory.create(regionName);
       
       result.put("success", true);
       result.put("message", "Region created successfully: " + regionName);
       result.put("regionName", region.getName());
       result.put("regionType", shortcut.toString());
+
+      // Recreated on restart (with persistent data recovered) and handed to joining members
+      try {
+        definitionStore.saveRegion(regionName, spec);
+      } catch (UncheckedIOException e) {
+        result.put("warning", "Region will not be recreated on restart: " + e.getMessage());
+      }
       
     } catch (RegionExistsException e) {
       result.put("success", false);
+      result.put("exists", true);
       result.put("error", "Region already exists: " + regionName);
+    } catch (IllegalArgumentException e) {
+      result.put("success", false);
+      result.put("error", "Invalid region spec: " + e.getMessage());
     } catch (Exception e) {
       result.put("success", false);
       result.put("error", "Failed to create region: " + e.getMessage());
@@ -77,32 +187,54 @@ public class RegionManagementService {
   }
 
   /**
-   * Delete a region from the server.
+   * Delete a region from every data server and wait until each of them has confirmed.
    */
   public Map<String, Object> deleteRegion(String regionName) {
     Map<String, Object> result = new HashMap<>();
     
-    Cache cache = getCache();
-    if (cache == null || cache.isClosed()) {
+    Cache cache = lifecycle.getCache();
+    if (cache == null) {
       result.put("success", false);
       result.put("error", "Cache is not available");
       return result;
     }
 
     try {
+      // Destroying a hosted region here removes it from its peers in one distributed step;
+      // the function then cleans up the definitions and any member this one did not reach
       Region<?, ?> region = cache.getRegion(regionName);
-      
-      if (region == null) {
+      if (region != null) {
+        region.destroyRegion();
+      }
+      List<Map<String, Object>> members = memberFunctions.executeOnDataServers(
+          DestroyRegionFunction.ID, regionName);
+
+      boolean found = region != null;
+      List<String> failures = new ArrayList<>();
+      for (Map<String, Object> member : members) {
+        found |= (Boolean) member.getOrDefault("found", false);
+        if (!(Boolean) member.getOrDefault("success", false)) {
+          failures.add(member.get("member") + ": " + member.get("error"));
+        }
+      }
+
+      result.put("members", members);
+      if (!failures.isEmpty()) {
+        result.put("success", false);
+        result.put("error", "Failed to delete region on " + failures.size() + " of "
+            + members.size() + " members: " + String.join("; ", failures));
+      } else if (!found) {
         result.put("success", false);
         result.put("error", "Region not found: " + regionName);
-        return result;
+      } else {
+        result.put("success", true);
+        result.put("message", "Region deleted successfully: " + regionName);
       }
-
-      region.destroyRegion();
-      
-      result.put("success", true);
-      result.put("message", "Region deleted successfully: " + regionName);
       
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      result.put("success", false);
+      result.put("error", "Interrupted while deleting region: " + regionName);
     } catch (Exception e) {
       result.put("success", false);
       result.put("error", "Failed to delete region: " + e.getMessage());
@@ -111,6 +243,184 @@ public class RegionManagementService {
     return result;
   }
 
+  /**
+   * Destroy a region on this member, if it still hosts it, and remove its definition. Used by
+   * {@link DestroyRegionFunction}.
+   */
+  public Map<String, Object> destroyLocalRegion(String regionName) {
+    Map<String, Object> result = new HashMap<>();
+
+    Cache cache = lifecycle.getCache();
+    if (cache == null) {
+      result.put("success", false);
+      result.put("error", "Cache is not available");
+      return result;
+    }
+
+    try {
+      boolean found = false;
+      Region<?, ?> region = cache.getRegion(regionName);
+      if (region != null) {
+        try {
+          region.destroyRegion();
+          found = true;
+        } catch (RegionDestroyedException e) {
+          // Destroyed by a peer in the meantime
+        }
+      }
+      found |= definitionStore.removeRegion(regionName);
+      result.put("success", true);
+      result.put("found", found);
+    } catch (Exception e) {
+      result.put("success", false);
+      result.put("error", "Failed to delete region: " + e.getMessage());
+    }
+    return result;
+  }
+
+  /**
+   * The spec's server groups, or the group of all data servers.
+   */
+  private String[] targetGroups(RegionSpec spec) {
+    List<String> groups = spec.getGroups() == null ? List.of() : spec.getGroups().stream()
+        .map(String::trim)
+        .filter(group -> !group.isEmpty())
+        .toList();
+    return groups.isEmpty()
+        ? new String[] {EmbeddedDataServerLifecycle.DATA_SERVER_GROUP}
+        : groups.toArray(new String[0]);
+  }
+
+  /**
+   * Apply the optional parts of a region spec on top of the shortcut's defaults.
+   */
+  private void configure(RegionFactory<Object, Object> regionFactory, Cache cache,
+                         RegionShortcut shortcut, RegionSpec spec) {
+    if (spec.getTotalBuckets() != null || spec.getRedundantCopies() != null
+        || spec.getRecoveryDelay() != null || spec.getStartupRecoveryDelay() != null
+        || spec.getLocalMaxMemory() != null) {
+      if (!shortcut.isPartition()) {
+        throw new IllegalArgumentException("Partition options require a PARTITION region type");
+      }
+
+      // Start from the shortcut's partition attributes so e.g. PARTITION_REDUNDANT keeps
+      // its redundancy unless the spec overrides it
+      RegionAttributes<Object, Object> defaults = cache.getRegionAttributes(shortcut.name());
+      PartitionAttributesFactory<Object, Object> partitionFactory =
+          defaults != null && defaults.getPartitionAttributes() != null
+              ? new PartitionAttributesFactory<>(defaults.getPartitionAttributes())
+              : new PartitionAttributesFactory<>();
+      if (spec.getTotalBuckets() != null) {
+        partitionFactory.setTotalNumBuckets(spec.getTotalBuckets());
+      }
+      if (spec.getRedundantCopies() != null) {
+        partitionFactory.setRedundantCopies(spec.getRedundantCopies());
+      }
+      if (spec.getRecoveryDelay() != null) {
+        partitionFactory.setRecoveryDelay(spec.getRecoveryDelay());
+      }
+      if (spec.getStartupRecoveryDelay() != null) {
+        partitionFactory.setStartupRecoveryDelay(spec.getStartupRecoveryDelay());
+      }
+      if (spec.getLocalMaxMemory() != null) {
+        partitionFactory.setLocalMaxMemory(spec.getLocalMaxMemory());
+      }
+      regionFactory.setPartitionAttributes(partitionFactory.create());
+    }
+
+    if (spec.getEviction() != null) {
+      regionFactory.setEvictionAttributes(toEvictionAttributes(spec.getEviction()));
+    }
+
+    RegionSpec.Expiration expiration = spec.getExpiration();
+    if (expiration != null) {
+      ExpirationAction action = parseExpirationAction(expiration.getAction());
+      // Idle timeouts are tracked through entry statistics
+      regionFactory.setStatisticsEnabled(true);
+      if (expiration.getIdleTimeout() != null) {
+        regionFactory.setEntryIdleTimeout(
+            new ExpirationAttributes(expiration.getIdleTimeout(), action));
+      }
+      if (expiration.getTimeToLive() != null) {
+        regionFactory.setEntryTimeToLive(
+            new ExpirationAttributes(expiration.getTimeToLive(), action));
+      }
+    }
+
+    if (spec.getDiskStoreName() != null || spec.getDiskSynchronous() != null) {
+      boolean overflow = spec.getEviction() != null
+          && "OVERFLOW_TO_DISK".equalsIgnoreCase(spec.getEviction().getAction());
+      if (!shortcut.isPersistent() && !shortcut.isOverflow() && !overflow) {
+        throw new IllegalArgumentException(
+            "Disk options require a persistent region type or OVERFLOW_TO_DISK eviction");
+      }
+      if (spec.getDiskStoreName() != null) {
+        if (cache.findDiskStore(spec.getDiskStoreName()) == null) {
+          throw new IllegalArgumentException("Disk store not found: " + spec.getDiskStoreName());
+        }
+        regionFactory.setDiskStoreName(spec.getDiskStoreName());
+      }
+      if (spec.getDiskSynchronous() != null) {
+        regionFactory.setDiskSynchronous(spec.getDiskSynchronous());
+      }
+    }
+
+    if (spec.getOffHeap() != null) {
+      regionFactory.setOffHeap(spec.getOffHeap());
+    }
+    if (spec.getConcurrencyLevel() != null) {
+      regionFactory.setConcurrencyLevel(spec.getConcurrencyLevel());
+    }
+    if (spec.getInitialCapacity() != null) {
+      regionFactory.setInitialCapacity(spec.getInitialCapacity());
+    }
+  }
+
+  private EvictionAttributes toEvictionAttributes(RegionSpec.Eviction eviction) {
+    EvictionAction action = parseEvictionAction(eviction.getAction());
+    String type = eviction.getType() != null ? eviction.getType().toUpperCase() : "";
+    switch (type) {
+      case "ENTRY_COUNT":
+        if (eviction.getMaximum() == null) {
+          throw new IllegalArgumentException("ENTRY_COUNT eviction requires a maximum");
+        }
+        return EvictionAttributes.createLRUEntryAttributes(eviction.getMaximum(), action);
+      case "HEAP":
+        return EvictionAttributes.createLRUHeapAttributes(ObjectSizer.DEFAULT, action);
+      case "MEMORY":
+        if (eviction.getMaximum() == null) {
+          throw new IllegalArgumentException("MEMORY eviction requires a maximum (megabytes)");
+        }
+        return EvictionAttributes.createLRUMemoryAttributes(
+            eviction.getMaximum(), ObjectSizer.DEFAULT, action);
+      default:
+        throw new IllegalArgumentException(
+            "Unknown eviction type: " + eviction.getType() + " (expected ENTRY_COUNT, HEAP or MEMORY)");
+    }
+  }
+
+  private EvictionAction parseEvictionAction(String action) {
+    if (action == null || action.isEmpty() || action.equalsIgnoreCase("LOCAL_DESTROY")) {
+      return EvictionAction.LOCAL_DESTROY;
+    }
+    if (action.equalsIgnoreCase("OVERFLOW_TO_DISK")) {
+      return EvictionAction.OVERFLOW_TO_DISK;
+    }
+    throw new IllegalArgumentException(
+        "Unknown eviction action: " + action + " (expected LOCAL_DESTROY or OVERFLOW_TO_DISK)");
+  }
+
+  private ExpirationAction parseExpirationAction(String action) {
+    if (action == null || action.isEmpty() || action.equalsIgnoreCase("DESTROY")) {
+      return ExpirationAction.DESTROY;
+    }
+    if (action.equalsIgnoreCase("INVALIDATE")) {
+      return ExpirationAction.INVALIDATE;
+    }
+    throw new IllegalArgumentException(
+        "Unknown expiration action: " + action + " (expected DESTROY or INVALIDATE)");
+  }
+
   /**
    * Parse region type string to RegionShortcut enum.
    */
@@ -122,8 +432,7 @@ public class RegionManagementService {
     try {
       return RegionShortcut.valueOf(regionType.toUpperCase());
     } catch (IllegalArgumentException e) {
-      // Default to PARTITION if invalid type
-      return RegionShortcut.PARTITION;
+      throw new IllegalArgumentException("Unknown region type: " + regionType);
     }
   }
 }
@@ -0,0 +1,277 @@
+package com.nick.geode.dataserver.service;
+
+import java.util.List;
+
+/**
+ * Region creation options accepted as the JSON body of
+ * {@code POST /management/regions/{regionName}}. Every field is optional; unset fields keep
+ * the defaults of the chosen region type.
+ */
+public class RegionSpec {
+
+  /**
+   * RegionShortcut name, for example PARTITION or REPLICATE (default: PARTITION).
+   */
+  private String type;
+
+  /**
+   * Number of buckets of a partitioned region.
+   */
+  private Integer totalBuckets;
+
+  /**
+   * Number of redundant copies of each bucket of a partitioned region.
+   */
+  private Integer redundantCopies;
+
+  /**
+   * Milliseconds to wait before restoring redundancy after a member leaves (-1 never).
+   */
+  private Long recoveryDelay;
+
+  /**
+   * Milliseconds to wait before restoring redundancy after a member joins (-1 never).
+   */
+  private Long startupRecoveryDelay;
+
+  /**
+   * Maximum megabytes of partitioned region data stored on each member.
+   */
+  private Integer localMaxMemory;
+
+  private Eviction eviction;
+
+  private Expiration expiration;
+
+  /**
+   * Store values in off-heap memory.
+   */
+  private Boolean offHeap;
+
+  /**
+   * Disk store for persistent or overflow regions (default: the DEFAULT disk store).
+   */
+  private String diskStoreName;
+
+  /**
+   * Write to disk synchronously with each update, or through the disk store's queue.
+   */
+  private Boolean diskSynchronous;
+
+  /**
+   * Expected number of concurrent writers to the region's entry map.
+   */
+  private Integer concurrencyLevel;
+
+  /**
+   * Initial capacity of the region's entry map.
+   */
+  private Integer initialCapacity;
+
+  /**
+   * Server groups whose members host the region (default: every data server).
+   */
+  private List<String> groups;
+
+  public static RegionSpec ofType(String type) {
+    RegionSpec spec = new RegionSpec();
+    spec.setType(type);
+    return spec;
+  }
+
+  public String getType() {
+    return type;
+  }
+
+  public void setType(String type) {
+    this.type = type;
+  }
+
+  public Integer getTotalBuckets() {
+    return totalBuckets;
+  }
+
+  public void setTotalBuckets(Integer totalBuckets) {
+    this.totalBuckets = totalBuckets;
+  }
+
+  public Integer getRedundantCopies() {
+    return redundantCopies;
+  }
+
+  public void setRedundantCopies(Integer redundantCopies) {
+    this.redundantCopies = redundantCopies;
+  }
+
+  public Long getRecoveryDelay() {
+    return recoveryDelay;
+  }
+
+  public void setRecoveryDelay(Long recoveryDelay) {
+    this.recoveryDelay = recoveryDelay;
+  }
+
+  public Long getStartupRecoveryDelay() {
+    return startupRecoveryDelay;
+  }
+
+  public void setStartupRecoveryDelay(Long startupRecoveryDelay) {
+    this.startupRecoveryDelay = startupRecoveryDelay;
+  }
+
+  public Integer getLocalMaxMemory() {
+    return localMaxMemory;
+  }
+
+  public void setLocalMaxMemory(Integer localMaxMemory) {
+    this.localMaxMemory = localMaxMemory;
+  }
+
+  public Eviction getEviction() {
+    return eviction;
+  }
+
+  public void setEviction(Eviction eviction) {
+    this.eviction = eviction;
+  }
+
+  public Expiration getExpiration() {
+    return expiration;
+  }
+
+  public void setExpiration(Expiration expiration) {
+    this.expiration = expiration;
+  }
+
+  public Boolean getOffHeap() {
+    return offHeap;
+  }
+
+  public void setOffHeap(Boolean offHeap) {
+    this.offHeap = offHeap;
+  }
+
+  public String getDiskStoreName() {
+    return diskStoreName;
+  }
+
+  public void setDiskStoreName(String diskStoreName) {
+    this.diskStoreName = diskStoreName;
+  }
+
+  public Boolean getDiskSynchronous() {
+    return diskSynchronous;
+  }
+
+  public void setDiskSynchronous(Boolean diskSynchronous) {
+    this.diskSynchronous = diskSynchronous;
+  }
+
+  public Integer getConcurrencyLevel() {
+    return concurrencyLevel;
+  }
+
+  public void setConcurrencyLevel(Integer concurrencyLevel) {
+    this.concurrencyLevel = concurrencyLevel;
+  }
+
+  public Integer getInitialCapacity() {
+    return initialCapacity;
+  }
+
+  public void setInitialCapacity(Integer initialCapacity) {
+    this.initialCapacity = initialCapacity;
+  }
+
+  public List<String> getGroups() {
+    return groups;
+  }
+
+  public void setGroups(List<String> groups) {
+    this.groups = groups;
+  }
+
+  /**
+   * LRU eviction settings.
+   */
+  public static class Eviction {
+
+    /**
+     * ENTRY_COUNT, HEAP or MEMORY.
+     */
+    private String type;
+
+    /**
+     * Maximum entries (ENTRY_COUNT) or megabytes (MEMORY); ignored for HEAP.
+     */
+    private Integer maximum;
+
+    /**
+     * LOCAL_DESTROY or OVERFLOW_TO_DISK (default: LOCAL_DESTROY).
+     */
+    private String action;
+
+    public String getType() {
+      return type;
+    }
+
+    public void setType(String type) {
+      this.type = type;
+    }
+
+    public Integer getMaximum() {
+      return maximum;
+    }
+
+    public void setMaximum(Integer maximum) {
+      this.maximum = maximum;
+    }
+
+    public String getAction() {
+      return action;
+    }
+
+    public void setAction(String action) {
+      this.action = action;
+    }
+  }
+
+  /**
+   * Entry expiration settings, in seconds.
+   */
+  public static class Expiration {
+
+    private Integer idleTimeout;
+
+    private Integer timeToLive;
+
+    /**
+     * DESTROY or INVALIDATE (default: DESTROY).
+     */
+    private String action;
+
+    public Integer getIdleTimeout() {
+      return idleTimeout;
+    }
+
+    public void setIdleTimeout(Integer idleTimeout) {
+      this.idleTimeout = idleTimeout;
+    }
+
+    public Integer getTimeToLive() {
+      return timeToLive;
+    }
+
+    public void setTimeToLive(Integer timeToLive) {
+      this.timeToLive = timeToLive;
+    }
+
+    public String getAction() {
+      return action;
+    }
+
+    public void setAction(String action) {
+      this.action = action;
+    }
+  }
+}
@@ -0,0 +1,165 @@
+package com.nick.geode.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.apache.geode.StatisticDescriptor;
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsFactory;
+import org.apache.geode.StatisticsType;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Publishes Geode's internal statistics (cache, partitioned region, disk store, pool, VM, GC,
+ * ...) as Micrometer meters named {@code geode.stats.<type>.<statistic>}, tagged with the
+ * statistics {@code instance} and its unique {@code id}, since several instances of a type
+ * can share a text id. Counter statistics become function counters, all others gauges; values
+ * are read live from Geode when the registry is scraped.
+ *
+ * Geode creates statistics instances as regions, disk stores and pools come and go, so the
+ * configured types are looked up periodically: new instances are bound and closed ones removed.
+ * Used by the locator and the data servers.
+ */
+public class GeodeStatisticsMetrics implements SmartLifecycle {
+
+  private final MeterRegistry meterRegistry;
+  private final Supplier<StatisticsFactory> statisticsFactory;
+  private final Set<String> types;
+  private final Duration refreshInterval;
+  private final Map<Long, List<Meter>> boundMeters = new ConcurrentHashMap<>();
+
+  private ScheduledExecutorService scheduler;
+
+  /**
+   * @param statisticsFactory the member's distributed system, or null while it is not running
+   * @param types statistics type names to publish, for example CachePerfStats
+   */
+  public GeodeStatisticsMetrics(MeterRegistry meterRegistry,
+                                Supplier<StatisticsFactory> statisticsFactory,
+                                Collection<String> types, Duration refreshInterval) {
+    this.meterRegistry = meterRegistry;
+    this.statisticsFactory = statisticsFactory;
+    this.types = new HashSet<>(types);
+    this.refreshInterval = refreshInterval;
+  }
+
+  /**
+   * Bind meters for new statistics instances and remove those of closed ones.
+   */
+  public void refresh() {
+    StatisticsFactory factory = statisticsFactory.get();
+    if (factory == null) {
+      return;
+    }
+
+    Set<Long> live = new HashSet<>();
+    for (String typeName : types) {
+      // Types are registered when the first instance is created, e.g. with the first region
+      StatisticsType type = factory.findType(typeName);
+      if (type == null) {
+        continue;
+      }
+      for (Statistics statistics : factory.findStatisticsByType(type)) {
+        if (statistics.isClosed()) {
+          continue;
+        }
+        live.add(statistics.getUniqueId());
+        boundMeters.computeIfAbsent(statistics.getUniqueId(), id -> bind(statistics));
+      }
+    }
+
+    boundMeters.keySet().removeIf(id -> {
+      if (live.contains(id)) {
+        return false;
+      }
+      boundMeters.get(id).forEach(meterRegistry::remove);
+      return true;
+    });
+  }
+
+  private List<Meter> bind(Statistics statistics) {
+    String type = statistics.getType().getName();
+    Tags tags = Tags.of(
+        "instance", statistics.getTextId() != null ? statistics.getTextId() : type,
+        "id", String.valueOf(statistics.getUniqueId()));
+
+    List<Meter> meters = new ArrayList<>();
+    for (StatisticDescriptor descriptor : statistics.getType().getStatistics()) {
+      String name = "geode.stats." + type + "." + descriptor.getName();
+      if (descriptor.isCounter()) {
+        meters.add(FunctionCounter.builder(name, statistics, s -> value(s, descriptor))
+            .description(descriptor.getDescription())
+            .baseUnit(descriptor.getUnit())
+            .tags(tags)
+            .register(meterRegistry));
+      } else {
+        meters.add(Gauge.builder(name, statistics, s -> value(s, descriptor))
+            .description(descriptor.getDescription())
+            .baseUnit(descriptor.getUnit())
+            .tags(tags)
+            .register(meterRegistry));
+      }
+    }
+    return meters;
+  }
+
+  private double value(Statistics statistics, StatisticDescriptor descriptor) {
+    if (statistics.isClosed()) {
+      return Double.NaN;
+    }
+    Number value = statistics.get(descriptor);
+    return value != null ? value.doubleValue() : Double.NaN;
+  }
+
+  @Override
+  public void start() {
+    scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("geode-stats-metrics").daemon().factory());
+    scheduler.scheduleWithFixedDelay(this::refreshQuietly, 0, refreshInterval.toMillis(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  private void refreshQuietly() {
+    try {
+      refresh();
+    } catch (Exception e) {
+      // Member shutting down or not started; the next run retries
+    }
+  }
+
+  @Override
+  public void stop() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+      scheduler = null;
+    }
+    boundMeters.values().forEach(meters -> meters.forEach(meterRegistry::remove));
+    boundMeters.clear();
+  }
+
+  @Override
+  public boolean isRunning() {
+    return scheduler != null;
+  }
+
+  @Override
+  public int getPhase() {
+    // After the embedded member has started
+    return Integer.MIN_VALUE + 10;
+  }
+}
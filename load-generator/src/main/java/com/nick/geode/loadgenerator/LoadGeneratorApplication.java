@@ -0,0 +1,13 @@
+package com.nick.geode.loadgenerator;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class LoadGeneratorApplication {
+
+  public static void main(String[] args) {
+    // The run happens in LoadRunner during startup; exit once it has finished
+    System.exit(SpringApplication.exit(SpringApplication.run(LoadGeneratorApplication.class, args)));
+  }
+}
@@ -0,0 +1,26 @@
+package com.nick.geode.loadgenerator.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableConfigurationProperties(LoadGeneratorProperties.class)
+public class LoadGeneratorConfiguration {
+
+  /**
+   * HTTP/1.1 client on virtual threads, so each in-flight request can block its own thread.
+   */
+  @Bean
+  public HttpClient httpClient() {
+    return HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build();
+  }
+}
@@ -0,0 +1,275 @@
+package com.nick.geode.loadgenerator.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties of a load generator run against the data browser REST API.
+ */
+@ConfigurationProperties(prefix = "geode.load")
+public class LoadGeneratorProperties {
+
+  /**
+   * Base URL of the data browser under test.
+   */
+  private String baseUrl = "http://localhost:8081";
+
+  /**
+   * Region the load is run against; created when it does not exist.
+   */
+  private String region = "load-test";
+
+  /**
+   * Region type used when the region has to be created.
+   */
+  private String regionType = "PARTITION";
+
+  /**
+   * Target request rate in requests per second, independent of response times.
+   */
+  private double rate = 500;
+
+  /**
+   * How request start times are spaced.
+   */
+  private Arrival arrival = Arrival.CONSTANT;
+
+  /**
+   * Time at the start of the run whose requests are sent but not recorded.
+   */
+  private Duration warmup = Duration.ofSeconds(10);
+
+  /**
+   * Measured time after the warmup.
+   */
+  private Duration duration = Duration.ofSeconds(60);
+
+  /**
+   * Number of distinct keys, named key-0 to key-(n-1).
+   */
+  private int keyCount = 100000;
+
+  /**
+   * How keys are chosen for each request.
+   */
+  private KeyDistribution keyDistribution = KeyDistribution.UNIFORM;
+
+  /**
+   * Skew of the ZIPFIAN distribution, between 0 and 1 exclusive; higher is more skewed.
+   */
+  private double zipfianExponent = 0.99;
+
+  /**
+   * Fraction of data requests that are reads (GET); the rest are writes (POST).
+   */
+  private double readRatio = 0.9;
+
+  /**
+   * Fraction of all requests that read region metadata (GET /api/regions/{region}).
+   */
+  private double regionRatio = 0.0;
+
+  /**
+   * Approximate size in bytes of the JSON values written.
+   */
+  private int valueSize = 1024;
+
+  /**
+   * Write every key once before the run, so reads do not miss.
+   */
+  private boolean preload = true;
+
+  /**
+   * Maximum concurrent requests. When reached, new requests wait, and the wait counts
+   * towards their response time.
+   */
+  private int maxInFlight = 2000;
+
+  /**
+   * Timeout of a single request; timed-out requests count as errors.
+   */
+  private Duration requestTimeout = Duration.ofSeconds(10);
+
+  /**
+   * Directory the run summary is written to.
+   */
+  private String resultsDir = "target/load-results";
+
+  /**
+   * Optional label added to the summary file name and contents.
+   */
+  private String label = "";
+
+  public String getBaseUrl() {
+    return baseUrl;
+  }
+
+  public void setBaseUrl(String baseUrl) {
+    this.baseUrl = baseUrl;
+  }
+
+  public String getRegion() {
+    return region;
+  }
+
+  public void setRegion(String region) {
+    this.region = region;
+  }
+
+  public String getRegionType() {
+    return regionType;
+  }
+
+  public void setRegionType(String regionType) {
+    this.regionType = regionType;
+  }
+
+  public double getRate() {
+    return rate;
+  }
+
+  public void setRate(double rate) {
+    this.rate = rate;
+  }
+
+  public Arrival getArrival() {
+    return arrival;
+  }
+
+  public void setArrival(Arrival arrival) {
+    this.arrival = arrival;
+  }
+
+  public Duration getWarmup() {
+    return warmup;
+  }
+
+  public void setWarmup(Duration warmup) {
+    this.warmup = warmup;
+  }
+
+  public Duration getDuration() {
+    return duration;
+  }
+
+  public void setDuration(Duration duration) {
+    this.duration = duration;
+  }
+
+  public int getKeyCount() {
+    return keyCount;
+  }
+
+  public void setKeyCount(int keyCount) {
+    this.keyCount = keyCount;
+  }
+
+  public KeyDistribution getKeyDistribution() {
+    return keyDistribution;
+  }
+
+  public void setKeyDistribution(KeyDistribution keyDistribution) {
+    this.keyDistribution = keyDistribution;
+  }
+
+  public double getZipfianExponent() {
+    return zipfianExponent;
+  }
+
+  public void setZipfianExponent(double zipfianExponent) {
+    this.zipfianExponent = zipfianExponent;
+  }
+
+  public double getReadRatio() {
+    return readRatio;
+  }
+
+  public void setReadRatio(double readRatio) {
+    this.readRatio = readRatio;
+  }
+
+  public double getRegionRatio() {
+    return regionRatio;
+  }
+
+  public void setRegionRatio(double regionRatio) {
+    this.regionRatio = regionRatio;
+  }
+
+  public int getValueSize() {
+    return valueSize;
+  }
+
+  public void setValueSize(int valueSize) {
+    this.valueSize = valueSize;
+  }
+
+  public boolean isPreload() {
+    return preload;
+  }
+
+  public void setPreload(boolean preload) {
+    this.preload = preload;
+  }
+
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  public void setMaxInFlight(int maxInFlight) {
+    this.maxInFlight = maxInFlight;
+  }
+
+  public Duration getRequestTimeout() {
+    return requestTimeout;
+  }
+
+  public void setRequestTimeout(Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+  }
+
+  public String getResultsDir() {
+    return resultsDir;
+  }
+
+  public void setResultsDir(String resultsDir) {
+    this.resultsDir = resultsDir;
+  }
+
+  public String getLabel() {
+    return label;
+  }
+
+  public void setLabel(String label) {
+    this.label = label;
+  }
+
+  /**
+   * Spacing of request start times.
+   */
+  public enum Arrival {
+    /**
+     * Evenly spaced, one request every 1/rate seconds.
+     */
+    CONSTANT,
+    /**
+     * Exponentially distributed gaps averaging 1/rate seconds, like independent callers.
+     */
+    POISSON
+  }
+
+  /**
+   * Distribution of the keys requests are made for.
+   */
+  public enum KeyDistribution {
+    /**
+     * Every key equally likely.
+     */
+    UNIFORM,
+    /**
+     * A few hot keys take most requests; low-numbered keys are the hottest.
+     */
+    ZIPFIAN
+  }
+}
@@ -0,0 +1,158 @@
+package com.nick.geode.loadgenerator.load;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nick.geode.loadgenerator.config.LoadGeneratorProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Calls the data browser REST API: region setup, preloading, and the measured requests.
+ */
+@Component
+public class DataBrowserClient {
+
+  private static final int PRELOAD_BATCH_SIZE = 500;
+  private static final int VALUE_POOL_SIZE = 64;
+  private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz0123456789";
+
+  private final HttpClient httpClient;
+  private final ObjectMapper objectMapper;
+  private final LoadGeneratorProperties properties;
+  private final String regionPath;
+  private final byte[][] values;
+
+  @Autowired
+  public DataBrowserClient(HttpClient httpClient, ObjectMapper objectMapper,
+                           LoadGeneratorProperties properties) {
+    this.httpClient = httpClient;
+    this.objectMapper = objectMapper;
+    this.properties = properties;
+    this.regionPath = URLEncoder.encode(properties.getRegion(), StandardCharsets.UTF_8);
+    this.values = new byte[VALUE_POOL_SIZE][];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = buildValue(i, properties.getValueSize());
+    }
+  }
+
+  /**
+   * Create the region through the browser unless it already exists.
+   */
+  public void ensureRegion() throws IOException, InterruptedException {
+    HttpResponse<byte[]> names = send(HttpRequest.newBuilder(uri("/api/regions")).GET());
+    List<String> regions = objectMapper.readValue(names.body(), new TypeReference<>() {
+    });
+    if (regions.contains(properties.getRegion())) {
+      return;
+    }
+
+    HttpResponse<byte[]> created = send(HttpRequest.newBuilder(
+            uri("/api/regions/" + regionPath + "?type=" + properties.getRegionType()))
+        .POST(HttpRequest.BodyPublishers.noBody()));
+    if (created.statusCode() != 201) {
+      throw new IllegalStateException("Failed to create region " + properties.getRegion()
+          + ": " + new String(created.body(), StandardCharsets.UTF_8));
+    }
+  }
+
+  /**
+   * Write every key once through the batch endpoint.
+   */
+  public void preload() throws IOException, InterruptedException {
+    for (int start = 0; start < properties.getKeyCount(); start += PRELOAD_BATCH_SIZE) {
+      int end = Math.min(start + PRELOAD_BATCH_SIZE, properties.getKeyCount());
+      ByteArrayOutputStream batch = new ByteArrayOutputStream();
+      batch.write('{');
+      for (int i = start; i < end; i++) {
+        if (i > start) {
+          batch.write(',');
+        }
+        batch.write(("\"" + key(i) + "\":").getBytes(StandardCharsets.UTF_8));
+        batch.write(value(i));
+      }
+      batch.write('}');
+
+      HttpResponse<byte[]> response = send(HttpRequest.newBuilder(
+              uri("/api/data/" + regionPath + "/batch/put"))
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofByteArray(batch.toByteArray())));
+      if (!succeeded(response)) {
+        throw new IllegalStateException("Preload failed: "
+            + new String(response.body(), StandardCharsets.UTF_8));
+      }
+    }
+  }
+
+  /**
+   * Send one measured request and report whether it succeeded.
+   */
+  public boolean execute(Operation operation, int keyIndex)
+      throws IOException, InterruptedException {
+    HttpRequest.Builder request = switch (operation) {
+      case READ -> HttpRequest.newBuilder(uri("/api/data/" + regionPath + "/" + key(keyIndex)))
+          .GET();
+      case WRITE -> HttpRequest.newBuilder(uri("/api/data/" + regionPath + "/" + key(keyIndex)))
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofByteArray(value(keyIndex)));
+      case REGION -> HttpRequest.newBuilder(uri("/api/regions/" + regionPath)).GET();
+    };
+    return succeeded(send(request));
+  }
+
+  private HttpResponse<byte[]> send(HttpRequest.Builder request)
+      throws IOException, InterruptedException {
+    return httpClient.send(request.timeout(properties.getRequestTimeout()).build(),
+        HttpResponse.BodyHandlers.ofByteArray());
+  }
+
+  /**
+   * A 2xx status whose body does not report {@code "success": false}; the data endpoints
+   * answer 200 for failed operations and carry the outcome in the body.
+   */
+  private boolean succeeded(HttpResponse<byte[]> response) {
+    if (response.statusCode() < 200 || response.statusCode() >= 300) {
+      return false;
+    }
+    String body = new String(response.body(), StandardCharsets.UTF_8);
+    return !body.contains("\"success\":false");
+  }
+
+  private URI uri(String path) {
+    return URI.create(properties.getBaseUrl() + path);
+  }
+
+  private static String key(int index) {
+    return "key-" + index;
+  }
+
+  private byte[] value(int index) {
+    return values[index % values.length];
+  }
+
+  /**
+   * A JSON object of roughly {@code size} bytes. The payload is alphanumeric, so the JSON is
+   * built directly.
+   */
+  private static byte[] buildValue(int id, int size) {
+    Random random = new Random(id);
+    StringBuilder json = new StringBuilder(size + 64)
+        .append("{\"id\":").append(id)
+        .append(",\"name\":\"value-").append(id)
+        .append("\",\"payload\":\"");
+    for (int i = 0; i < size; i++) {
+      json.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+    }
+    return json.append("\"}").toString().getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,68 @@
+package com.nick.geode.loadgenerator.load;
+
+import com.nick.geode.loadgenerator.config.LoadGeneratorProperties;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks key indexes with a uniform or Zipfian distribution.
+ *
+ * <p>The Zipfian sampler is the rejection-free method of Gray et al., "Quickly Generating
+ * Billion-Record Synthetic Databases", as used by YCSB. Index 0 is the most popular key.
+ */
+final class KeySelector {
+
+  private final int keyCount;
+  private final boolean zipfian;
+  private final double theta;
+  private final double zetan;
+  private final double alpha;
+  private final double eta;
+
+  KeySelector(LoadGeneratorProperties properties) {
+    this.keyCount = properties.getKeyCount();
+    this.zipfian =
+        properties.getKeyDistribution() == LoadGeneratorProperties.KeyDistribution.ZIPFIAN;
+    this.theta = properties.getZipfianExponent();
+    if (zipfian && (theta <= 0 || theta >= 1)) {
+      throw new IllegalArgumentException("zipfian-exponent must be between 0 and 1 exclusive");
+    }
+
+    if (zipfian) {
+      double zeta2 = zeta(2, theta);
+      zetan = zeta(keyCount, theta);
+      alpha = 1.0 / (1.0 - theta);
+      eta = (1 - Math.pow(2.0 / keyCount, 1 - theta)) / (1 - zeta2 / zetan);
+    } else {
+      zetan = 0;
+      alpha = 0;
+      eta = 0;
+    }
+  }
+
+  int next() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    if (!zipfian) {
+      return random.nextInt(keyCount);
+    }
+
+    double u = random.nextDouble();
+    double uz = u * zetan;
+    if (uz < 1.0) {
+      return 0;
+    }
+    if (uz < 1.0 + Math.pow(0.5, theta)) {
+      return 1;
+    }
+    int index = (int) (keyCount * Math.pow(eta * u - eta + 1, alpha));
+    return Math.min(index, keyCount - 1);
+  }
+
+  private static double zeta(long n, double theta) {
+    double sum = 0;
+    for (long i = 1; i <= n; i++) {
+      sum += 1 / Math.pow(i, theta);
+    }
+    return sum;
+  }
+}
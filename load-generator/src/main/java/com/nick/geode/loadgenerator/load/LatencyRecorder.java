@@ -0,0 +1,74 @@
+package com.nick.geode.loadgenerator.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-operation latency histograms in microseconds, safe for concurrent recording.
+ *
+ * <p>Response time is measured from the time a request was scheduled to start, so time spent
+ * waiting behind slow requests is included; this is what corrects for coordinated omission.
+ * Service time is measured from the time the request was actually sent.
+ */
+final class LatencyRecorder {
+
+  private static final int SIGNIFICANT_DIGITS = 3;
+
+  private final Map<Operation, Histogram> responseTimes = new EnumMap<>(Operation.class);
+  private final Map<Operation, Histogram> serviceTimes = new EnumMap<>(Operation.class);
+  private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+  LatencyRecorder() {
+    for (Operation operation : Operation.values()) {
+      responseTimes.put(operation, new ConcurrentHistogram(SIGNIFICANT_DIGITS));
+      serviceTimes.put(operation, new ConcurrentHistogram(SIGNIFICANT_DIGITS));
+      errors.put(operation, new LongAdder());
+    }
+  }
+
+  void record(Operation operation, long scheduledNanos, long sentNanos, long completedNanos,
+              boolean success) {
+    responseTimes.get(operation).recordValue(toMicros(completedNanos - scheduledNanos));
+    serviceTimes.get(operation).recordValue(toMicros(completedNanos - sentNanos));
+    if (!success) {
+      errors.get(operation).increment();
+    }
+  }
+
+  Histogram responseTime(Operation operation) {
+    return responseTimes.get(operation);
+  }
+
+  Histogram serviceTime(Operation operation) {
+    return serviceTimes.get(operation);
+  }
+
+  long errors(Operation operation) {
+    return errors.get(operation).sum();
+  }
+
+  /**
+   * Response times of all operations together.
+   */
+  Histogram totalResponseTime() {
+    return total(responseTimes);
+  }
+
+  Histogram totalServiceTime() {
+    return total(serviceTimes);
+  }
+
+  private static Histogram total(Map<Operation, Histogram> histograms) {
+    Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+    histograms.values().forEach(total::add);
+    return total;
+  }
+
+  private static long toMicros(long nanos) {
+    return Math.max(1, nanos / 1000);
+  }
+}
@@ -0,0 +1,145 @@
+package com.nick.geode.loadgenerator.load;
+
+import com.nick.geode.loadgenerator.config.LoadGeneratorProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load run: requests start on a fixed schedule derived from the target rate,
+ * whether or not earlier requests have completed, and latency is measured from each
+ * request's scheduled start.
+ */
+@Component
+public class LoadRunner implements ApplicationRunner {
+
+  private final DataBrowserClient client;
+  private final RunSummaryWriter summaryWriter;
+  private final LoadGeneratorProperties properties;
+
+  @Autowired
+  public LoadRunner(DataBrowserClient client, RunSummaryWriter summaryWriter,
+                    LoadGeneratorProperties properties) {
+    this.client = client;
+    this.summaryWriter = summaryWriter;
+    this.properties = properties;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) throws Exception {
+    validate();
+    KeySelector keys = new KeySelector(properties);
+
+    client.ensureRegion();
+    if (properties.isPreload()) {
+      System.out.println("Preloading " + properties.getKeyCount() + " keys into "
+          + properties.getRegion());
+      client.preload();
+    }
+
+    System.out.println("Running at " + properties.getRate() + " req/s for "
+        + properties.getWarmup() + " warmup + " + properties.getDuration());
+    Instant startedAt = Instant.now();
+    LatencyRecorder recorder = new LatencyRecorder();
+    AtomicLong failures = new AtomicLong();
+    long maxLagNanos = schedule(keys, recorder, failures);
+
+    Path summary = summaryWriter.write(startedAt, recorder, failures.get(), maxLagNanos);
+    System.out.println("Summary written to " + summary.toAbsolutePath());
+  }
+
+  /**
+   * Issue requests at their scheduled times until the run ends, then wait for the requests
+   * still in flight.
+   *
+   * @return the largest delay between a request's scheduled and actual start
+   */
+  private long schedule(KeySelector keys, LatencyRecorder recorder, AtomicLong failures)
+      throws InterruptedException {
+    double meanIntervalNanos = 1_000_000_000d / properties.getRate();
+    Semaphore inFlight = new Semaphore(properties.getMaxInFlight());
+
+    long start = System.nanoTime();
+    long measureFrom = start + properties.getWarmup().toNanos();
+    long end = measureFrom + properties.getDuration().toNanos();
+    long maxLagNanos = 0;
+    double offset = 0;
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      while (start + (long) offset < end) {
+        long scheduledNanos = start + (long) offset;
+        long now;
+        while ((now = System.nanoTime()) < scheduledNanos) {
+          LockSupport.parkNanos(scheduledNanos - now);
+        }
+        // Waiting here delays the send, not the schedule, so it shows up as response time
+        inFlight.acquire();
+        maxLagNanos = Math.max(maxLagNanos, System.nanoTime() - scheduledNanos);
+
+        Operation operation = nextOperation();
+        int key = keys.next();
+        boolean measured = scheduledNanos >= measureFrom;
+        executor.execute(() -> {
+          long sent = System.nanoTime();
+          boolean success = false;
+          try {
+            success = client.execute(operation, key);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          } catch (Exception e) {
+            // Connection errors and timeouts; recorded as failed requests below
+            if (measured) {
+              failures.incrementAndGet();
+            }
+          } finally {
+            if (measured) {
+              recorder.record(operation, scheduledNanos, sent, System.nanoTime(), success);
+            }
+            inFlight.release();
+          }
+        });
+
+        offset += nextInterval(meanIntervalNanos);
+      }
+    }
+    return maxLagNanos;
+  }
+
+  private Operation nextOperation() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    if (random.nextDouble() < properties.getRegionRatio()) {
+      return Operation.REGION;
+    }
+    return random.nextDouble() < properties.getReadRatio() ? Operation.READ : Operation.WRITE;
+  }
+
+  private double nextInterval(double meanIntervalNanos) {
+    if (properties.getArrival() == LoadGeneratorProperties.Arrival.POISSON) {
+      return -Math.log(1 - ThreadLocalRandom.current().nextDouble()) * meanIntervalNanos;
+    }
+    return meanIntervalNanos;
+  }
+
+  private void validate() {
+    if (properties.getRate() <= 0) {
+      throw new IllegalArgumentException("rate must be positive");
+    }
+    if (properties.getKeyCount() <= 0) {
+      throw new IllegalArgumentException("key-count must be positive");
+    }
+    if (properties.getReadRatio() < 0 || properties.getReadRatio() > 1
+        || properties.getRegionRatio() < 0 || properties.getRegionRatio() > 1) {
+      throw new IllegalArgumentException("read-ratio and region-ratio must be between 0 and 1");
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package com.nick.geode.loadgenerator.load;
+
+/**
+ * Kinds of request sent to the data browser.
+ */
+public enum Operation {
+  /**
+   * GET /api/data/{region}/{key}
+   */
+  READ,
+  /**
+   * POST /api/data/{region}/{key}
+   */
+  WRITE,
+  /**
+   * GET /api/regions/{region}
+   */
+  REGION
+}
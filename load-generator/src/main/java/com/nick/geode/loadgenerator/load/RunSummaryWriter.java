@@ -0,0 +1,126 @@
+package com.nick.geode.loadgenerator.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nick.geode.loadgenerator.config.LoadGeneratorProperties;
+import org.HdrHistogram.Histogram;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes the summary of a run as JSON, with the same layout for every run so runs can be
+ * compared, plus the full response-time distribution in HdrHistogram's .hgrm text format.
+ */
+@Component
+public class RunSummaryWriter {
+
+  private static final DateTimeFormatter FILE_TIMESTAMP =
+      DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneId.systemDefault());
+  private static final double MICROS_PER_MILLI = 1000.0;
+
+  private final ObjectMapper objectMapper;
+  private final LoadGeneratorProperties properties;
+
+  @Autowired
+  public RunSummaryWriter(ObjectMapper objectMapper, LoadGeneratorProperties properties) {
+    this.objectMapper = objectMapper;
+    this.properties = properties;
+  }
+
+  /**
+   * Write {@code <timestamp>[-label].json} and {@code .hgrm} to the results directory.
+   *
+   * @return the path of the JSON summary
+   */
+  Path write(Instant startedAt, LatencyRecorder recorder, long exceptions, long maxLagNanos)
+      throws IOException {
+    Path directory = Paths.get(properties.getResultsDir());
+    Files.createDirectories(directory);
+    String name = FILE_TIMESTAMP.format(startedAt)
+        + (properties.getLabel().isBlank() ? "" : "-" + properties.getLabel());
+
+    Histogram responseTime = recorder.totalResponseTime();
+    Histogram serviceTime = recorder.totalServiceTime();
+    long errors = 0;
+    Map<String, Object> operations = new LinkedHashMap<>();
+    for (Operation operation : Operation.values()) {
+      Histogram histogram = recorder.responseTime(operation);
+      if (histogram.getTotalCount() == 0) {
+        continue;
+      }
+      Map<String, Object> summary = new LinkedHashMap<>();
+      summary.put("requests", histogram.getTotalCount());
+      summary.put("errors", recorder.errors(operation));
+      summary.put("responseTimeMs", percentiles(histogram));
+      summary.put("serviceTimeMs", percentiles(recorder.serviceTime(operation)));
+      operations.put(operation.name().toLowerCase(), summary);
+      errors += recorder.errors(operation);
+    }
+
+    double seconds = properties.getDuration().toNanos() / 1e9;
+    Map<String, Object> summary = new LinkedHashMap<>();
+    summary.put("label", properties.getLabel());
+    summary.put("startedAt", startedAt.toString());
+    summary.put("settings", settings());
+    summary.put("requests", responseTime.getTotalCount());
+    summary.put("errors", errors);
+    summary.put("exceptions", exceptions);
+    summary.put("targetRate", properties.getRate());
+    summary.put("achievedRate", responseTime.getTotalCount() / seconds);
+    summary.put("maxSchedulingLagMs", maxLagNanos / 1e6);
+    summary.put("responseTimeMs", percentiles(responseTime));
+    summary.put("serviceTimeMs", percentiles(serviceTime));
+    summary.put("operations", operations);
+
+    Path json = directory.resolve(name + ".json");
+    objectMapper.writerWithDefaultPrettyPrinter().writeValue(json.toFile(), summary);
+    try (PrintStream out = new PrintStream(directory.resolve(name + ".hgrm").toFile())) {
+      responseTime.outputPercentileDistribution(out, MICROS_PER_MILLI);
+    }
+    return json;
+  }
+
+  private Map<String, Object> settings() {
+    Map<String, Object> settings = new LinkedHashMap<>();
+    settings.put("baseUrl", properties.getBaseUrl());
+    settings.put("region", properties.getRegion());
+    settings.put("rate", properties.getRate());
+    settings.put("arrival", properties.getArrival());
+    settings.put("warmup", properties.getWarmup().toString());
+    settings.put("duration", properties.getDuration().toString());
+    settings.put("keyCount", properties.getKeyCount());
+    settings.put("keyDistribution", properties.getKeyDistribution());
+    settings.put("zipfianExponent", properties.getZipfianExponent());
+    settings.put("readRatio", properties.getReadRatio());
+    settings.put("regionRatio", properties.getRegionRatio());
+    settings.put("valueSize", properties.getValueSize());
+    settings.put("maxInFlight", properties.getMaxInFlight());
+    return settings;
+  }
+
+  private Map<String, Object> percentiles(Histogram histogram) {
+    Map<String, Object> percentiles = new LinkedHashMap<>();
+    percentiles.put("mean", histogram.getMean() / MICROS_PER_MILLI);
+    percentiles.put("p50", millis(histogram, 50));
+    percentiles.put("p90", millis(histogram, 90));
+    percentiles.put("p99", millis(histogram, 99));
+    percentiles.put("p99.9", millis(histogram, 99.9));
+    percentiles.put("p99.99", millis(histogram, 99.99));
+    percentiles.put("max", histogram.getMaxValue() / MICROS_PER_MILLI);
+    return percentiles;
+  }
+
+  private double millis(Histogram histogram, double percentile) {
+    return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+  }
+}
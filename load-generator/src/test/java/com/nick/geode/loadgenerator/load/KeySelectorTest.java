@@ -0,0 +1,75 @@
+package com.nick.geode.loadgenerator.load;
+
+import com.nick.geode.loadgenerator.config.LoadGeneratorProperties;
+import com.nick.geode.loadgenerator.config.LoadGeneratorProperties.KeyDistribution;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeySelectorTest {
+
+  private static final int SAMPLES = 200_000;
+
+  @Test
+  void uniformIndexesStayInBounds() {
+    KeySelector selector = selector(KeyDistribution.UNIFORM, 10, 0.99);
+
+    for (int i = 0; i < SAMPLES; i++) {
+      int index = selector.next();
+      assertTrue(index >= 0 && index < 10, "index out of bounds: " + index);
+    }
+  }
+
+  @Test
+  void zipfianIndexesStayInBounds() {
+    for (int keyCount : new int[] {1, 2, 3, 10, 1000}) {
+      for (double theta : new double[] {0.01, 0.5, 0.99}) {
+        KeySelector selector = selector(KeyDistribution.ZIPFIAN, keyCount, theta);
+        for (int i = 0; i < SAMPLES / 10; i++) {
+          int index = selector.next();
+          assertTrue(index >= 0 && index < keyCount,
+              "index out of bounds for " + keyCount + " keys and exponent " + theta + ": "
+                  + index);
+        }
+      }
+    }
+  }
+
+  @Test
+  void zipfianFavoursTheFirstKey() {
+    int keyCount = 100;
+    double theta = 0.99;
+    KeySelector selector = selector(KeyDistribution.ZIPFIAN, keyCount, theta);
+
+    int[] counts = new int[keyCount];
+    for (int i = 0; i < SAMPLES; i++) {
+      counts[selector.next()]++;
+    }
+
+    double zetan = 0;
+    for (int i = 1; i <= keyCount; i++) {
+      zetan += 1 / Math.pow(i, theta);
+    }
+    assertEquals(1 / zetan, (double) counts[0] / SAMPLES, 0.01);
+    assertTrue(counts[0] > counts[1] && counts[1] > counts[keyCount - 1]);
+  }
+
+  @Test
+  void rejectsExponentsOutsideTheOpenUnitInterval() {
+    assertThrows(IllegalArgumentException.class,
+        () -> selector(KeyDistribution.ZIPFIAN, 10, 0));
+    assertThrows(IllegalArgumentException.class,
+        () -> selector(KeyDistribution.ZIPFIAN, 10, 1));
+  }
+
+  private static KeySelector selector(KeyDistribution distribution, int keyCount,
+                                      double theta) {
+    LoadGeneratorProperties properties = new LoadGeneratorProperties();
+    properties.setKeyDistribution(distribution);
+    properties.setKeyCount(keyCount);
+    properties.setZipfianExponent(theta);
+    return new KeySelector(properties);
+  }
+}
@@ -1,5 +1,7 @@
 package com.nick.geode.locator.geode;
 
+import org.apache.geode.distributed.DistributedSystem;
+import org.apache.geode.distributed.Locator;
 import org.apache.geode.distributed.LocatorLauncher;
 import org.springframework.context.SmartLifecycle;
 
@@ -16,7 +18,7 @@ public class EmbeddedLocatorLifecycle implements SmartLifecycle {
   private final LocatorProperties properties;
   private final AtomicBoolean running = new AtomicBoolean(false);
 
-  private LocatorLauncher launcher;
+  private volatile LocatorLauncher launcher;
 
   public EmbeddedLocatorLifecycle(LocatorProperties properties) {
     this.properties = properties;
@@ -31,16 +33,64 @@ public class EmbeddedLocatorLifecycle implements SmartLifecycle {
       String workingDir = resolveWorkingDirectory(properties.getWorkingDir());
       ensureDirectoryExists(workingDir);
 
-      launcher = new LocatorLauncher.Builder()
+      LocatorLauncher.Builder builder = new LocatorLauncher.Builder()
           .setMemberName(properties.getMemberName())
           .setPort(properties.getPort())
           .setWorkingDirectory(workingDir)
-          .build();
+          // Geode's default, set so the property can turn it off. The service only holds what
+          // gfsh creates; regions created through the data servers' management API are kept by
+          // the data servers themselves
+          .set("enable-cluster-configuration",
+              String.valueOf(properties.isClusterConfiguration()));
+      configureStatistics(builder, workingDir);
+      configureJmxManager(builder);
+      launcher = builder.build();
 
       launcher.start();
     }
   }
 
+  /**
+   * Enables statistic sampling, which also feeds the metrics bridge, and the optional archive.
+   */
+  private void configureStatistics(LocatorLauncher.Builder builder, String workingDir) {
+    builder.set("statistic-sampling-enabled", "true");
+    builder.set("statistic-sample-rate",
+        String.valueOf(properties.getStatisticSampleRate().toMillis()));
+    String archiveFile = properties.getStatisticArchiveFile();
+    if (archiveFile != null && !archiveFile.isBlank()) {
+      builder.set("statistic-archive-file",
+          Paths.get(workingDir).resolve(archiveFile).toAbsolutePath().toString());
+      if (properties.getArchiveFileSizeLimit() > 0) {
+        builder.set("archive-file-size-limit",
+            String.valueOf(properties.getArchiveFileSizeLimit()));
+      }
+      if (properties.getArchiveDiskSpaceLimit() > 0) {
+        builder.set("archive-disk-space-limit",
+            String.valueOf(properties.getArchiveDiskSpaceLimit()));
+      }
+    }
+  }
+
+  /**
+   * Starts the JMX manager with the locator, so member metrics are available without gfsh
+   * connecting first. Geode's embedded HTTP service (Pulse, REST admin) stays off; this
+   * application's web server listens next to its default port 7070.
+   */
+  private void configureJmxManager(LocatorLauncher.Builder builder) {
+    builder.set("http-service-port", "0");
+    if (!properties.isJmxManager()) {
+      builder.set("jmx-manager", "false");
+      return;
+    }
+    builder.set("jmx-manager", "true");
+    builder.set("jmx-manager-start", "true");
+    builder.set("jmx-manager-port", String.valueOf(properties.getJmxManagerPort()));
+    builder.set("jmx-manager-bind-address", properties.getJmxManagerBindAddress());
+    builder.set("jmx-manager-update-rate",
+        String.valueOf(properties.getJmxManagerUpdateRate().toMillis()));
+  }
+
   /**
    * Resolves the working directory path. If the path is relative, it will be resolved
    * relative to the project root (where target directory exists).
@@ -92,6 +142,15 @@ public class EmbeddedLocatorLifecycle implements SmartLifecycle {
     }
   }
 
+  /**
+   * The locator's distributed system, or null while the locator is not running.
+   */
+  public DistributedSystem getDistributedSystem() {
+    LocatorLauncher current = launcher;
+    Locator locator = current != null ? current.getLocator() : null;
+    return locator != null ? locator.getDistributedSystem() : null;
+  }
+
   @Override
   public boolean isRunning() {
     return running.get();
@@ -1,5 +1,7 @@
 package com.nick.geode.locator.geode;
 
+import com.nick.geode.metrics.GeodeStatisticsMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,4 +14,12 @@ public class LocatorConfiguration {
   public EmbeddedLocatorLifecycle embeddedLocatorLifecycle(LocatorProperties properties) {
     return new EmbeddedLocatorLifecycle(properties);
   }
+
+  @Bean
+  public GeodeStatisticsMetrics geodeStatisticsMetrics(MeterRegistry meterRegistry,
+                                                       LocatorProperties properties,
+                                                       EmbeddedLocatorLifecycle lifecycle) {
+    return new GeodeStatisticsMetrics(meterRegistry, lifecycle::getDistributedSystem,
+        properties.getMetricsStatisticsTypes(), properties.getMetricsRefreshInterval());
+  }
 }
@@ -2,6 +2,10 @@ package com.nick.geode.locator.geode;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Configuration properties for running an embedded Apache Geode Locator.
  */
@@ -28,6 +32,70 @@ public class LocatorProperties {
    */
   private String workingDir = "target/locator";
 
+  /**
+   * Whether the locator runs the cluster configuration service (Geode's default), which keeps
+   * configuration created with gfsh, such as regions and deployed jars, under the working
+   * directory and hands it to members that start. Disk stores, regions and indexes created
+   * through the data servers' management API are not part of it: each data server saves them
+   * and takes them from its peers when it joins.
+   */
+  private boolean clusterConfiguration = true;
+
+  /**
+   * Whether the locator starts a JMX manager, which federates the MBeans of every member.
+   */
+  private boolean jmxManager = true;
+
+  /**
+   * RMI port of the JMX manager (0 allows no remote connections).
+   */
+  private int jmxManagerPort = 1099;
+
+  /**
+   * Address the JMX manager listens on. The manager does not authenticate connections unless
+   * a Geode security manager is configured, so only local clients can reach it by default;
+   * empty listens on every interface.
+   */
+  private String jmxManagerBindAddress = "localhost";
+
+  /**
+   * How often members push their MBean attributes to the JMX manager.
+   */
+  private Duration jmxManagerUpdateRate = Duration.ofSeconds(2);
+
+  /**
+   * Statistics archive file (.gfs) written by the sampler, relative to the working directory.
+   * Empty disables archiving.
+   */
+  private String statisticArchiveFile = "";
+
+  /**
+   * How often Geode samples its statistics (and writes them to the archive).
+   */
+  private Duration statisticSampleRate = Duration.ofSeconds(1);
+
+  /**
+   * Size in megabytes at which the statistics archive is rolled over (0 for no limit).
+   */
+  private int archiveFileSizeLimit = 0;
+
+  /**
+   * Megabytes all rolled statistics archives may use before the oldest are deleted
+   * (0 for no limit).
+   */
+  private int archiveDiskSpaceLimit = 0;
+
+  /**
+   * Geode statistics types published as metrics.
+   */
+  private List<String> metricsStatisticsTypes = new ArrayList<>(List.of(
+      "LocatorStats", "DistributionStats", "VMStats", "VMGCStats", "VMMemoryPoolStats"));
+
+  /**
+   * How often new Geode statistics instances (regions, disk stores, ...) are picked up as metrics.
+   */
+  private Duration metricsRefreshInterval = Duration.ofSeconds(30);
+
   public boolean isEnabled() {
     return enabled;
   }
@@ -59,4 +127,92 @@ public class LocatorProperties {
   public void setWorkingDir(String workingDir) {
     this.workingDir = workingDir;
   }
+
+  public boolean isClusterConfiguration() {
+    return clusterConfiguration;
+  }
+
+  public void setClusterConfiguration(boolean clusterConfiguration) {
+    this.clusterConfiguration = clusterConfiguration;
+  }
+
+  public boolean isJmxManager() {
+    return jmxManager;
+  }
+
+  public void setJmxManager(boolean jmxManager) {
+    this.jmxManager = jmxManager;
+  }
+
+  public int getJmxManagerPort() {
+    return jmxManagerPort;
+  }
+
+  public void setJmxManagerPort(int jmxManagerPort) {
+    this.jmxManagerPort = jmxManagerPort;
+  }
+
+  public String getJmxManagerBindAddress() {
+    return jmxManagerBindAddress;
+  }
+
+  public void setJmxManagerBindAddress(String jmxManagerBindAddress) {
+    this.jmxManagerBindAddress = jmxManagerBindAddress;
+  }
+
+  public Duration getJmxManagerUpdateRate() {
+    return jmxManagerUpdateRate;
+  }
+
+  public void setJmxManagerUpdateRate(Duration jmxManagerUpdateRate) {
+    this.jmxManagerUpdateRate = jmxManagerUpdateRate;
+  }
+
+  public String getStatisticArchiveFile() {
+    return statisticArchiveFile;
+  }
+
+  public void setStatisticArchiveFile(String statisticArchiveFile) {
+    this.statisticArchiveFile = statisticArchiveFile;
+  }
+
+  public Duration getStatisticSampleRate() {
+    return statisticSampleRate;
+  }
+
+  public void setStatisticSampleRate(Duration statisticSampleRate) {
+    this.statisticSampleRate = statisticSampleRate;
+  }
+
+  public int getArchiveFileSizeLimit() {
+    return archiveFileSizeLimit;
+  }
+
+  public void setArchiveFileSizeLimit(int archiveFileSizeLimit) {
+    this.archiveFileSizeLimit = archiveFileSizeLimit;
+  }
+
+  public int getArchiveDiskSpaceLimit() {
+    return archiveDiskSpaceLimit;
+  }
+
+  public void setArchiveDiskSpaceLimit(int archiveDiskSpaceLimit) {
+    this.archiveDiskSpaceLimit = archiveDiskSpaceLimit;
+  }
+
+  public List<String> getMetricsStatisticsTypes() {
+    return metricsStatisticsTypes;
+  }
+
+  public void setMetricsStatisticsTypes(List<String> metricsStatisticsTypes) {
+    this.metricsStatisticsTypes = metricsStatisticsTypes;
+  }
+
+  public Duration getMetricsRefreshInterval() {
+    return metricsRefreshInterval;
+  }
+
+  public void setMetricsRefreshInterval(Duration metricsRefreshInterval) {
+    this.metricsRefreshInterval = metricsRefreshInterval;
+  }
 }